@@ -1,9 +1,12 @@
 package com.github.renatinhah.backend_credit_simulator;
 
+import com.github.renatinhah.backend_credit_simulator.config.SimulationRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @SpringBootApplication
+@ImportRuntimeHints(SimulationRuntimeHints.class)
 public class BackendCreditSimulatorApplication {
 
 	public static void main(String[] args) {
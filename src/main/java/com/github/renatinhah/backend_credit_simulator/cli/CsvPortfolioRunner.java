@@ -0,0 +1,114 @@
+package com.github.renatinhah.backend_credit_simulator.cli;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.renatinhah.backend_credit_simulator.metrics.SimulationMetrics;
+import com.github.renatinhah.backend_credit_simulator.service.LoanSimulationBatchService;
+import com.github.renatinhah.backend_credit_simulator.service.LoanSimulationService;
+import com.github.renatinhah.backend_credit_simulator.service.RateTableService;
+import com.github.renatinhah.backend_credit_simulator.service.SimulationCoalescer;
+import com.github.renatinhah.backend_credit_simulator.service.SimulationResponseCache;
+import com.github.renatinhah.backend_credit_simulator.service.amortization.AmortizationCalculators;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Ressimula uma carteira em CSV local, fora do HTTP (ver {@link CsvPortfolioSimulation}).
+ * Ativado com {@code simulation.portfolio.input-file}; a saída vai para {@code simulation.portfolio.output-file}.
+ * <p>
+ * As cotações passam por uma instância própria do {@link LoanSimulationService}, com as mesmas calculadoras, a tabela
+ * de {@code simulation.portfolio.rate-table} no lugar da vigente (para simular outras taxas) e sem cache de respostas,
+ * coalescência ou ouvintes: a carteira não enche o cache nem aparece no histórico e no journal.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "simulation.portfolio.input-file")
+public class CsvPortfolioRunner implements ApplicationRunner {
+
+    private static final int IO_BUFFER_SIZE = 1 << 20;
+
+    private final Path input;
+    private final Path output;
+    private final String rateTable;
+    private final int parallelism;
+    private final int chunkSize;
+    private final Duration progressInterval;
+    private final char delimiter;
+    private final Clock clock;
+    private final AmortizationCalculators amortizationCalculators;
+    private final RateTableService rateTableService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    public CsvPortfolioRunner(@Value("${simulation.portfolio.input-file}") String input,
+                              @Value("${simulation.portfolio.output-file:}") String output,
+                              @Value("${simulation.portfolio.rate-table:}") String rateTable,
+                              @Value("${simulation.portfolio.parallelism:0}") int parallelism,
+                              @Value("${simulation.portfolio.chunk-size:65536}") int chunkSize,
+                              @Value("${simulation.portfolio.progress-interval:10s}") Duration progressInterval,
+                              @Value("${simulation.portfolio.delimiter:,}") char delimiter,
+                              Clock clock,
+                              AmortizationCalculators amortizationCalculators,
+                              RateTableService rateTableService,
+                              ObjectMapper objectMapper,
+                              Validator validator) {
+        this.input = Path.of(input);
+        this.output = Path.of(output.isBlank() ? input + ".out.csv" : output);
+        this.rateTable = rateTable;
+        this.parallelism = parallelism;
+        this.chunkSize = chunkSize;
+        this.progressInterval = progressInterval;
+        this.delimiter = delimiter;
+        this.clock = clock;
+        this.amortizationCalculators = amortizationCalculators;
+        this.rateTableService = rateTableService;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        RateTableService rates = rateTable.isBlank()
+                ? rateTableService
+                : new RateTableService(rateTable, objectMapper, event -> { });
+        LoanSimulationService loanSimulationService = new LoanSimulationService(clock, amortizationCalculators, rates,
+                new SimulationMetrics(new SimpleMeterRegistry()),
+                new SimulationResponseCache(false, 0, Duration.ZERO, Ticker.systemTicker(), new SimpleMeterRegistry()),
+                new SimulationCoalescer(false, new SimpleMeterRegistry()), List.of());
+        LoanSimulationBatchService batchService = new LoanSimulationBatchService(loanSimulationService, validator,
+                parallelism, Integer.MAX_VALUE);
+
+        log.info("Simulating portfolio {} into {} with rate table version '{}'", input, output, rates.current().getVersion());
+        CsvPortfolioSimulation.Summary summary;
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(Files.newInputStream(input), StandardCharsets.UTF_8),
+                IO_BUFFER_SIZE);
+             Writer out = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(output), StandardCharsets.UTF_8),
+                     IO_BUFFER_SIZE)) {
+            summary = new CsvPortfolioSimulation(batchService, chunkSize, progressInterval, delimiter)
+                    .run(in, Files.size(input), out);
+        } finally {
+            batchService.shutdown();
+        }
+
+        log.info("Simulated {} portfolio rows ({} failed) in {} ms, {} rows/s", summary.rows(), summary.failed(),
+                summary.elapsedNanos() / 1_000_000, summary.rowsPerSecond());
+    }
+}
@@ -0,0 +1,274 @@
+package com.github.renatinhah.backend_credit_simulator.cli;
+
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationBatchItem;
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationRequest;
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationResponse;
+import com.github.renatinhah.backend_credit_simulator.model.Money;
+import com.github.renatinhah.backend_credit_simulator.model.enums.AmortizationSystemEnum;
+import com.github.renatinhah.backend_credit_simulator.service.LoanSimulationBatchService;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Ressimulação de uma carteira em CSV: lê as linhas em blocos de {@code chunkSize}, simula cada bloco em paralelo no
+ * pool fork/join do {@link LoanSimulationBatchService} e grava o bloco, na ordem da entrada, antes de ler o próximo.
+ * Só um bloco fica em memória, então o consumo de heap não cresce com o tamanho do arquivo.
+ * <p>
+ * A primeira linha é o cabeçalho, com os nomes dos campos da requisição: {@code loanAmount}, {@code birthDate} e
+ * {@code paymentTermInMonths}, obrigatórios, e {@code variableInterestRate}, {@code amortizationSystem} e {@code id}
+ * (repetido na saída), opcionais; as demais colunas são ignoradas. Campos podem vir entre aspas, desde que sem o
+ * separador dentro. Uma linha inválida vira uma linha de saída com o erro, sem interromper a carteira.
+ * <p>
+ * O progresso (linhas, percentual do arquivo e linhas por segundo) sai no log a cada {@code progressInterval}.
+ */
+@Slf4j
+public class CsvPortfolioSimulation {
+
+    public static final String OUTPUT_HEADER = "index,id,monthlyInstallment,lastInstallment,totalAmountToPay,totalInterest,error";
+
+    private static final String LOAN_AMOUNT = "loanAmount";
+    private static final String BIRTH_DATE = "birthDate";
+    private static final String PAYMENT_TERM = "paymentTermInMonths";
+    private static final String VARIABLE_RATE = "variableInterestRate";
+    private static final String AMORTIZATION_SYSTEM = "amortizationSystem";
+    private static final String ID = "id";
+    private static final char QUOTE = '"';
+
+    private final LoanSimulationBatchService batchService;
+    private final int chunkSize;
+    private final long progressIntervalNanos;
+    private final char delimiter;
+
+    public CsvPortfolioSimulation(LoanSimulationBatchService batchService, int chunkSize, Duration progressInterval,
+                                  char delimiter) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("simulation.portfolio.chunk-size must be at least 1: " + chunkSize);
+        }
+        this.batchService = batchService;
+        this.chunkSize = chunkSize;
+        this.progressIntervalNanos = progressInterval.toNanos();
+        this.delimiter = delimiter;
+    }
+
+    /**
+     * Simula todas as linhas de {@code input} e escreve um resultado por linha em {@code output}, com cabeçalho.
+     *
+     * @param inputSize tamanho do arquivo em bytes, para o percentual do progresso ({@code 0} quando desconhecido)
+     */
+    public Summary run(BufferedReader input, long inputSize, Writer output) throws IOException {
+        String header = input.readLine();
+        if (header == null) {
+            throw new IllegalArgumentException("Portfolio file is empty: a header line is required");
+        }
+        Columns columns = Columns.of(split(header));
+        output.write(OUTPUT_HEADER);
+        output.write('\n');
+
+        Progress progress = new Progress(System.nanoTime(), inputSize, header.length() + 1L);
+        List<String> chunk = new ArrayList<>(chunkSize);
+        String line;
+        while ((line = input.readLine()) != null) {
+            progress.bytesRead += line.length() + 1L;
+            if (line.isBlank()) {
+                continue;
+            }
+            chunk.add(line);
+            if (chunk.size() == chunkSize) {
+                writeChunk(columns, chunk, output, progress);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            writeChunk(columns, chunk, output, progress);
+        }
+        output.flush();
+
+        return new Summary(progress.rows, progress.failed, System.nanoTime() - progress.start);
+    }
+
+    private void writeChunk(Columns columns, List<String> chunk, Writer output, Progress progress) throws IOException {
+        long firstIndex = progress.rows;
+        List<Row> rows = batchService.mapInParallel(chunk.size(),
+                offset -> simulateRow(columns, firstIndex + offset, chunk.get(offset)));
+
+        for (Row row : rows) {
+            output.write(row.text());
+            output.write('\n');
+            progress.failed += row.failed() ? 1 : 0;
+        }
+        output.flush();
+        progress.rows += rows.size();
+        progress.reportIfDue(progressIntervalNanos);
+    }
+
+    private Row simulateRow(Columns columns, long index, String line) {
+        String[] fields = split(line);
+        LoanSimulationBatchItem item;
+        try {
+            item = batchService.simulateItem(index, columns.request(fields));
+        } catch (IllegalArgumentException | DateTimeParseException | ArithmeticException e) {
+            item = batchService.failedItem(index, Map.of(
+                    "error", "Malformed portfolio row: " + e.getMessage(),
+                    "type", "MALFORMED_RECORD"));
+        }
+        return new Row(format(item, Columns.field(fields, columns.id)), item.getErrors() != null);
+    }
+
+    private String format(LoanSimulationBatchItem item, String id) {
+        StringBuilder text = new StringBuilder(96).append(item.getIndex()).append(',');
+        appendQuoted(text, id);
+        LoanSimulationResponse simulation = item.getSimulation();
+        if (simulation != null) {
+            text.append(',').append(simulation.getMonthlyInstallment())
+                    .append(',').append(simulation.getLastInstallment() == null ? "" : simulation.getLastInstallment())
+                    .append(',').append(simulation.getTotalAmountToPay())
+                    .append(',').append(simulation.getTotalInterest())
+                    .append(',');
+        } else {
+            text.append(",,,,,");
+            appendQuoted(text, describe(item.getErrors()));
+        }
+        return text.toString();
+    }
+
+    /**
+     * Mensagem de erro do item numa célula: a mensagem da regra de negócio, ou os campos inválidos em ordem.
+     */
+    private static String describe(Map<String, String> errors) {
+        if (errors.containsKey("error")) {
+            return errors.get("error");
+        }
+        StringBuilder text = new StringBuilder();
+        for (Map.Entry<String, String> error : new TreeMap<>(errors).entrySet()) {
+            text.append(text.isEmpty() ? "" : "; ").append(error.getKey()).append(": ").append(error.getValue());
+        }
+        return text.toString();
+    }
+
+    private static void appendQuoted(StringBuilder text, String value) {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf(QUOTE) < 0 && value.indexOf('\n') < 0) {
+            text.append(value);
+            return;
+        }
+        text.append(QUOTE).append(value.replace("\"", "\"\"")).append(QUOTE);
+    }
+
+    private String[] split(String line) {
+        List<String> fields = new ArrayList<>();
+        int start = 0;
+        for (int end = line.indexOf(delimiter); end >= 0; end = line.indexOf(delimiter, start)) {
+            fields.add(unquote(line.substring(start, end)));
+            start = end + 1;
+        }
+        fields.add(unquote(line.substring(start)));
+        return fields.toArray(String[]::new);
+    }
+
+    private static String unquote(String field) {
+        String trimmed = field.trim();
+        if (trimmed.length() >= 2 && trimmed.charAt(0) == QUOTE && trimmed.charAt(trimmed.length() - 1) == QUOTE) {
+            return trimmed.substring(1, trimmed.length() - 1).replace("\"\"", "\"").trim();
+        }
+        return trimmed;
+    }
+
+    /**
+     * Posição de cada campo da requisição no cabeçalho ({@code -1} quando a coluna opcional não existe).
+     */
+    private record Columns(int loanAmount, int birthDate, int paymentTerm, int variableRate, int amortizationSystem, int id) {
+
+        static Columns of(String[] header) {
+            List<String> names = List.of(header);
+            for (String required : List.of(LOAN_AMOUNT, BIRTH_DATE, PAYMENT_TERM)) {
+                if (!names.contains(required)) {
+                    throw new IllegalArgumentException("Portfolio header is missing column '" + required + "': " + names);
+                }
+            }
+            return new Columns(names.indexOf(LOAN_AMOUNT), names.indexOf(BIRTH_DATE), names.indexOf(PAYMENT_TERM),
+                    names.indexOf(VARIABLE_RATE), names.indexOf(AMORTIZATION_SYSTEM), names.indexOf(ID));
+        }
+
+        LoanSimulationRequest request(String[] fields) {
+            LoanSimulationRequest request = new LoanSimulationRequest();
+            String loanAmount = field(fields, this.loanAmount);
+            String birthDate = field(fields, this.birthDate);
+            String paymentTerm = field(fields, this.paymentTerm);
+            String variableRate = field(fields, this.variableRate);
+            String amortizationSystem = field(fields, this.amortizationSystem);
+
+            // campos vazios ficam nulos e caem na validação da requisição, como no lote
+            request.setLoanAmount(loanAmount == null ? null : Money.parse(loanAmount));
+            request.setBirthDate(birthDate == null ? null : LocalDate.parse(birthDate));
+            request.setPaymentTermInMonths(paymentTerm == null ? 0 : Integer.parseInt(paymentTerm));
+            request.setVariableInterestRate(variableRate == null ? null : new BigDecimal(variableRate));
+            request.setAmortizationSystem(amortizationSystem == null ? null : AmortizationSystemEnum.valueOf(amortizationSystem));
+            return request;
+        }
+
+        static String field(String[] fields, int position) {
+            return position < 0 || position >= fields.length || fields[position].isEmpty() ? null : fields[position];
+        }
+    }
+
+    private record Row(String text, boolean failed) {
+    }
+
+    /**
+     * Resultado da carteira: linhas processadas, linhas com erro e duração.
+     */
+    public record Summary(long rows, long failed, long elapsedNanos) {
+
+        public long rowsPerSecond() {
+            return elapsedNanos == 0 ? 0 : rows * 1_000_000_000L / elapsedNanos;
+        }
+    }
+
+    private static final class Progress {
+
+        private final long start;
+        private final long inputSize;
+        private long bytesRead;
+        private long rows;
+        private long failed;
+        private long lastReport;
+        private long rowsAtLastReport;
+
+        Progress(long start, long inputSize, long bytesRead) {
+            this.start = start;
+            this.inputSize = inputSize;
+            this.bytesRead = bytesRead;
+            this.lastReport = start;
+        }
+
+        void reportIfDue(long intervalNanos) {
+            long now = System.nanoTime();
+            if (now - lastReport < intervalNanos) {
+                return;
+            }
+            // bytesRead conta caracteres: exato para CSV em ASCII, uma aproximação com acentos
+            long percent = inputSize > 0 ? Math.min(100, bytesRead * 100 / inputSize) : 0;
+            log.info("Portfolio progress: {} rows ({}%), {} rows/s now, {} rows/s average, {} failed",
+                    rows, percent, perSecond(rows - rowsAtLastReport, now - lastReport), perSecond(rows, now - start), failed);
+            lastReport = now;
+            rowsAtLastReport = rows;
+        }
+
+        private static long perSecond(long rows, long nanos) {
+            return nanos == 0 ? 0 : rows * 1_000_000_000L / nanos;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.github.renatinhah.backend_credit_simulator.cli;
+
+import com.github.renatinhah.backend_credit_simulator.service.LoanSimulationStreamService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Processa um arquivo NDJSON local com o mesmo pipeline do endpoint de streaming.
+ * Ativado com {@code simulation.stream.input-file}; a saída vai para {@code simulation.stream.output-file}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "simulation.stream.input-file")
+public class NdjsonSimulationFileRunner implements ApplicationRunner {
+
+    private static final int OUTPUT_BUFFER_SIZE = 1 << 16;
+
+    private final LoanSimulationStreamService loanSimulationStreamService;
+    private final Environment environment;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        Path input = Path.of(environment.getRequiredProperty("simulation.stream.input-file"));
+        Path output = Path.of(environment.getProperty("simulation.stream.output-file", input + ".out.ndjson"));
+
+        log.info("Streaming simulations from {} to {}", input, output);
+        long start = System.nanoTime();
+
+        long processed;
+        try (InputStream in = Files.newInputStream(input);
+             OutputStream out = new BufferedOutputStream(Files.newOutputStream(output), OUTPUT_BUFFER_SIZE)) {
+            processed = loanSimulationStreamService.simulateStream(in, out);
+        }
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        log.info("Streamed {} simulations in {} ms", processed, elapsedMillis);
+    }
+}
@@ -0,0 +1,32 @@
+package com.github.renatinhah.backend_credit_simulator.config;
+
+import com.github.renatinhah.backend_credit_simulator.handlers.SimulationAdmissionInterceptor;
+import com.github.renatinhah.backend_credit_simulator.service.admission.AdaptiveConcurrencyLimiter;
+import com.github.renatinhah.backend_credit_simulator.service.admission.ClientRateLimiter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Rate limit por cliente e limite de concorrência adaptativo na simulação unitária. Lote, stream e grade já têm
+ * seus limites de tamanho e durações que não servem de sinal de fila, então ficam de fora.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class AdmissionConfig implements WebMvcConfigurer {
+
+    private final SimulationAdmissionInterceptor admissionInterceptor;
+
+    public AdmissionConfig(ClientRateLimiter clientRateLimiter,
+                           AdaptiveConcurrencyLimiter concurrencyLimiter,
+                           @Value("${simulation.rate-limit.client-header:X-Client-Id}") String clientHeader) {
+        this.admissionInterceptor = new SimulationAdmissionInterceptor(clientRateLimiter, concurrencyLimiter, clientHeader);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(admissionInterceptor).addPathPatterns("/api/v1/simulations");
+    }
+}
@@ -0,0 +1,51 @@
+package com.github.renatinhah.backend_credit_simulator.config;
+
+import com.github.renatinhah.backend_credit_simulator.model.RateBand;
+import com.github.renatinhah.backend_credit_simulator.model.RateTable;
+import com.github.renatinhah.backend_credit_simulator.service.RateTableChangedEvent;
+import com.github.renatinhah.backend_credit_simulator.service.RateTableService;
+import com.github.renatinhah.backend_credit_simulator.service.engine.AnnuityFactorCache;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Pré-calcula os fatores de anuidade das taxas da tabela vigente para os prazos mais usados,
+ * na subida da aplicação e a cada nova versão da tabela.
+ */
+@Slf4j
+@Component
+public class AnnuityFactorCacheWarmer {
+
+    private final AnnuityFactorCache annuityFactorCache;
+    private final RateTableService rateTableService;
+    private final List<Integer> warmUpTerms;
+
+    public AnnuityFactorCacheWarmer(AnnuityFactorCache annuityFactorCache,
+                                    RateTableService rateTableService,
+                                    @Value("${simulation.annuity-cache.warm-up-terms:12,24,36,48,60}") List<Integer> warmUpTerms) {
+        this.annuityFactorCache = annuityFactorCache;
+        this.rateTableService = rateTableService;
+        this.warmUpTerms = warmUpTerms;
+    }
+
+    @PostConstruct
+    public void warmUp() {
+        warmUp(rateTableService.current());
+    }
+
+    @EventListener
+    public void onRateTableChanged(RateTableChangedEvent event) {
+        warmUp(event.current());
+    }
+
+    private void warmUp(RateTable rateTable) {
+        annuityFactorCache.warmUp(rateTable.getBands().stream().map(RateBand::annualRate).toList(), warmUpTerms);
+        log.info("Annuity factor cache warmed up for rate table version '{}' ({} factors)",
+                rateTable.getVersion(), annuityFactorCache.size());
+    }
+}
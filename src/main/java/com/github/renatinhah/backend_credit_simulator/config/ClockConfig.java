@@ -0,0 +1,19 @@
+package com.github.renatinhah.backend_credit_simulator.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+@Configuration
+public class ClockConfig {
+
+    /**
+     * Relógio usado no cálculo da idade do cliente.
+     * Exposto como bean para que os testes possam fixar a data de referência.
+     */
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+}
@@ -0,0 +1,64 @@
+package com.github.renatinhah.backend_credit_simulator.config;
+
+import com.github.renatinhah.backend_credit_simulator.model.enums.InstallmentEngineEnum;
+import com.github.renatinhah.backend_credit_simulator.service.engine.AnnuityFactorCache;
+import com.github.renatinhah.backend_credit_simulator.service.engine.BatchInstallmentEngine;
+import com.github.renatinhah.backend_credit_simulator.service.engine.BigDecimalInstallmentEngine;
+import com.github.renatinhah.backend_credit_simulator.service.engine.CachedInstallmentEngine;
+import com.github.renatinhah.backend_credit_simulator.service.engine.CrossCheckInstallmentEngine;
+import com.github.renatinhah.backend_credit_simulator.service.engine.InstallmentEngine;
+import com.github.renatinhah.backend_credit_simulator.service.engine.InstallmentGridEngine;
+import com.github.renatinhah.backend_credit_simulator.service.engine.InstallmentKernel;
+import com.github.renatinhah.backend_credit_simulator.service.engine.PrimitiveInstallmentEngine;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Slf4j
+@Configuration
+public class InstallmentEngineConfig {
+
+    /**
+     * Cache de fatores de anuidade, com estatísticas no {@link MeterRegistry}; o pré-aquecimento fica a cargo do
+     * {@link AnnuityFactorCacheWarmer}.
+     */
+    @Bean
+    public AnnuityFactorCache annuityFactorCache(@Value("${simulation.annuity-cache.max-size:10000}") long maximumSize,
+                                                 MeterRegistry meterRegistry) {
+        return new AnnuityFactorCache(maximumSize, meterRegistry);
+    }
+
+    /**
+     * Motor de cálculo da parcela, selecionado por {@code simulation.engine}.
+     * Com {@code simulation.annuity-cache.enabled}, o motor BIG_DECIMAL passa a usar os fatores em cache.
+     */
+    @Bean
+    public InstallmentEngine installmentEngine(@Value("${simulation.engine:BIG_DECIMAL}") InstallmentEngineEnum engine,
+                                               @Value("${simulation.annuity-cache.enabled:true}") boolean annuityCacheEnabled,
+                                               AnnuityFactorCache annuityFactorCache) {
+        BigDecimalInstallmentEngine reference = new BigDecimalInstallmentEngine();
+        InstallmentEngine bigDecimalEngine = annuityCacheEnabled
+                ? new CachedInstallmentEngine(annuityFactorCache, reference)
+                : reference;
+
+        return switch (engine) {
+            case BIG_DECIMAL -> bigDecimalEngine;
+            case PRIMITIVE -> new PrimitiveInstallmentEngine(bigDecimalEngine);
+            case CROSS_CHECK -> new CrossCheckInstallmentEngine(reference, new PrimitiveInstallmentEngine(reference));
+        };
+    }
+
+    /**
+     * Motor da grade de sensibilidade (valor × prazo × taxa), com o motor de referência para células perto de empates
+     * e o kernel em lote de {@link InstallmentKernel#best()} (vetorial com {@code --add-modules jdk.incubator.vector}).
+     */
+    @Bean
+    public InstallmentGridEngine installmentGridEngine() {
+        BigDecimalInstallmentEngine reference = new BigDecimalInstallmentEngine();
+        InstallmentKernel kernel = InstallmentKernel.best();
+        log.info("Sweep grid uses the {}", kernel.getClass().getSimpleName());
+        return new InstallmentGridEngine(reference, new BatchInstallmentEngine(kernel, reference));
+    }
+}
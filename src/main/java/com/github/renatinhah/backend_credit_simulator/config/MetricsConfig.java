@@ -0,0 +1,55 @@
+package com.github.renatinhah.backend_credit_simulator.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.github.renatinhah.backend_credit_simulator.metrics.SimulationMetrics;
+import com.github.renatinhah.backend_credit_simulator.metrics.TimedJacksonHttpMessageConverter;
+import com.github.renatinhah.backend_credit_simulator.metrics.TimedSmileHttpMessageConverter;
+import com.github.renatinhah.backend_credit_simulator.metrics.TimedValidator;
+import jakarta.validation.Validator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class MetricsConfig implements WebMvcConfigurer {
+
+    private final Validator validator;
+    private final SimulationMetrics simulationMetrics;
+
+    public MetricsConfig(Validator validator, SimulationMetrics simulationMetrics) {
+        this.validator = validator;
+        this.simulationMetrics = simulationMetrics;
+    }
+
+    /**
+     * Substitui o conversor JSON padrão por um que registra o tempo de serialização das respostas.
+     */
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new TimedJacksonHttpMessageConverter(objectMapper, simulationMetrics);
+    }
+
+    /**
+     * Substitui o conversor Smile padrão (binário, negociado por {@code Accept}/{@code Content-Type}
+     * {@code application/x-jackson-smile}) por um com a mesma configuração Jackson do JSON e a serialização medida.
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter mappingJackson2SmileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new TimedSmileHttpMessageConverter(builder.factory(new SmileFactory()).build(), simulationMetrics);
+    }
+
+    /**
+     * Validador usado pelo {@code @Valid} dos controllers, com o tempo de validação registrado.
+     */
+    @Override
+    public org.springframework.validation.Validator getValidator() {
+        return new TimedValidator(new SpringValidatorAdapter(validator), simulationMetrics);
+    }
+}
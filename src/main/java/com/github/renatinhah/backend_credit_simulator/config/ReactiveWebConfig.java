@@ -0,0 +1,68 @@
+package com.github.renatinhah.backend_credit_simulator.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.github.renatinhah.backend_credit_simulator.metrics.SimulationMetrics;
+import com.github.renatinhah.backend_credit_simulator.metrics.TimedValidator;
+import jakarta.validation.Validator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.MimeType;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+
+/**
+ * Configuração da pilha WebFlux ({@code spring.main.web-application-type=reactive}).
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveWebConfig implements WebFluxConfigurer {
+
+    private static final MimeType[] SMILE_MIME_TYPES = {
+            new MimeType("application", "x-jackson-smile"), new MimeType("application", "*+x-jackson-smile")};
+
+    private final Validator validator;
+    private final SimulationMetrics simulationMetrics;
+    private final Jackson2ObjectMapperBuilder objectMapperBuilder;
+
+    public ReactiveWebConfig(Validator validator, SimulationMetrics simulationMetrics,
+                             Jackson2ObjectMapperBuilder objectMapperBuilder) {
+        this.validator = validator;
+        this.simulationMetrics = simulationMetrics;
+        this.objectMapperBuilder = objectMapperBuilder;
+    }
+
+    /**
+     * Netty em vez do Tomcat, que também está no classpath por causa da pilha servlet e teria prioridade:
+     * poucas threads de event loop, fixas, atendendo todas as conexões.
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    /**
+     * Codecs Smile com a mesma configuração Jackson do JSON; os padrões do WebFlux ignoram {@code spring.jackson.*}.
+     * Os tipos de mídia precisam ser repassados: sem eles os construtores com {@link ObjectMapper} assumem JSON.
+     */
+    @Override
+    public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+        ObjectMapper smileMapper = objectMapperBuilder.factory(new SmileFactory()).build();
+        configurer.defaultCodecs().jackson2SmileDecoder(new Jackson2SmileDecoder(smileMapper, SMILE_MIME_TYPES));
+        configurer.defaultCodecs().jackson2SmileEncoder(new Jackson2SmileEncoder(smileMapper, SMILE_MIME_TYPES));
+    }
+
+    /**
+     * Validador usado pelo {@code @Valid} dos controllers WebFlux, com o tempo de validação registrado.
+     */
+    @Override
+    public org.springframework.validation.Validator getValidator() {
+        return new TimedValidator(new SpringValidatorAdapter(validator), simulationMetrics);
+    }
+}
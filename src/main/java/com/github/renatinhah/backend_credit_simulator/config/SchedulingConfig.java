@@ -0,0 +1,15 @@
+package com.github.renatinhah.backend_credit_simulator.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Tarefas agendadas (releitura da tabela de taxas) só na aplicação web. Nos modos de linha de comando, com
+ * {@code spring.main.web-application-type=none}, a tabela é lida uma vez e a JVM termina junto com o processamento.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnWebApplication
+public class SchedulingConfig {
+}
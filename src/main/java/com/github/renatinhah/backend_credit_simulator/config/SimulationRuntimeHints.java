@@ -0,0 +1,57 @@
+package com.github.renatinhah.backend_credit_simulator.config;
+
+import com.github.renatinhah.backend_credit_simulator.dto.AmortizationScheduleEntry;
+import com.github.renatinhah.backend_credit_simulator.dto.AmortizationSchedulePage;
+import com.github.renatinhah.backend_credit_simulator.dto.DecimalRange;
+import com.github.renatinhah.backend_credit_simulator.dto.ErrorResponse;
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationBatchItem;
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationRequest;
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationResponse;
+import com.github.renatinhah.backend_credit_simulator.dto.RateSweepRequest;
+import com.github.renatinhah.backend_credit_simulator.dto.RateSweepResponse;
+import com.github.renatinhah.backend_credit_simulator.dto.RateTableResponse;
+import com.github.renatinhah.backend_credit_simulator.dto.TermRange;
+import com.github.renatinhah.backend_credit_simulator.model.Money;
+import com.github.renatinhah.backend_credit_simulator.model.RateBand;
+import com.github.renatinhah.backend_credit_simulator.model.RateTable;
+import com.github.renatinhah.backend_credit_simulator.service.SimulationAuditRecord;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * Hints de reflexão para a imagem nativa. O processamento AOT do Spring já cobre os tipos das assinaturas dos
+ * controllers, mas não os serializados por fora delas: linhas NDJSON do lote, do stream e do cronograma, histórico
+ * de simulações, tabela de taxas lida do arquivo e o corpo de erro do {@code GlobalExceptionHandler}.
+ * Os DTOs do Lombok só têm getters/setters gerados, então os campos são registrados à parte para o springdoc
+ * ler as anotações {@code @Schema}.
+ */
+public class SimulationRuntimeHints implements RuntimeHintsRegistrar {
+
+    static final Class<?>[] JSON_TYPES = {
+            LoanSimulationRequest.class,
+            LoanSimulationResponse.class,
+            LoanSimulationBatchItem.class,
+            AmortizationScheduleEntry.class,
+            AmortizationSchedulePage.class,
+            RateSweepRequest.class,
+            RateSweepResponse.class,
+            DecimalRange.class,
+            TermRange.class,
+            RateTableResponse.class,
+            ErrorResponse.class,
+            RateTable.class,
+            RateBand.class,
+            Money.class,
+            SimulationAuditRecord.class
+    };
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(), JSON_TYPES);
+        for (Class<?> type : JSON_TYPES) {
+            hints.reflection().registerType(type, MemberCategory.DECLARED_FIELDS);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.github.renatinhah.backend_credit_simulator.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationRequest;
+import com.github.renatinhah.backend_credit_simulator.exceptions.AgeNotSupportedException;
+import com.github.renatinhah.backend_credit_simulator.exceptions.LoanSimulationException;
+import com.github.renatinhah.backend_credit_simulator.metrics.SimulationMetrics;
+import com.github.renatinhah.backend_credit_simulator.model.Money;
+import com.github.renatinhah.backend_credit_simulator.model.RateBand;
+import com.github.renatinhah.backend_credit_simulator.model.enums.AmortizationSystemEnum;
+import com.github.renatinhah.backend_credit_simulator.service.LoanSimulationService;
+import com.github.renatinhah.backend_credit_simulator.service.RateTableService;
+import com.github.renatinhah.backend_credit_simulator.service.SimulationCoalescer;
+import com.github.renatinhah.backend_credit_simulator.service.SimulationResponseCache;
+import com.github.renatinhah.backend_credit_simulator.service.amortization.AmortizationCalculators;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Aquece o caminho completo da simulação antes de a aplicação receber tráfego: leitura do JSON, validação,
+ * resolução da faixa de taxa, cálculo e escrita da resposta, com requisições sintéticas para cada faixa da tabela
+ * vigente, taxa variável, Price e SAC e os prazos de {@code simulation.annuity-cache.warm-up-terms}.
+ * <p>
+ * Roda como o primeiro {@link ApplicationRunner}: o Spring Boot só publica {@code ReadinessState.ACCEPTING_TRAFFIC}
+ * depois dos runners, então a readiness fica recusando tráfego até o fim. Para a cada rodada completa quando a
+ * latência média da rodada fica abaixo de {@code target-latency} (após {@code min-iterations}) ou quando chega a
+ * {@code max-iterations}.
+ * <p>
+ * As cotações passam por uma instância própria do {@link LoanSimulationService}, com as mesmas calculadoras e tabela
+ * de taxas, mas sem cache de respostas (que pularia o cálculo), sem ouvintes (histórico e journal) e com métricas
+ * descartáveis: nada do aquecimento aparece nos dados da aplicação.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SimulationWarmUpRunner implements ApplicationRunner {
+
+    public static final String METRIC_DURATION = "simulation.warmup.duration";
+
+    private static final Money[] LOAN_AMOUNTS = {
+            Money.parse("5000.00"), Money.parse("32750.50"), Money.parse("250000.00"), Money.parse("1000000.00")
+    };
+    private static final BigDecimal VARIABLE_RATE = new BigDecimal("0.045");
+
+    private final boolean enabled;
+    private final int minIterations;
+    private final int maxIterations;
+    private final long targetLatencyNanos;
+    private final List<Integer> terms;
+    private final Clock clock;
+    private final RateTableService rateTableService;
+    private final LoanSimulationService loanSimulationService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final AtomicLong durationNanos = new AtomicLong();
+
+    public SimulationWarmUpRunner(@Value("${simulation.warm-up.enabled:true}") boolean enabled,
+                                  @Value("${simulation.warm-up.min-iterations:2000}") int minIterations,
+                                  @Value("${simulation.warm-up.max-iterations:20000}") int maxIterations,
+                                  @Value("${simulation.warm-up.target-latency:50us}") Duration targetLatency,
+                                  @Value("${simulation.annuity-cache.warm-up-terms:12,24,36,48,60}") List<Integer> terms,
+                                  Clock clock,
+                                  AmortizationCalculators amortizationCalculators,
+                                  RateTableService rateTableService,
+                                  ObjectMapper objectMapper,
+                                  Validator validator,
+                                  MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.minIterations = minIterations;
+        this.maxIterations = maxIterations;
+        this.targetLatencyNanos = targetLatency.toNanos();
+        this.terms = terms;
+        this.clock = clock;
+        this.rateTableService = rateTableService;
+        this.loanSimulationService = new LoanSimulationService(clock, amortizationCalculators, rateTableService,
+                new SimulationMetrics(new SimpleMeterRegistry()),
+                new SimulationResponseCache(false, 0, Duration.ZERO, Ticker.systemTicker(), new SimpleMeterRegistry()),
+                new SimulationCoalescer(true, new SimpleMeterRegistry()), List.of());
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+
+        TimeGauge.builder(METRIC_DURATION, durationNanos, TimeUnit.NANOSECONDS, AtomicLong::get)
+                .description("Duração do aquecimento na subida")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            WarmUpResult result = warmUp();
+            durationNanos.set(result.durationNanos());
+            log.info("Warm-up finished in {} ms after {} quotes (last round mean {} us per quote)",
+                    result.durationNanos() / 1_000_000, result.iterations(), result.lastRoundMeanNanos() / 1_000);
+        } catch (Exception e) {
+            log.warn("Warm-up aborted, accepting traffic cold", e);
+        }
+    }
+
+    WarmUpResult warmUp() throws IOException {
+        List<byte[]> requests = syntheticRequests();
+        long start = System.nanoTime();
+        int iterations = 0;
+        long roundMeanNanos;
+        do {
+            long roundStart = System.nanoTime();
+            for (byte[] body : requests) {
+                simulate(body);
+            }
+            iterations += requests.size();
+            roundMeanNanos = (System.nanoTime() - roundStart) / requests.size();
+        } while (iterations < maxIterations && (iterations < minIterations || roundMeanNanos > targetLatencyNanos));
+        return new WarmUpResult(iterations, System.nanoTime() - start, roundMeanNanos);
+    }
+
+    /**
+     * Corpos JSON das requisições sintéticas: cada faixa da tabela (pela idade inicial) e a taxa variável, em cada
+     * sistema de amortização, prazo e valor.
+     */
+    List<byte[]> syntheticRequests() throws IOException {
+        LocalDate today = LocalDate.now(clock);
+        List<LoanSimulationRequest> requests = new ArrayList<>();
+        for (AmortizationSystemEnum system : AmortizationSystemEnum.values()) {
+            for (int term : terms) {
+                for (Money loanAmount : LOAN_AMOUNTS) {
+                    for (RateBand band : rateTableService.current().getBands()) {
+                        requests.add(request(loanAmount, today.minusYears(band.ageStart()).minusDays(1), term, null, system));
+                    }
+                    requests.add(request(loanAmount, today.minusYears(30), term, VARIABLE_RATE, system));
+                }
+            }
+        }
+
+        List<byte[]> bodies = new ArrayList<>(requests.size());
+        for (LoanSimulationRequest request : requests) {
+            bodies.add(objectMapper.writeValueAsBytes(request));
+        }
+        return bodies;
+    }
+
+    private void simulate(byte[] body) throws IOException {
+        LoanSimulationRequest request = objectMapper.readValue(body, LoanSimulationRequest.class);
+        if (!validator.validate(request).isEmpty()) {
+            return;
+        }
+        try {
+            objectMapper.writeValueAsBytes(loanSimulationService.simulate(request));
+        } catch (LoanSimulationException | AgeNotSupportedException e) {
+            // faixa sem cotação possível (taxa zero, idade fora da tabela): o caminho de recusa também é aquecido
+        }
+    }
+
+    private static LoanSimulationRequest request(Money loanAmount, LocalDate birthDate, int term,
+                                                 BigDecimal variableInterestRate, AmortizationSystemEnum system) {
+        LoanSimulationRequest request = new LoanSimulationRequest();
+        request.setLoanAmount(loanAmount);
+        request.setBirthDate(birthDate);
+        request.setPaymentTermInMonths(term);
+        request.setVariableInterestRate(variableInterestRate);
+        request.setAmortizationSystem(system);
+        return request;
+    }
+
+    record WarmUpResult(int iterations, long durationNanos, long lastRoundMeanNanos) {
+    }
+}
@@ -1,27 +1,96 @@
 package com.github.renatinhah.backend_credit_simulator.controller;
 
+import com.github.renatinhah.backend_credit_simulator.dto.AffordabilityRequest;
+import com.github.renatinhah.backend_credit_simulator.dto.AffordabilityResponse;
+import com.github.renatinhah.backend_credit_simulator.dto.AmortizationScheduleEntry;
+import com.github.renatinhah.backend_credit_simulator.dto.AmortizationSchedulePage;
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationBatchItem;
 import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationRequest;
 import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationResponse;
+import com.github.renatinhah.backend_credit_simulator.dto.RateSweepRequest;
+import com.github.renatinhah.backend_credit_simulator.dto.RateSweepResponse;
 import com.github.renatinhah.backend_credit_simulator.exceptions.LoanSimulationException;
+import com.github.renatinhah.backend_credit_simulator.service.AffordabilityService;
+import com.github.renatinhah.backend_credit_simulator.service.AmortizationScheduleService;
+import com.github.renatinhah.backend_credit_simulator.service.LoanSimulationBatchService;
 import com.github.renatinhah.backend_credit_simulator.service.LoanSimulationService;
+import com.github.renatinhah.backend_credit_simulator.service.LoanSimulationStreamService;
+import com.github.renatinhah.backend_credit_simulator.service.RateSweepService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.stream.Stream;
 
 @RestController
 @RequestMapping("/api/v1/simulations")
 @RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class LoanSimulationController {
 
     private final LoanSimulationService loanSimulationService;
+    private final LoanSimulationBatchService loanSimulationBatchService;
+    private final LoanSimulationStreamService loanSimulationStreamService;
+    private final AmortizationScheduleService amortizationScheduleService;
+    private final RateSweepService rateSweepService;
+    private final AffordabilityService affordabilityService;
 
     @PostMapping
     public ResponseEntity<LoanSimulationResponse> simulateLoan(@Valid @RequestBody LoanSimulationRequest request) throws LoanSimulationException {
         LoanSimulationResponse response = loanSimulationService.simulate(request);
         return ResponseEntity.ok(response);
     }
+
+    @PostMapping("/batch")
+    public ResponseEntity<List<LoanSimulationBatchItem>> simulateLoanBatch(@RequestBody List<LoanSimulationRequest> requests) {
+        List<LoanSimulationBatchItem> response = loanSimulationBatchService.simulateBatch(requests);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping(value = "/stream", consumes = MediaType.APPLICATION_NDJSON_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> simulateLoanStream(InputStream requestBody) {
+        StreamingResponseBody response = output -> loanSimulationStreamService.simulateStream(requestBody, output);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(response);
+    }
+
+    @PostMapping("/sweep")
+    public ResponseEntity<RateSweepResponse> simulateSweep(@Valid @RequestBody RateSweepRequest request) {
+        RateSweepResponse response = rateSweepService.sweep(request);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/affordability")
+    public ResponseEntity<AffordabilityResponse> simulateAffordability(@Valid @RequestBody AffordabilityRequest request) throws LoanSimulationException {
+        AffordabilityResponse response = affordabilityService.solve(request);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/schedule")
+    public ResponseEntity<AmortizationSchedulePage> simulateSchedule(@Valid @RequestBody LoanSimulationRequest request,
+                                                                     @RequestParam(defaultValue = "0") int page,
+                                                                     @RequestParam(defaultValue = "12") int size) throws LoanSimulationException {
+        AmortizationSchedulePage response = amortizationScheduleService.schedulePage(request, page, size);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping(value = "/schedule/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> simulateScheduleStream(@Valid @RequestBody LoanSimulationRequest request) throws LoanSimulationException {
+        Stream<AmortizationScheduleEntry> schedule = amortizationScheduleService.schedule(request);
+        StreamingResponseBody response = output -> amortizationScheduleService.writeSchedule(schedule, output);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(response);
+    }
 }
@@ -0,0 +1,28 @@
+package com.github.renatinhah.backend_credit_simulator.controller;
+
+import com.github.renatinhah.backend_credit_simulator.dto.RateTableResponse;
+import com.github.renatinhah.backend_credit_simulator.model.RateTable;
+import com.github.renatinhah.backend_credit_simulator.service.RateTableService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/rate-table")
+@RequiredArgsConstructor
+public class RateTableController {
+
+    private final RateTableService rateTableService;
+
+    @GetMapping
+    public ResponseEntity<RateTableResponse> getCurrentRateTable() {
+        RateTable rateTable = rateTableService.current();
+        return ResponseEntity.ok(RateTableResponse.builder()
+                .version(rateTable.getVersion())
+                .loadedAt(rateTable.getLoadedAt())
+                .bands(rateTable.getBands())
+                .build());
+    }
+}
@@ -0,0 +1,72 @@
+package com.github.renatinhah.backend_credit_simulator.controller;
+
+import com.github.renatinhah.backend_credit_simulator.dto.AffordabilityRequest;
+import com.github.renatinhah.backend_credit_simulator.dto.AffordabilityResponse;
+import com.github.renatinhah.backend_credit_simulator.dto.AmortizationScheduleEntry;
+import com.github.renatinhah.backend_credit_simulator.dto.AmortizationSchedulePage;
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationBatchItem;
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationRequest;
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationResponse;
+import com.github.renatinhah.backend_credit_simulator.dto.RateSweepRequest;
+import com.github.renatinhah.backend_credit_simulator.dto.RateSweepResponse;
+import com.github.renatinhah.backend_credit_simulator.service.ReactiveLoanSimulationService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Variante WebFlux do {@link LoanSimulationController}, ativa com {@code spring.main.web-application-type=reactive}.
+ */
+@RestController
+@RequestMapping("/api/v1/simulations")
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveLoanSimulationController {
+
+    private final ReactiveLoanSimulationService reactiveLoanSimulationService;
+
+    @PostMapping
+    public Mono<LoanSimulationResponse> simulateLoan(@Valid @RequestBody LoanSimulationRequest request) {
+        return reactiveLoanSimulationService.simulate(request);
+    }
+
+    @PostMapping("/batch")
+    public Flux<LoanSimulationBatchItem> simulateLoanBatch(@RequestBody Flux<LoanSimulationRequest> requests) {
+        return reactiveLoanSimulationService.simulateBatch(requests);
+    }
+
+    @PostMapping(value = "/stream", consumes = MediaType.APPLICATION_NDJSON_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<LoanSimulationBatchItem> simulateLoanStream(@RequestBody Flux<String> lines) {
+        return reactiveLoanSimulationService.simulateStream(lines);
+    }
+
+    @PostMapping("/sweep")
+    public Mono<RateSweepResponse> simulateSweep(@Valid @RequestBody RateSweepRequest request) {
+        return reactiveLoanSimulationService.sweep(request);
+    }
+
+    @PostMapping("/affordability")
+    public Mono<AffordabilityResponse> simulateAffordability(@Valid @RequestBody AffordabilityRequest request) {
+        return reactiveLoanSimulationService.affordability(request);
+    }
+
+    @PostMapping("/schedule")
+    public Mono<AmortizationSchedulePage> simulateSchedule(@Valid @RequestBody LoanSimulationRequest request,
+                                                           @RequestParam(defaultValue = "0") int page,
+                                                           @RequestParam(defaultValue = "12") int size) {
+        return reactiveLoanSimulationService.schedulePage(request, page, size);
+    }
+
+    @PostMapping(value = "/schedule/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<AmortizationScheduleEntry> simulateScheduleStream(@Valid @RequestBody LoanSimulationRequest request) {
+        return reactiveLoanSimulationService.schedule(request);
+    }
+}
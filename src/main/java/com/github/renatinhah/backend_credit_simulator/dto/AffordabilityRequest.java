@@ -0,0 +1,48 @@
+package com.github.renatinhah.backend_credit_simulator.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.github.renatinhah.backend_credit_simulator.model.Money;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Past;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+public class AffordabilityRequest {
+
+    @NotNull(message = "Target installment is required")
+    @DecimalMin(value = "0.01", message = "Target installment must be greater than zero")
+    @DecimalMax(value = "1000000000", message = "Target installment must be at most 1000000000")
+    @Schema(description = "Highest monthly installment the customer can pay", example = "1500")
+    private BigDecimal targetInstallment;
+
+    @NotNull(message = "Birth date is required")
+    @Past(message = "Birth date must be in the past")
+    @Schema(description = "Customer birth date", example = "1990-05-20")
+    private LocalDate birthDate;
+
+    @DecimalMin(value = "0.01", message = "Variable interest rate must be greater than 0.01")
+    @Schema(description = "Optional annual variable interest rate", example = "0.045")
+    private BigDecimal variableInterestRate;
+
+    @DecimalMin(value = "0.01", message = "Loan amount must be greater than zero")
+    @Schema(description = "Loan amount; when informed, the minimum payment term is solved", example = "50000")
+    private Money loanAmount;
+
+    @Min(value = 1, message = "Payment term must be at least 1 month")
+    @Schema(description = "Number of installments; when informed, the maximum loan amount is solved", example = "60")
+    private Integer paymentTermInMonths;
+
+    @JsonIgnore
+    @AssertTrue(message = "Inform either loanAmount or paymentTermInMonths, not both")
+    public boolean isSingleUnknown() {
+        return (loanAmount == null) != (paymentTermInMonths == null);
+    }
+}
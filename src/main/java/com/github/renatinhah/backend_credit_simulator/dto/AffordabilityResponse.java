@@ -0,0 +1,20 @@
+package com.github.renatinhah.backend_credit_simulator.dto;
+
+import com.github.renatinhah.backend_credit_simulator.model.Money;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class AffordabilityResponse {
+
+    @Schema(description = "Loan amount of the quote: the maximum affordable one, or the informed one")
+    private Money loanAmount;
+
+    @Schema(description = "Payment term of the quote: the minimum affordable one, or the informed one")
+    private int paymentTermInMonths;
+
+    @Schema(description = "Quote for the solved loan, with the monthly installment not above the target")
+    private LoanSimulationResponse simulation;
+}
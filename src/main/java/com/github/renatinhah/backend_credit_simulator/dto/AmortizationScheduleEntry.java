@@ -0,0 +1,16 @@
+package com.github.renatinhah.backend_credit_simulator.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+public class AmortizationScheduleEntry {
+    private int installmentNumber;
+    private BigDecimal installment;
+    private BigDecimal principal;
+    private BigDecimal interest;
+    private BigDecimal remainingBalance;
+}
@@ -0,0 +1,18 @@
+package com.github.renatinhah.backend_credit_simulator.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@Builder
+public class AmortizationSchedulePage {
+    private int page;
+    private int size;
+    private int totalPages;
+    private int totalInstallments;
+    private BigDecimal monthlyInstallment;
+    private List<AmortizationScheduleEntry> installments;
+}
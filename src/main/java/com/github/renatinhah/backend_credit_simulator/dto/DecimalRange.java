@@ -0,0 +1,35 @@
+package com.github.renatinhah.backend_credit_simulator.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+@Data
+public class DecimalRange {
+
+    @NotNull(message = "Range start is required")
+    @Positive(message = "Range start must be greater than zero")
+    @Schema(description = "First value of the range", example = "10000")
+    private BigDecimal from;
+
+    @NotNull(message = "Range end is required")
+    @Schema(description = "Last value of the range (inclusive)", example = "50000")
+    private BigDecimal to;
+
+    @NotNull(message = "Range step is required")
+    @Positive(message = "Range step must be greater than zero")
+    @Schema(description = "Increment between consecutive values", example = "10000")
+    private BigDecimal step;
+
+    @JsonIgnore
+    @AssertTrue(message = "Range end must not be lower than range start")
+    public boolean isOrdered() {
+        return Objects.isNull(from) || Objects.isNull(to) || to.compareTo(from) >= 0;
+    }
+}
@@ -0,0 +1,7 @@
+package com.github.renatinhah.backend_credit_simulator.dto;
+
+/**
+ * Corpo dos erros de regra de negócio e de cálculo: {"error": "...", "type": "..."}.
+ */
+public record ErrorResponse(String error, String type) {
+}
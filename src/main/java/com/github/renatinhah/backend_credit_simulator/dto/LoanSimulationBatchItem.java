@@ -0,0 +1,16 @@
+package com.github.renatinhah.backend_credit_simulator.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.Map;
+
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class LoanSimulationBatchItem {
+    private long index;
+    private LoanSimulationResponse simulation;
+    private Map<String, String> errors;
+}
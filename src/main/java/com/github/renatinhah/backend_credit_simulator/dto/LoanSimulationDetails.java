@@ -1,13 +1,12 @@
 package com.github.renatinhah.backend_credit_simulator.dto;
 
+import com.github.renatinhah.backend_credit_simulator.model.Money;
 import lombok.Builder;
 import lombok.Data;
 
-import java.math.BigDecimal;
-
 @Data
 @Builder
 public class LoanSimulationDetails {
-    private BigDecimal totalAmountToPay;
-    private BigDecimal totalInterest;
+    private Money totalAmountToPay;
+    private Money totalInterest;
 }
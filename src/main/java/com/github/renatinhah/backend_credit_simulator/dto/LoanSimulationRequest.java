@@ -1,5 +1,7 @@
 package com.github.renatinhah.backend_credit_simulator.dto;
 
+import com.github.renatinhah.backend_credit_simulator.model.Money;
+import com.github.renatinhah.backend_credit_simulator.model.enums.AmortizationSystemEnum;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Min;
@@ -15,8 +17,8 @@ public class LoanSimulationRequest {
 
     @NotNull(message = "Loan amount is required")
     @DecimalMin(value = "0.01", message = "Loan amount must be greater than zero")
-    @Schema(description = "Loan amount", example = "10000")
-    private BigDecimal loanAmount;
+    @Schema(description = "Loan amount, rounded HALF_UP to cents", example = "10000")
+    private Money loanAmount;
 
     @NotNull(message = "Birth date is required")
     @Past(message = "Birth date must be in the past")
@@ -31,6 +33,9 @@ public class LoanSimulationRequest {
     @DecimalMin(value = "0.01", message = "Variable interest rate must be greater than 0.01")
     @Schema(description = "Optional annual variable interest rate", example = "0.045")
     private BigDecimal variableInterestRate;
+
+    @Schema(description = "Optional amortization system: PRICE (fixed installments, default) or SAC (constant amortization)", example = "SAC")
+    private AmortizationSystemEnum amortizationSystem;
 }
 
 
@@ -1,14 +1,20 @@
 package com.github.renatinhah.backend_credit_simulator.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.github.renatinhah.backend_credit_simulator.model.Money;
 import lombok.Builder;
 import lombok.Data;
 
-import java.math.BigDecimal;
-
 @Data
 @Builder
 public class LoanSimulationResponse {
-    private BigDecimal totalAmountToPay;
-    private BigDecimal monthlyInstallment;
-    private BigDecimal totalInterest;
+    private Money totalAmountToPay;
+    private Money monthlyInstallment;
+    private Money totalInterest;
+
+    /**
+     * Última parcela, só no SAC; lá {@code monthlyInstallment} é a primeira e as parcelas decrescem até esta.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Money lastInstallment;
 }
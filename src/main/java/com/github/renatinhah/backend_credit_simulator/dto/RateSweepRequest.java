@@ -0,0 +1,25 @@
+package com.github.renatinhah.backend_credit_simulator.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+public class RateSweepRequest {
+
+    @Valid
+    @NotNull(message = "Loan amount range is required")
+    @Schema(description = "Loan amounts of the grid")
+    private DecimalRange loanAmount;
+
+    @Valid
+    @NotNull(message = "Payment term range is required")
+    @Schema(description = "Payment terms of the grid")
+    private TermRange paymentTermInMonths;
+
+    @Valid
+    @NotNull(message = "Variable interest rate range is required")
+    @Schema(description = "Annual interest rates of the grid")
+    private DecimalRange variableInterestRate;
+}
@@ -0,0 +1,19 @@
+package com.github.renatinhah.backend_credit_simulator.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@Builder
+public class RateSweepResponse {
+    private List<BigDecimal> loanAmounts;
+    private List<Integer> paymentTermsInMonths;
+    private List<BigDecimal> variableInterestRates;
+
+    @Schema(description = "Monthly installments indexed by [rate][term][loan amount]")
+    private BigDecimal[][][] monthlyInstallments;
+}
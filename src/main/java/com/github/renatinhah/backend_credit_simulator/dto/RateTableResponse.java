@@ -0,0 +1,16 @@
+package com.github.renatinhah.backend_credit_simulator.dto;
+
+import com.github.renatinhah.backend_credit_simulator.model.RateBand;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@Builder
+public class RateTableResponse {
+    private String version;
+    private Instant loadedAt;
+    private List<RateBand> bands;
+}
@@ -0,0 +1,37 @@
+package com.github.renatinhah.backend_credit_simulator.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+
+@Data
+public class TermRange {
+
+    /**
+     * Maior prazo da grade (100 anos): mantém os expoentes de {@code (1 + r)^n} e a soma dos prazos longe do limite.
+     */
+    public static final int MAX_PAYMENT_TERM = 1200;
+
+    @Min(value = 1, message = "Payment term must be at least 1 month")
+    @Schema(description = "First payment term in months", example = "12")
+    private int from;
+
+    @Min(value = 1, message = "Payment term must be at least 1 month")
+    @Max(value = MAX_PAYMENT_TERM, message = "Payment term must be at most " + MAX_PAYMENT_TERM + " months")
+    @Schema(description = "Last payment term in months (inclusive)", example = "60")
+    private int to;
+
+    @Min(value = 1, message = "Range step must be at least 1 month")
+    @Max(value = MAX_PAYMENT_TERM, message = "Range step must be at most " + MAX_PAYMENT_TERM + " months")
+    @Schema(description = "Increment in months between consecutive terms", example = "12")
+    private int step = 1;
+
+    @JsonIgnore
+    @AssertTrue(message = "Range end must not be lower than range start")
+    public boolean isOrdered() {
+        return to >= from;
+    }
+}
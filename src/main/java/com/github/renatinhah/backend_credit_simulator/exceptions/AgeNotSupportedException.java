@@ -1,8 +1,22 @@
 package com.github.renatinhah.backend_credit_simulator.exceptions;
 
-public class AgeNotSupportedException extends RuntimeException {
+/**
+ * Idade fora de todas as faixas da tabela de taxas.
+ */
+public class AgeNotSupportedException extends StacklessRuntimeException {
+
+    private final int age;
 
     public AgeNotSupportedException(int age) {
-        super(String.format("Age range not found for age: %d", age));
+        this.age = age;
+    }
+
+    public int getAge() {
+        return age;
+    }
+
+    @Override
+    public String getMessage() {
+        return "Age range not found for age: " + age;
     }
 }
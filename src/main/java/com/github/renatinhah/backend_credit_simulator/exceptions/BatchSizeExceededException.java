@@ -0,0 +1,20 @@
+package com.github.renatinhah.backend_credit_simulator.exceptions;
+
+/**
+ * Lote acima do tamanho máximo.
+ */
+public class BatchSizeExceededException extends StacklessRuntimeException {
+
+    private final int size;
+    private final int maxSize;
+
+    public BatchSizeExceededException(int size, int maxSize) {
+        this.size = size;
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public String getMessage() {
+        return "Batch size " + size + " exceeds the maximum of " + maxSize + " simulations";
+    }
+}
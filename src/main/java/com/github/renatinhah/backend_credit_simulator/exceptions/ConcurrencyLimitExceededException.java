@@ -0,0 +1,18 @@
+package com.github.renatinhah.backend_credit_simulator.exceptions;
+
+/**
+ * Simulações simultâneas no limite adaptativo; a requisição é recusada na entrada em vez de esperar na fila.
+ */
+public class ConcurrencyLimitExceededException extends StacklessRuntimeException {
+
+    private final int limit;
+
+    public ConcurrencyLimitExceededException(int limit) {
+        this.limit = limit;
+    }
+
+    @Override
+    public String getMessage() {
+        return "Server is at its limit of " + limit + " concurrent simulations";
+    }
+}
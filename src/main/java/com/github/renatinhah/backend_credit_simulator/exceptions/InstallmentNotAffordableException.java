@@ -0,0 +1,23 @@
+package com.github.renatinhah.backend_credit_simulator.exceptions;
+
+import java.math.BigDecimal;
+
+/**
+ * Nenhum empréstimo cabe na parcela pedida: valor mínimo acima dela no prazo informado, ou prazo acima do máximo
+ * para o valor informado.
+ */
+public class InstallmentNotAffordableException extends StacklessRuntimeException {
+
+    private final BigDecimal targetInstallment;
+    private final String reason;
+
+    public InstallmentNotAffordableException(BigDecimal targetInstallment, String reason) {
+        this.targetInstallment = targetInstallment;
+        this.reason = reason;
+    }
+
+    @Override
+    public String getMessage() {
+        return "No loan fits a monthly installment of " + targetInstallment + ": " + reason;
+    }
+}
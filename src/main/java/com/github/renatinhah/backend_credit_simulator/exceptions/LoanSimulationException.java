@@ -1,10 +1,22 @@
 package com.github.renatinhah.backend_credit_simulator.exceptions;
 
-import java.math.BigDecimal;
-
+/**
+ * Falha no cálculo da simulação. Checada, por isso fora da {@link StacklessRuntimeException}, mas construída do
+ * mesmo jeito: sem stack trace e com a mensagem montada só quando lida.
+ */
 public class LoanSimulationException extends Exception {
 
-    public LoanSimulationException(BigDecimal loanAmount, int getPaymentTermInMonths) {
-        super(String.format("Error an simulation for Loan Amount: %s, Payment Term: %d months", loanAmount, getPaymentTermInMonths));
+    private final Number loanAmount;
+    private final int paymentTermInMonths;
+
+    public LoanSimulationException(Number loanAmount, int paymentTermInMonths) {
+        super(null, null, false, false);
+        this.loanAmount = loanAmount;
+        this.paymentTermInMonths = paymentTermInMonths;
+    }
+
+    @Override
+    public String getMessage() {
+        return "Error an simulation for Loan Amount: " + loanAmount + ", Payment Term: " + paymentTermInMonths + " months";
     }
 }
@@ -0,0 +1,29 @@
+package com.github.renatinhah.backend_credit_simulator.exceptions;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cliente acima da sua cota de simulações por segundo.
+ */
+public class RateLimitExceededException extends StacklessRuntimeException {
+
+    private final String clientId;
+    private final long retryAfterNanos;
+
+    public RateLimitExceededException(String clientId, long retryAfterNanos) {
+        this.clientId = clientId;
+        this.retryAfterNanos = retryAfterNanos;
+    }
+
+    /**
+     * Segundos até a próxima ficha, arredondados para cima, no formato do cabeçalho {@code Retry-After}.
+     */
+    public long getRetryAfterSeconds() {
+        return Math.max(1, (retryAfterNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Override
+    public String getMessage() {
+        return "Rate limit exceeded for client '" + clientId + "'";
+    }
+}
@@ -0,0 +1,16 @@
+package com.github.renatinhah.backend_credit_simulator.exceptions;
+
+/**
+ * Base das recusas esperadas (idade, limites de lote, cota, concorrência). Sem stack trace e com a mensagem montada
+ * só quando lida, para que uma rajada de requisições recusadas custe pouco mais que uma cotação: as subclasses
+ * guardam só os campos e montam o texto em {@link #getMessage()}.
+ */
+public abstract class StacklessRuntimeException extends RuntimeException {
+
+    protected StacklessRuntimeException() {
+        super(null, null, false, false);
+    }
+
+    @Override
+    public abstract String getMessage();
+}
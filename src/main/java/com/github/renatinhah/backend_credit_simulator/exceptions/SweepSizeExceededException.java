@@ -0,0 +1,20 @@
+package com.github.renatinhah.backend_credit_simulator.exceptions;
+
+/**
+ * Grade de sensibilidade acima do número máximo de células.
+ */
+public class SweepSizeExceededException extends StacklessRuntimeException {
+
+    private final long cells;
+    private final long maxCells;
+
+    public SweepSizeExceededException(long cells, long maxCells) {
+        this.cells = cells;
+        this.maxCells = maxCells;
+    }
+
+    @Override
+    public String getMessage() {
+        return "Sweep grid with " + cells + " cells exceeds the maximum of " + maxCells + " simulations";
+    }
+}
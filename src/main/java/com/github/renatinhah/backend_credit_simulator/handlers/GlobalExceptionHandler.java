@@ -1,24 +1,39 @@
 package com.github.renatinhah.backend_credit_simulator.handlers;
 
+import com.github.renatinhah.backend_credit_simulator.dto.ErrorResponse;
 import com.github.renatinhah.backend_credit_simulator.exceptions.AgeNotSupportedException;
+import com.github.renatinhah.backend_credit_simulator.exceptions.BatchSizeExceededException;
+import com.github.renatinhah.backend_credit_simulator.exceptions.ConcurrencyLimitExceededException;
+import com.github.renatinhah.backend_credit_simulator.exceptions.InstallmentNotAffordableException;
 import com.github.renatinhah.backend_credit_simulator.exceptions.LoanSimulationException;
+import com.github.renatinhah.backend_credit_simulator.exceptions.RateLimitExceededException;
+import com.github.renatinhah.backend_credit_simulator.exceptions.SweepSizeExceededException;
+import com.github.renatinhah.backend_credit_simulator.metrics.SimulationMetrics;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
 
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
+import lombok.RequiredArgsConstructor;
 
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    private static final String VALIDATION_ERROR = "VALIDATION_ERROR";
+
+    private final SimulationMetrics simulationMetrics;
+
     /**
      * Trata exceções de validação Bean Validation (@Valid no controller)
      * Exemplo: @NotNull, @DecimalMin, @Past, etc.
@@ -30,6 +45,24 @@ public class GlobalExceptionHandler {
         ex.getBindingResult().getFieldErrors().forEach(error ->
             errors.put(error.getField(), error.getDefaultMessage())
         );
+        simulationMetrics.countError(VALIDATION_ERROR);
+
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(errors);
+    }
+
+    /**
+     * Trata exceções de validação Bean Validation na variante WebFlux (@Valid no controller reativo)
+     */
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<Map<String, String>> handleWebExchangeBindException(WebExchangeBindException ex) {
+        Map<String, String> errors = new HashMap<>();
+
+        ex.getBindingResult().getFieldErrors().forEach(error ->
+            errors.put(error.getField(), error.getDefaultMessage())
+        );
+        simulationMetrics.countError(VALIDATION_ERROR);
 
         return ResponseEntity
                 .status(HttpStatus.BAD_REQUEST)
@@ -51,6 +84,7 @@ public class GlobalExceptionHandler {
             String errorMessage = violation.getMessage();
             errors.put(fieldName, errorMessage);
         }
+        simulationMetrics.countError(VALIDATION_ERROR);
 
         return ResponseEntity
                 .status(HttpStatus.BAD_REQUEST)
@@ -61,41 +95,97 @@ public class GlobalExceptionHandler {
      * Trata exceções de idade não suportada (regra de negócio)
      */
     @ExceptionHandler(AgeNotSupportedException.class)
-    public ResponseEntity<Map<String, String>> handleAgeNotSupported(AgeNotSupportedException ex) {
-        Map<String, String> error = new HashMap<>();
-        error.put("error", ex.getMessage());
-        error.put("type", "AGE_NOT_SUPPORTED");
+    public ResponseEntity<ErrorResponse> handleAgeNotSupported(AgeNotSupportedException ex) {
+        simulationMetrics.countError("AGE_NOT_SUPPORTED");
+
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(new ErrorResponse(ex.getMessage(), "AGE_NOT_SUPPORTED"));
+    }
+
+    /**
+     * Trata lotes de simulação acima do tamanho máximo permitido
+     */
+    @ExceptionHandler(BatchSizeExceededException.class)
+    public ResponseEntity<ErrorResponse> handleBatchSizeExceeded(BatchSizeExceededException ex) {
+        simulationMetrics.countError("BATCH_SIZE_EXCEEDED");
 
         return ResponseEntity
                 .status(HttpStatus.BAD_REQUEST)
-                .body(error);
+                .body(new ErrorResponse(ex.getMessage(), "BATCH_SIZE_EXCEEDED"));
+    }
+
+    /**
+     * Trata grades de sensibilidade acima do número máximo de células
+     */
+    @ExceptionHandler(SweepSizeExceededException.class)
+    public ResponseEntity<ErrorResponse> handleSweepSizeExceeded(SweepSizeExceededException ex) {
+        simulationMetrics.countError("SWEEP_SIZE_EXCEEDED");
+
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(new ErrorResponse(ex.getMessage(), "SWEEP_SIZE_EXCEEDED"));
+    }
+
+    /**
+     * Trata simulações inversas sem solução: nenhum valor ou prazo cabe na parcela pedida
+     */
+    @ExceptionHandler(InstallmentNotAffordableException.class)
+    public ResponseEntity<ErrorResponse> handleInstallmentNotAffordable(InstallmentNotAffordableException ex) {
+        simulationMetrics.countError("INSTALLMENT_NOT_AFFORDABLE");
+
+        return ResponseEntity
+                .status(HttpStatus.UNPROCESSABLE_ENTITY)
+                .body(new ErrorResponse(ex.getMessage(), "INSTALLMENT_NOT_AFFORDABLE"));
+    }
+
+    /**
+     * Trata clientes acima da cota de requisições, indicando quando tentar de novo
+     */
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ErrorResponse> handleRateLimitExceeded(RateLimitExceededException ex) {
+        simulationMetrics.countError("RATE_LIMIT_EXCEEDED");
+
+        return ResponseEntity
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()))
+                .body(new ErrorResponse(ex.getMessage(), "RATE_LIMIT_EXCEEDED"));
+    }
+
+    /**
+     * Trata requisições recusadas pelo limite de concorrência (descarte de carga)
+     */
+    @ExceptionHandler(ConcurrencyLimitExceededException.class)
+    public ResponseEntity<ErrorResponse> handleConcurrencyLimitExceeded(ConcurrencyLimitExceededException ex) {
+        simulationMetrics.countError("CONCURRENCY_LIMIT_EXCEEDED");
+
+        return ResponseEntity
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new ErrorResponse(ex.getMessage(), "CONCURRENCY_LIMIT_EXCEEDED"));
     }
 
     /**
      * Trata exceções de simulação de empréstimo (erro de cálculo)
      */
     @ExceptionHandler(LoanSimulationException.class)
-    public ResponseEntity<Map<String, String>> handleLoanSimulationException(LoanSimulationException ex) {
-        Map<String, String> error = new HashMap<>();
-        error.put("error", ex.getMessage());
-        error.put("type", "LOAN_SIMULATION_ERROR");
+    public ResponseEntity<ErrorResponse> handleLoanSimulationException(LoanSimulationException ex) {
+        simulationMetrics.countError("LOAN_SIMULATION_ERROR");
 
         return ResponseEntity
                 .status(HttpStatus.INTERNAL_SERVER_ERROR)
-                .body(error);
+                .body(new ErrorResponse(ex.getMessage(), "LOAN_SIMULATION_ERROR"));
     }
 
     /**
      * Trata exceções genéricas não capturadas pelos handlers específicos
      */
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<Map<String, String>> handleGenericException(Exception ex) {
-        Map<String, String> error = new HashMap<>();
-        error.put("error", "An unexpected error occurred: " + ex.getMessage());
-        error.put("type", "INTERNAL_SERVER_ERROR");
+    public ResponseEntity<ErrorResponse> handleGenericException(Exception ex) {
+        simulationMetrics.countError("INTERNAL_SERVER_ERROR");
 
         return ResponseEntity
                 .status(HttpStatus.INTERNAL_SERVER_ERROR)
-                .body(error);
+                .body(new ErrorResponse("An unexpected error occurred: " + ex.getMessage(), "INTERNAL_SERVER_ERROR"));
     }
 }
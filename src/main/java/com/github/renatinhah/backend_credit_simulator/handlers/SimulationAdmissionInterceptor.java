@@ -0,0 +1,59 @@
+package com.github.renatinhah.backend_credit_simulator.handlers;
+
+import com.github.renatinhah.backend_credit_simulator.exceptions.ConcurrencyLimitExceededException;
+import com.github.renatinhah.backend_credit_simulator.exceptions.RateLimitExceededException;
+import com.github.renatinhah.backend_credit_simulator.service.admission.AdaptiveConcurrencyLimiter;
+import com.github.renatinhah.backend_credit_simulator.service.admission.ClientRateLimiter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Controle de admissão na frente do controller: primeiro a cota do cliente, depois uma vaga no limite de
+ * concorrência. As recusas viram exceções tratadas no {@link GlobalExceptionHandler} (429), antes de ler o corpo.
+ * <p>
+ * O cliente é identificado pelo cabeçalho configurado ({@code X-Client-Id} por padrão), que precisa vir de um
+ * gateway confiável: ele autentica o parceiro e sobrescreve o valor enviado pelo chamador, senão basta trocar o
+ * cabeçalho para ganhar um balde novo. Sem o cabeçalho não há cota por cliente (só o limite de concorrência): o
+ * endereço remoto atrás de um balanceador é o do proxy e juntaria todo o tráfego num balde só.
+ */
+public class SimulationAdmissionInterceptor implements HandlerInterceptor {
+
+    private static final String STARTED_AT = SimulationAdmissionInterceptor.class.getName() + ".startedAt";
+
+    private final ClientRateLimiter clientRateLimiter;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final String clientHeader;
+
+    public SimulationAdmissionInterceptor(ClientRateLimiter clientRateLimiter,
+                                          AdaptiveConcurrencyLimiter concurrencyLimiter,
+                                          String clientHeader) {
+        this.clientRateLimiter = clientRateLimiter;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.clientHeader = clientHeader;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String clientId = request.getHeader(clientHeader);
+        if (clientId != null && !clientId.isBlank()) {
+            long retryAfterNanos = clientRateLimiter.tryAcquire(clientId);
+            if (retryAfterNanos > 0) {
+                throw new RateLimitExceededException(clientId, retryAfterNanos);
+            }
+        }
+        if (!concurrencyLimiter.tryAcquire()) {
+            throw new ConcurrencyLimitExceededException(concurrencyLimiter.limit());
+        }
+        request.setAttribute(STARTED_AT, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(STARTED_AT) instanceof Long startedAt) {
+            request.removeAttribute(STARTED_AT);
+            concurrencyLimiter.release(System.nanoTime() - startedAt);
+        }
+    }
+}
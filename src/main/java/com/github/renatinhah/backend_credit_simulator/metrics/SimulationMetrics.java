@@ -0,0 +1,92 @@
+package com.github.renatinhah.backend_credit_simulator.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Métricas do pipeline de simulação. Os medidores são registrados uma única vez e reaproveitados,
+ * então cada registro no caminho quente custa apenas um {@code System.nanoTime()} e um incremento.
+ */
+@Component
+public class SimulationMetrics {
+
+    public static final String STAGE_DURATION = "simulation.stage.duration";
+    public static final String QUOTES = "simulation.quotes";
+    public static final String ERRORS = "simulation.errors";
+
+    public static final String STAGE_VALIDATION = "validation";
+    public static final String STAGE_RATE_RESOLUTION = "rate_resolution";
+    public static final String STAGE_INSTALLMENT = "installment";
+    public static final String STAGE_SERIALIZATION = "serialization";
+
+    private final MeterRegistry meterRegistry;
+    private final Timer validationTimer;
+    private final Timer rateResolutionTimer;
+    private final Timer installmentTimer;
+    private final Timer serializationTimer;
+    private final Map<String, Counter> quotesByRateBucket = new ConcurrentHashMap<>();
+    private final Map<String, Counter> errorsByType = new ConcurrentHashMap<>();
+
+    public SimulationMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.validationTimer = stageTimer(STAGE_VALIDATION);
+        this.rateResolutionTimer = stageTimer(STAGE_RATE_RESOLUTION);
+        this.installmentTimer = stageTimer(STAGE_INSTALLMENT);
+        this.serializationTimer = stageTimer(STAGE_SERIALIZATION);
+    }
+
+    public void recordValidation(long nanos) {
+        validationTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordRateResolution(long nanos) {
+        rateResolutionTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordInstallment(long nanos) {
+        installmentTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordSerialization(long nanos) {
+        serializationTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Conta uma cotação na faixa de taxa usada (nome da faixa etária ou taxa variável).
+     */
+    public void countQuote(String rateBucket) {
+        counter(quotesByRateBucket, QUOTES, "rate_bucket", rateBucket).increment();
+    }
+
+    /**
+     * Conta um erro pelo {@code type} devolvido na resposta.
+     */
+    public void countError(String type) {
+        counter(errorsByType, ERRORS, "type", type).increment();
+    }
+
+    private Timer stageTimer(String stage) {
+        return Timer.builder(STAGE_DURATION)
+                .description("Duração de cada etapa da simulação")
+                .tag("stage", stage)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(500))
+                .maximumExpectedValue(Duration.ofSeconds(1))
+                .register(meterRegistry);
+    }
+
+    private Counter counter(Map<String, Counter> counters, String name, String tagKey, String tagValue) {
+        Counter counter = counters.get(tagValue);
+        if (counter == null) {
+            counter = counters.computeIfAbsent(tagValue, value -> Counter.builder(name).tag(tagKey, value).register(meterRegistry));
+        }
+        return counter;
+    }
+}
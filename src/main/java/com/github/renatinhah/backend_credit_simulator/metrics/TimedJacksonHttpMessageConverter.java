@@ -0,0 +1,33 @@
+package com.github.renatinhah.backend_credit_simulator.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * Conversor JSON do Spring MVC que mede a etapa de serialização das respostas.
+ */
+public class TimedJacksonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    private final SimulationMetrics simulationMetrics;
+
+    public TimedJacksonHttpMessageConverter(ObjectMapper objectMapper, SimulationMetrics simulationMetrics) {
+        super(objectMapper);
+        this.simulationMetrics = simulationMetrics;
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        long start = System.nanoTime();
+        try {
+            super.writeInternal(object, type, outputMessage);
+        } finally {
+            simulationMetrics.recordSerialization(System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.github.renatinhah.backend_credit_simulator.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * Conversor Smile ({@code application/x-jackson-smile}) do Spring MVC, com a serialização medida como no JSON.
+ */
+public class TimedSmileHttpMessageConverter extends MappingJackson2SmileHttpMessageConverter {
+
+    private final SimulationMetrics simulationMetrics;
+
+    public TimedSmileHttpMessageConverter(ObjectMapper objectMapper, SimulationMetrics simulationMetrics) {
+        super(objectMapper);
+        this.simulationMetrics = simulationMetrics;
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        long start = System.nanoTime();
+        try {
+            super.writeInternal(object, type, outputMessage);
+        } finally {
+            simulationMetrics.recordSerialization(System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.github.renatinhah.backend_credit_simulator.metrics;
+
+import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
+
+/**
+ * Validador do Spring MVC que mede a etapa de validação do {@code @Valid} antes de chegar ao controller.
+ */
+public class TimedValidator implements SmartValidator {
+
+    private final SmartValidator delegate;
+    private final SimulationMetrics simulationMetrics;
+
+    public TimedValidator(SmartValidator delegate, SimulationMetrics simulationMetrics) {
+        this.delegate = delegate;
+        this.simulationMetrics = simulationMetrics;
+    }
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return delegate.supports(clazz);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        long start = System.nanoTime();
+        try {
+            delegate.validate(target, errors);
+        } finally {
+            simulationMetrics.recordValidation(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public void validate(Object target, Errors errors, Object... validationHints) {
+        long start = System.nanoTime();
+        try {
+            delegate.validate(target, errors, validationHints);
+        } finally {
+            simulationMetrics.recordValidation(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> type) {
+        return delegate.unwrap(type);
+    }
+}
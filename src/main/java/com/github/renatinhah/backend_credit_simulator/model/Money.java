@@ -0,0 +1,209 @@
+package com.github.renatinhah.backend_credit_simulator.model;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.io.IOException;
+import java.io.Serial;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Valor em reais guardado em centavos num {@code long}, imutável.
+ * <p>
+ * Substitui o {@link BigDecimal} de escala 2 nos valores da cotação: somar, subtrair e multiplicar pelo prazo são
+ * operações em {@code long}, sem {@code setScale} e sem objetos intermediários. Valores com mais casas são
+ * arredondados HALF_UP para o centavo, com o mesmo resultado de {@code setScale(2, RoundingMode.HALF_UP)};
+ * estouro do {@code long} lança {@link ArithmeticException}, nunca perde centavos em silêncio.
+ * <p>
+ * No JSON (e no Smile) é o mesmo número de antes, sempre com duas casas ({@code 856.07}, {@code 10272.80}); a leitura
+ * aceita qualquer número ou texto numérico e arredonda para o centavo.
+ */
+@Schema(type = "number", example = "856.07")
+@JsonSerialize(using = Money.Serializer.class)
+@JsonDeserialize(using = Money.Deserializer.class)
+public final class Money extends Number implements Comparable<Money> {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public static final int SCALE = 2;
+    public static final Money ZERO = new Money(0);
+
+    private static final long CENTS_PER_UNIT = 100;
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L,
+            10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L, 10_000_000_000_000L, 100_000_000_000_000L,
+            1_000_000_000_000_000L, 10_000_000_000_000_000L, 100_000_000_000_000_000L, 1_000_000_000_000_000_000L
+    };
+
+    private final long cents;
+
+    private Money(long cents) {
+        this.cents = cents;
+    }
+
+    public static Money ofCents(long cents) {
+        return cents == 0 ? ZERO : new Money(cents);
+    }
+
+    /**
+     * {@code unscaled × 10^-scale} arredondado HALF_UP para centavos, em aritmética de {@code long}.
+     */
+    public static Money of(long unscaled, int scale) {
+        if (scale <= SCALE) {
+            int shift = SCALE - scale;
+            if (shift >= POWERS_OF_TEN.length) {
+                return of(BigDecimal.valueOf(unscaled, scale));
+            }
+            return ofCents(Math.multiplyExact(unscaled, POWERS_OF_TEN[shift]));
+        }
+        int shift = scale - SCALE;
+        if (shift >= POWERS_OF_TEN.length) {
+            return of(BigDecimal.valueOf(unscaled, scale));
+        }
+        return ofCents(divideHalfUp(unscaled, POWERS_OF_TEN[shift]));
+    }
+
+    public static Money of(BigDecimal amount) {
+        // setScale devolve o próprio valor quando já tem duas casas; scaleByPowerOfTen evita o BigInteger do unscaledValue
+        return ofCents(amount.setScale(SCALE, RoundingMode.HALF_UP).scaleByPowerOfTen(SCALE).longValueExact());
+    }
+
+    /**
+     * Lê um valor decimal como {@code "10000"}, {@code "-0.5"} ou {@code "856.079"}, pelo {@link BigDecimal}.
+     */
+    public static Money parse(CharSequence text) {
+        return of(new BigDecimal(text.toString()));
+    }
+
+    public long cents() {
+        return cents;
+    }
+
+    public Money plus(Money other) {
+        return ofCents(Math.addExact(cents, other.cents));
+    }
+
+    public Money minus(Money other) {
+        return ofCents(Math.subtractExact(cents, other.cents));
+    }
+
+    public Money times(long multiplier) {
+        return ofCents(Math.multiplyExact(cents, multiplier));
+    }
+
+    public int signum() {
+        return Long.signum(cents);
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(cents, SCALE);
+    }
+
+    /**
+     * {@code dividend / divisor} arredondado HALF_UP (empates para longe do zero), sem passar por ponto flutuante;
+     * {@code divisor} deve ser positivo.
+     */
+    public static long divideHalfUp(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long remainder = Math.abs(dividend % divisor);
+        if (remainder >= divisor - remainder) {
+            quotient += dividend < 0 ? -1 : 1;
+        }
+        return quotient;
+    }
+
+    @Override
+    public int intValue() {
+        return (int) longValue();
+    }
+
+    @Override
+    public long longValue() {
+        return cents / CENTS_PER_UNIT;
+    }
+
+    @Override
+    public float floatValue() {
+        return (float) doubleValue();
+    }
+
+    /**
+     * O {@code double} mais próximo do valor, igual a {@code toBigDecimal().doubleValue()} enquanto os centavos cabem
+     * na mantissa (até 2^53): a divisão de dois inteiros exatos é arredondada uma única vez.
+     */
+    @Override
+    public double doubleValue() {
+        return cents / (double) CENTS_PER_UNIT;
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(cents, other.cents);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof Money money && money.cents == cents;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(cents);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toString();
+    }
+
+    /**
+     * Número com duas casas, o mesmo {@link BigDecimal} de escala 2 de antes em qualquer formato.
+     */
+    static final class Serializer extends StdScalarSerializer<Money> {
+
+        Serializer() {
+            super(Money.class);
+        }
+
+        @Override
+        public void serialize(Money value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            generator.writeNumber(value.toBigDecimal());
+        }
+    }
+
+    /**
+     * Lê números e textos numéricos, arredondando para o centavo.
+     */
+    static final class Deserializer extends StdScalarDeserializer<Money> {
+
+        Deserializer() {
+            super(Money.class);
+        }
+
+        @Override
+        public Money deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            JsonToken token = parser.currentToken();
+            try {
+                if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+                    return of(parser.getDecimalValue());
+                }
+                if (token == JsonToken.VALUE_STRING) {
+                    return parse(parser.getText().trim());
+                }
+            } catch (NumberFormatException | ArithmeticException e) {
+                return (Money) context.handleWeirdStringValue(Money.class, parser.getText(), "not a valid money amount");
+            }
+            return (Money) context.handleUnexpectedToken(Money.class, parser);
+        }
+    }
+}
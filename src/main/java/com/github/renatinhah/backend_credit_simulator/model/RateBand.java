@@ -0,0 +1,13 @@
+package com.github.renatinhah.backend_credit_simulator.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Faixa etária com a respectiva taxa de juros anual.
+ */
+public record RateBand(String name, int ageStart, int ageEnd, BigDecimal annualRate) {
+
+    public boolean covers(int age) {
+        return age >= ageStart && age <= ageEnd;
+    }
+}
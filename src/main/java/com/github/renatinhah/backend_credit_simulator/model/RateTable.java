@@ -0,0 +1,113 @@
+package com.github.renatinhah.backend_credit_simulator.model;
+
+import com.github.renatinhah.backend_credit_simulator.model.enums.InterestRateEnum;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Versão imutável da tabela de taxas por faixa etária.
+ * <p>
+ * Na construção é montado um índice idade -> faixa para as idades de 0 a {@link #MAX_INDEXED_AGE},
+ * então a consulta é um acesso a array. Idades acima do índice percorrem as faixas.
+ */
+public final class RateTable {
+
+    public static final String EMBEDDED_VERSION = "embedded";
+    public static final int MAX_INDEXED_AGE = 150;
+
+    private final String version;
+    private final Instant loadedAt;
+    private final List<RateBand> bands;
+    private final RateBand[] bandByAge;
+
+    private RateTable(String version, Instant loadedAt, List<RateBand> bands) {
+        this.version = version;
+        this.loadedAt = loadedAt;
+        this.bands = List.copyOf(bands);
+        this.bandByAge = new RateBand[MAX_INDEXED_AGE + 1];
+        for (RateBand band : this.bands) {
+            for (int age = band.ageStart(); age <= Math.min(band.ageEnd(), MAX_INDEXED_AGE); age++) {
+                bandByAge[age] = band;
+            }
+        }
+    }
+
+    /**
+     * Cria a tabela validando as faixas: idades não negativas, início menor ou igual ao fim,
+     * taxa positiva e nenhuma sobreposição entre faixas.
+     */
+    public static RateTable of(String version, Instant loadedAt, List<RateBand> bands) {
+        if (version == null || version.isBlank()) {
+            throw new IllegalArgumentException("Rate table version is required");
+        }
+        if (bands == null || bands.isEmpty()) {
+            throw new IllegalArgumentException("Rate table must have at least one band");
+        }
+
+        List<RateBand> sorted = new ArrayList<>(bands);
+        sorted.sort(Comparator.comparingInt(RateBand::ageStart));
+        RateBand previous = null;
+        for (RateBand band : sorted) {
+            if (band.name() == null || band.name().isBlank()) {
+                throw new IllegalArgumentException("Rate band name is required");
+            }
+            if (band.ageStart() < 0 || band.ageEnd() < band.ageStart()) {
+                throw new IllegalArgumentException("Invalid age range for band " + band.name());
+            }
+            if (band.annualRate() == null || band.annualRate().signum() <= 0) {
+                throw new IllegalArgumentException("Annual rate must be positive for band " + band.name());
+            }
+            if (previous != null && band.ageStart() <= previous.ageEnd()) {
+                throw new IllegalArgumentException("Band " + band.name() + " overlaps band " + previous.name());
+            }
+            previous = band;
+        }
+
+        return new RateTable(version, loadedAt, sorted);
+    }
+
+    /**
+     * Tabela equivalente às regras fixas do {@link InterestRateEnum}.
+     */
+    public static RateTable embedded() {
+        List<RateBand> bands = Arrays.stream(InterestRateEnum.values())
+                .map(rate -> new RateBand(rate.name(), rate.getAgeStart(), rate.getAgeEnd(), new BigDecimal(rate.getRate())))
+                .toList();
+        return of(EMBEDDED_VERSION, Instant.EPOCH, bands);
+    }
+
+    /**
+     * Faixa que cobre a idade, ou {@code null} quando nenhuma faixa cobre.
+     */
+    public RateBand findByAge(int age) {
+        if (age < 0) {
+            return null;
+        }
+        if (age <= MAX_INDEXED_AGE) {
+            return bandByAge[age];
+        }
+        for (RateBand band : bands) {
+            if (band.covers(age)) {
+                return band;
+            }
+        }
+        return null;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public Instant getLoadedAt() {
+        return loadedAt;
+    }
+
+    public List<RateBand> getBands() {
+        return bands;
+    }
+}
@@ -0,0 +1,9 @@
+package com.github.renatinhah.backend_credit_simulator.model.enums;
+
+/**
+ * Sistemas de amortização: PRICE (parcelas fixas, Tabela Price) e SAC (amortização constante, parcelas decrescentes).
+ */
+public enum AmortizationSystemEnum {
+    PRICE,
+    SAC
+}
@@ -0,0 +1,13 @@
+package com.github.renatinhah.backend_credit_simulator.model.enums;
+
+/**
+ * O que fazer com um registro de auditoria quando a fila está cheia.
+ */
+public enum AuditOverflowPolicyEnum {
+    /** Descarta o registro novo; a requisição nunca espera. */
+    DROP_NEWEST,
+    /** Descarta o registro mais antigo da fila para abrir espaço ao novo. */
+    DROP_OLDEST,
+    /** Segura a requisição até haver espaço: nada se perde, mas a latência passa a depender do disco. */
+    BLOCK
+}
@@ -0,0 +1,7 @@
+package com.github.renatinhah.backend_credit_simulator.model.enums;
+
+public enum InstallmentEngineEnum {
+    BIG_DECIMAL,
+    PRIMITIVE,
+    CROSS_CHECK
+}
@@ -1,6 +1,5 @@
 package com.github.renatinhah.backend_credit_simulator.model.enums;
 
-import com.github.renatinhah.backend_credit_simulator.exceptions.AgeNotSupportedException;
 import lombok.Getter;
 import lombok.ToString;
 
@@ -22,15 +21,4 @@ public enum InterestRateEnum {
         this.ageEnd = ageEnd;
         this.rate = rate;
     }
-
-    public static InterestRateEnum getRateByAge(int age) {
-        for (InterestRateEnum rate : values()) {
-            if (age >= rate.ageStart && age <= rate.ageEnd) {
-                return rate;
-            }
-        }
-        throw new AgeNotSupportedException(age);
-    }
-
-
 }
@@ -0,0 +1,173 @@
+package com.github.renatinhah.backend_credit_simulator.service;
+
+import com.github.renatinhah.backend_credit_simulator.dto.AffordabilityRequest;
+import com.github.renatinhah.backend_credit_simulator.dto.AffordabilityResponse;
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationRequest;
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationResponse;
+import com.github.renatinhah.backend_credit_simulator.exceptions.InstallmentNotAffordableException;
+import com.github.renatinhah.backend_credit_simulator.exceptions.LoanSimulationException;
+import com.github.renatinhah.backend_credit_simulator.model.Money;
+import com.github.renatinhah.backend_credit_simulator.service.engine.AnnuityFactorCache;
+import com.github.renatinhah.backend_credit_simulator.service.engine.InstallmentEngine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.CompletableFuture;
+
+import static com.github.renatinhah.backend_credit_simulator.service.LoanSimulationService.MONTHS_IN_YEAR;
+
+/**
+ * Simulação inversa na Tabela Price: a partir da parcela que o cliente pode pagar, o maior valor para um prazo ou
+ * o menor prazo para um valor, sem varrer valores ou prazos com simulações.
+ * <p>
+ * A parcela é PV × fator arredondada HALF_UP para centavos, então ela cabe na parcela alvo T enquanto
+ * PV × fator &lt; T + 0,005. O valor máximo sai em forma fechada, (T + 0,005) / fator truncado em centavos, e o prazo
+ * mínimo por logaritmo, n = ⌈−ln(1 − PV·r / (T + 0,005)) / ln(1 + r)⌉. Os dois são conferidos com o
+ * {@link InstallmentEngine} configurado (o mesmo das cotações), andando um centavo ou um mês enquanto preciso,
+ * então o resultado é exato sob as mesmas regras de arredondamento.
+ */
+@Service
+public class AffordabilityService {
+
+    private static final BigDecimal CENT = new BigDecimal("0.01");
+    private static final BigDecimal HALF_CENT = new BigDecimal("0.005");
+
+    private final LoanSimulationService loanSimulationService;
+    private final InstallmentEngine installmentEngine;
+    private final AnnuityFactorCache annuityFactorCache;
+    private final int maxTerm;
+
+    public AffordabilityService(LoanSimulationService loanSimulationService,
+                                InstallmentEngine installmentEngine,
+                                AnnuityFactorCache annuityFactorCache,
+                                @Value("${simulation.affordability.max-term:480}") int maxTerm) {
+        this.loanSimulationService = loanSimulationService;
+        this.installmentEngine = installmentEngine;
+        this.annuityFactorCache = annuityFactorCache;
+        this.maxTerm = maxTerm;
+    }
+
+    /**
+     * Resolve o valor máximo (quando o prazo é informado) ou o prazo mínimo (quando o valor é informado) e devolve a
+     * cotação da solução, pelo mesmo caminho de {@link LoanSimulationService#simulate}. Nos dois casos o prazo vai
+     * até {@code simulation.affordability.max-term} meses.
+     */
+    public AffordabilityResponse solve(AffordabilityRequest request) throws LoanSimulationException {
+        LoanSimulationRequest quote = quote(request);
+        return response(quote, loanSimulationService.simulate(quote));
+    }
+
+    /**
+     * Como {@link #solve}, com a cotação da solução por {@link LoanSimulationService#simulateAsync}, sem bloquear a
+     * thread numa cotação idêntica em andamento.
+     */
+    public CompletableFuture<AffordabilityResponse> solveAsync(AffordabilityRequest request) {
+        LoanSimulationRequest quote;
+        try {
+            quote = quote(request);
+        } catch (LoanSimulationException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return loanSimulationService.simulateAsync(quote).thenApply(simulation -> response(quote, simulation));
+    }
+
+    /**
+     * Requisição de cotação da solução: valor máximo para o prazo informado ou prazo mínimo para o valor informado.
+     */
+    private LoanSimulationRequest quote(AffordabilityRequest request) throws LoanSimulationException {
+        LoanSimulationRequest quote = new LoanSimulationRequest();
+        quote.setBirthDate(request.getBirthDate());
+        quote.setVariableInterestRate(request.getVariableInterestRate());
+
+        BigDecimal annualRate = loanSimulationService.resolveAnnualRate(quote);
+        if (annualRate.signum() <= 0) {
+            // sem solução na Tabela Price, como na simulação direta
+            throw new LoanSimulationException(request.getLoanAmount(),
+                    request.getPaymentTermInMonths() == null ? 0 : request.getPaymentTermInMonths());
+        }
+
+        BigDecimal targetInstallment = request.getTargetInstallment().setScale(2, RoundingMode.FLOOR);
+        try {
+            if (request.getPaymentTermInMonths() != null) {
+                if (request.getPaymentTermInMonths() > maxTerm) {
+                    throw new InstallmentNotAffordableException(targetInstallment,
+                            "the payment term exceeds the maximum of " + maxTerm + " months");
+                }
+                quote.setPaymentTermInMonths(request.getPaymentTermInMonths());
+                quote.setLoanAmount(Money.of(maxLoanAmount(targetInstallment, annualRate, request.getPaymentTermInMonths())));
+            } else {
+                quote.setLoanAmount(request.getLoanAmount());
+                quote.setPaymentTermInMonths(minPaymentTerm(request.getLoanAmount().toBigDecimal(), targetInstallment, annualRate));
+            }
+        } catch (ArithmeticException e) {
+            // estouro do valor em centavos ou do expoente: falha de cálculo, como na simulação direta
+            throw new LoanSimulationException(request.getLoanAmount(),
+                    request.getPaymentTermInMonths() == null ? 0 : request.getPaymentTermInMonths());
+        }
+
+        return quote;
+    }
+
+    private static AffordabilityResponse response(LoanSimulationRequest quote, LoanSimulationResponse simulation) {
+        return AffordabilityResponse.builder()
+                .loanAmount(quote.getLoanAmount())
+                .paymentTermInMonths(quote.getPaymentTermInMonths())
+                .simulation(simulation)
+                .build();
+    }
+
+    /**
+     * Maior valor, em centavos, cuja parcela em {@code numberOfPayments} meses não passa de {@code targetInstallment}.
+     */
+    public BigDecimal maxLoanAmount(BigDecimal targetInstallment, BigDecimal annualRate, int numberOfPayments) {
+        BigDecimal factor = annuityFactorCache.getFactor(annualRate, numberOfPayments);
+        BigDecimal loanAmount = targetInstallment.add(HALF_CENT).divide(factor, 2, RoundingMode.FLOOR);
+
+        // o fator tem 50 dígitos e o motor pode ter menos (ou ser double): o centavo da fronteira é o do motor
+        while (loanAmount.signum() > 0 && !fits(loanAmount, annualRate, numberOfPayments, targetInstallment)) {
+            loanAmount = loanAmount.subtract(CENT);
+        }
+        while (fits(loanAmount.add(CENT), annualRate, numberOfPayments, targetInstallment)) {
+            loanAmount = loanAmount.add(CENT);
+        }
+
+        if (loanAmount.signum() <= 0) {
+            throw new InstallmentNotAffordableException(targetInstallment,
+                    "even a loan of " + CENT + " exceeds it over " + numberOfPayments + " months");
+        }
+        return loanAmount;
+    }
+
+    /**
+     * Menor prazo, até {@code simulation.affordability.max-term} meses, cuja parcela para {@code loanAmount} não passa
+     * de {@code targetInstallment}.
+     */
+    public int minPaymentTerm(BigDecimal loanAmount, BigDecimal targetInstallment, BigDecimal annualRate) {
+        double monthRate = annualRate.doubleValue() / MONTHS_IN_YEAR;
+        double interestShare = loanAmount.doubleValue() * monthRate / targetInstallment.add(HALF_CENT).doubleValue();
+
+        // juros do primeiro mês acima da parcela: o saldo nunca cai, em prazo nenhum
+        int term = interestShare >= 1
+                ? maxTerm + 1
+                : (int) Math.max(1, Math.min(maxTerm + 1, Math.ceil(-Math.log1p(-interestShare) / Math.log1p(monthRate))));
+
+        while (term > 1 && fits(loanAmount, annualRate, term - 1, targetInstallment)) {
+            term--;
+        }
+        while (term <= maxTerm && !fits(loanAmount, annualRate, term, targetInstallment)) {
+            term++;
+        }
+
+        if (term > maxTerm) {
+            throw new InstallmentNotAffordableException(targetInstallment,
+                    "a loan of " + loanAmount + " needs more than " + maxTerm + " months");
+        }
+        return term;
+    }
+
+    private boolean fits(BigDecimal loanAmount, BigDecimal annualRate, int numberOfPayments, BigDecimal targetInstallment) {
+        return installmentEngine.calculateInstallment(loanAmount, annualRate, numberOfPayments).compareTo(targetInstallment) <= 0;
+    }
+}
@@ -0,0 +1,111 @@
+package com.github.renatinhah.backend_credit_simulator.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.renatinhah.backend_credit_simulator.dto.AmortizationScheduleEntry;
+import com.github.renatinhah.backend_credit_simulator.dto.AmortizationSchedulePage;
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationRequest;
+import com.github.renatinhah.backend_credit_simulator.exceptions.AgeNotSupportedException;
+import com.github.renatinhah.backend_credit_simulator.exceptions.LoanSimulationException;
+import com.github.renatinhah.backend_credit_simulator.service.amortization.AmortizationCalculator;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+@Service
+public class AmortizationScheduleService {
+
+    public static final int MAX_PAGE_SIZE = 120;
+
+    private static final int NEW_LINE = '\n';
+
+    private final LoanSimulationService loanSimulationService;
+    private final ObjectWriter entryWriter;
+
+    public AmortizationScheduleService(LoanSimulationService loanSimulationService, ObjectMapper objectMapper) {
+        this.loanSimulationService = loanSimulationService;
+        this.entryWriter = objectMapper.writerFor(AmortizationScheduleEntry.class);
+    }
+
+    /**
+     * Cronograma de amortização no sistema da requisição (Tabela Price por padrão), gerado sob demanda
+     * pelo {@link AmortizationCalculator}, sem materializar a lista completa.
+     */
+    public Stream<AmortizationScheduleEntry> schedule(LoanSimulationRequest request) throws LoanSimulationException {
+        Iterator<AmortizationScheduleEntry> iterator = createIterator(request);
+        return StreamSupport.stream(Spliterators.spliterator(iterator, request.getPaymentTermInMonths(),
+                Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE), false);
+    }
+
+    /**
+     * Página do cronograma. O tamanho é limitado a {@link #MAX_PAGE_SIZE} e só as parcelas da página ficam em memória.
+     */
+    public AmortizationSchedulePage schedulePage(LoanSimulationRequest request, int page, int size) throws LoanSimulationException {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        int pageNumber = Math.max(page, 0);
+        int totalInstallments = request.getPaymentTermInMonths();
+
+        Iterator<AmortizationScheduleEntry> iterator = createIterator(request);
+        List<AmortizationScheduleEntry> installments = StreamSupport.stream(
+                        Spliterators.spliterator(iterator, totalInstallments, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .skip((long) pageNumber * pageSize)
+                .limit(pageSize)
+                .toList();
+
+        return AmortizationSchedulePage.builder()
+                .page(pageNumber)
+                .size(pageSize)
+                .totalInstallments(totalInstallments)
+                .totalPages((totalInstallments + pageSize - 1) / pageSize)
+                .monthlyInstallment(monthlyInstallment(request))
+                .installments(installments)
+                .build();
+    }
+
+    /**
+     * Escreve o cronograma em NDJSON, uma parcela por linha.
+     */
+    public void writeSchedule(Stream<AmortizationScheduleEntry> schedule, OutputStream output) throws IOException {
+        Iterator<AmortizationScheduleEntry> entries = schedule.iterator();
+        while (entries.hasNext()) {
+            output.write(entryWriter.writeValueAsBytes(entries.next()));
+            output.write(NEW_LINE);
+        }
+        output.flush();
+    }
+
+    private Iterator<AmortizationScheduleEntry> createIterator(LoanSimulationRequest request) throws LoanSimulationException {
+        return calculate(request, (calculator, annualRate) ->
+                calculator.schedule(request.getLoanAmount(), annualRate, request.getPaymentTermInMonths()));
+    }
+
+    /**
+     * Parcela da cotação para o cabeçalho da página (no SAC, a primeira).
+     */
+    private BigDecimal monthlyInstallment(LoanSimulationRequest request) throws LoanSimulationException {
+        return calculate(request, (calculator, annualRate) ->
+                calculator.simulate(request.getLoanAmount(), annualRate, request.getPaymentTermInMonths()).getMonthlyInstallment()
+                        .toBigDecimal());
+    }
+
+    private <T> T calculate(LoanSimulationRequest request, BiFunction<AmortizationCalculator, BigDecimal, T> calculation)
+            throws LoanSimulationException {
+        try {
+            BigDecimal annualRate = loanSimulationService.resolveAnnualRate(request);
+            return calculation.apply(loanSimulationService.amortizationCalculator(request), annualRate);
+        } catch (AgeNotSupportedException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new LoanSimulationException(request.getLoanAmount(), request.getPaymentTermInMonths());
+        }
+    }
+}
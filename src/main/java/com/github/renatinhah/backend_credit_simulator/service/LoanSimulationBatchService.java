@@ -0,0 +1,108 @@
+package com.github.renatinhah.backend_credit_simulator.service;
+
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationBatchItem;
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationRequest;
+import com.github.renatinhah.backend_credit_simulator.exceptions.AgeNotSupportedException;
+import com.github.renatinhah.backend_credit_simulator.exceptions.BatchSizeExceededException;
+import com.github.renatinhah.backend_credit_simulator.exceptions.LoanSimulationException;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+@Service
+public class LoanSimulationBatchService {
+
+    private final LoanSimulationService loanSimulationService;
+    private final Validator validator;
+    private final ForkJoinPool forkJoinPool;
+    private final int maxBatchSize;
+
+    public LoanSimulationBatchService(LoanSimulationService loanSimulationService,
+                                      Validator validator,
+                                      @Value("${simulation.batch.parallelism:0}") int parallelism,
+                                      @Value("${simulation.batch.max-size:10000}") int maxBatchSize) {
+        this.loanSimulationService = loanSimulationService;
+        this.validator = validator;
+        this.forkJoinPool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Simula todas as requisições em paralelo, mantendo o resultado na mesma posição da entrada.
+     * Falhas de validação ou de regra de negócio são devolvidas por item, sem interromper o lote.
+     */
+    public List<LoanSimulationBatchItem> simulateBatch(List<LoanSimulationRequest> requests) {
+        if (requests.size() > maxBatchSize) {
+            throw new BatchSizeExceededException(requests.size(), maxBatchSize);
+        }
+
+        return mapInParallel(requests.size(), index -> simulateItem(index, requests.get(index)));
+    }
+
+    /**
+     * Executa a função para cada índice no pool do lote, preservando no resultado a ordem dos índices.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> mapInParallel(int size, IntFunction<T> mapper) {
+        Object[] results = new Object[size];
+        forkJoinPool.submit(() -> IntStream.range(0, size)
+                        .parallel()
+                        .forEach(index -> results[index] = mapper.apply(index)))
+                .join();
+
+        return (List<T>) Arrays.asList(results);
+    }
+
+    /**
+     * Valida e simula um único item do lote, convertendo erros em um mapa no mesmo formato do GlobalExceptionHandler.
+     */
+    public LoanSimulationBatchItem simulateItem(long index, LoanSimulationRequest request) {
+        if (Objects.isNull(request)) {
+            return failedItem(index, Map.of("request", "Simulation request is required"));
+        }
+
+        Set<ConstraintViolation<LoanSimulationRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            Map<String, String> errors = new HashMap<>();
+            for (ConstraintViolation<LoanSimulationRequest> violation : violations) {
+                errors.put(violation.getPropertyPath().toString(), violation.getMessage());
+            }
+            return failedItem(index, errors);
+        }
+
+        try {
+            return LoanSimulationBatchItem.builder()
+                    .index(index)
+                    .simulation(loanSimulationService.simulate(request))
+                    .build();
+        } catch (AgeNotSupportedException e) {
+            return failedItem(index, Map.of("error", e.getMessage(), "type", "AGE_NOT_SUPPORTED"));
+        } catch (LoanSimulationException e) {
+            return failedItem(index, Map.of("error", e.getMessage(), "type", "LOAN_SIMULATION_ERROR"));
+        }
+    }
+
+    public LoanSimulationBatchItem failedItem(long index, Map<String, String> errors) {
+        return LoanSimulationBatchItem.builder()
+                .index(index)
+                .errors(errors)
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        forkJoinPool.shutdown();
+    }
+}
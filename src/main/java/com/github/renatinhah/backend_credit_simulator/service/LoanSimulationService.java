@@ -1,86 +1,150 @@
 package com.github.renatinhah.backend_credit_simulator.service;
 
-import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationDetails;
 import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationRequest;
 import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationResponse;
+import com.github.renatinhah.backend_credit_simulator.exceptions.AgeNotSupportedException;
 import com.github.renatinhah.backend_credit_simulator.exceptions.LoanSimulationException;
-import com.github.renatinhah.backend_credit_simulator.model.enums.InterestRateEnum;
+import com.github.renatinhah.backend_credit_simulator.metrics.SimulationMetrics;
+import com.github.renatinhah.backend_credit_simulator.model.RateBand;
+import com.github.renatinhah.backend_credit_simulator.service.SimulationResponseCache.QuoteKey;
+import com.github.renatinhah.backend_credit_simulator.service.amortization.AmortizationCalculator;
+import com.github.renatinhah.backend_credit_simulator.service.amortization.AmortizationCalculators;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
-import java.math.MathContext;
-import java.math.RoundingMode;
+import java.time.Clock;
 import java.time.LocalDate;
 import java.time.Period;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Service
+@RequiredArgsConstructor
 public class LoanSimulationService {
     public static final int MONTHS_IN_YEAR = 12;
-    private static final MathContext MATH_CONTEXT = new MathContext(34, RoundingMode.HALF_UP);
+    public static final String VARIABLE_RATE_BUCKET = "VARIABLE_RATE";
+
+    private final Clock clock;
+    private final AmortizationCalculators amortizationCalculators;
+    private final RateTableService rateTableService;
+    private final SimulationMetrics simulationMetrics;
+    private final SimulationResponseCache simulationResponseCache;
+    private final SimulationCoalescer simulationCoalescer;
+    private final List<SimulationListener> simulationListeners;
 
     public LoanSimulationResponse simulate(LoanSimulationRequest request) throws LoanSimulationException {
         try {
-            BigDecimal annualRate;
-            if (Objects.isNull(request.getVariableInterestRate())) {
-                int age = calculateAge(request.getBirthDate());
-                annualRate = new BigDecimal(InterestRateEnum.getRateByAge(age).getRate());
-            } else {
-                annualRate = request.getVariableInterestRate();
-            }
-
-            BigDecimal monthlyPayment = calculateInstallment(request, annualRate);
-
-            LoanSimulationDetails details = calculateSimulationDetails(request, monthlyPayment);
-
-            return createLoanSimulationResponse(monthlyPayment, details);
+            Quote quote = quote(request);
+            // cotações idênticas simultâneas esperam a primeira, antes até do cache (que pode estar desligado ou vencido)
+            return publish(quote, simulationCoalescer.get(quote.key(), () -> calculate(quote)));
+        } catch (AgeNotSupportedException | LoanSimulationException e) {
+            throw e;
         } catch (Exception e) {
             throw new LoanSimulationException(request.getLoanAmount(), request.getPaymentTermInMonths());
         }
     }
 
-    private int calculateAge(LocalDate birthDate) {
-        return Period.between(birthDate, LocalDate.now()).getYears();
+    /**
+     * Como {@link #simulate}, sem bloquear a thread: uma cotação idêntica em andamento não é esperada aqui, a resposta
+     * chega pelo future (para o event loop da pilha reativa). Os erros são os mesmos de {@link #simulate}.
+     */
+    public CompletableFuture<LoanSimulationResponse> simulateAsync(LoanSimulationRequest request) {
+        Quote quote;
+        try {
+            quote = quote(request);
+        } catch (AgeNotSupportedException | LoanSimulationException e) {
+            return CompletableFuture.failedFuture(e);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(new LoanSimulationException(request.getLoanAmount(), request.getPaymentTermInMonths()));
+        }
+        return simulationCoalescer.submit(quote.key(), () -> calculate(quote))
+                .handle((response, failure) -> {
+                    if (failure != null) {
+                        throw new CompletionException(calculationFailure(request, failure));
+                    }
+                    try {
+                        return publish(quote, response);
+                    } catch (RuntimeException e) {
+                        throw new CompletionException(calculationFailure(request, e));
+                    }
+                });
     }
 
-    private BigDecimal calculateInstallment(LoanSimulationRequest request, BigDecimal rate) {
-        BigDecimal monthRate = rate.divide(new BigDecimal(MONTHS_IN_YEAR), MATH_CONTEXT);
+    /**
+     * Erro do cálculo como na cotação síncrona: {@link Error} passa, o resto vira {@link LoanSimulationException}.
+     */
+    private static Throwable calculationFailure(LoanSimulationRequest request, Throwable failure) {
+        Throwable cause = failure instanceof CompletionException ? failure.getCause() : failure;
+        return cause instanceof Error
+                ? cause
+                : new LoanSimulationException(request.getLoanAmount(), request.getPaymentTermInMonths());
+    }
 
-        BigDecimal loanAmount = request.getLoanAmount();
-        int numberOfPayments = request.getPaymentTermInMonths();
-        BigDecimal sumRateOne = BigDecimal.ONE.add(monthRate, MATH_CONTEXT); // (1 + r)
+    private Quote quote(LoanSimulationRequest request) throws LoanSimulationException {
+        long start = System.nanoTime();
+        RateBand rateBand = resolveRateBand(request);
+        simulationMetrics.recordRateResolution(System.nanoTime() - start);
+        if (rateBand.annualRate().signum() <= 0 || request.getPaymentTermInMonths() < 1) {
+            // sem solução na Tabela Price: recusa antes do cálculo, sem passar por uma ArithmeticException
+            throw new LoanSimulationException(request.getLoanAmount(), request.getPaymentTermInMonths());
+        }
 
-        // (1 + r)^(-n)   ->     1 / (1 + r)^n
-        BigDecimal inversePower = BigDecimal.ONE.divide(
-                sumRateOne.pow(numberOfPayments, MATH_CONTEXT),
-                MATH_CONTEXT
-        );
-        BigDecimal divisor = BigDecimal.ONE.subtract(inversePower, MATH_CONTEXT); // 1 - (1 + r)^(-n)
-        BigDecimal dividend = loanAmount.multiply(monthRate, MATH_CONTEXT); // PV * r
+        AmortizationCalculator calculator = amortizationCalculator(request);
+        QuoteKey key = QuoteKey.of(request.getLoanAmount(), rateBand.annualRate(), request.getPaymentTermInMonths(),
+                calculator.system());
+        return new Quote(request, rateBand, calculator, key);
+    }
 
-        return dividend.divide(divisor, 2, RoundingMode.HALF_UP);
+    private LoanSimulationResponse calculate(Quote quote) {
+        return simulationResponseCache.get(quote.key(),
+                () -> calculateSimulation(quote.calculator(), quote.request(), quote.rateBand().annualRate()));
     }
 
+    private LoanSimulationResponse publish(Quote quote, LoanSimulationResponse response) {
+        simulationMetrics.countQuote(quote.rateBand().name());
+        for (SimulationListener listener : simulationListeners) {
+            listener.onSimulation(quote.request(), quote.rateBand(), response);
+        }
+        return response;
+    }
+
+    /**
+     * Taxa anual aplicada à simulação: a taxa variável, quando informada, ou a taxa da faixa etária do cliente na tabela vigente.
+     */
+    public BigDecimal resolveAnnualRate(LoanSimulationRequest request) {
+        return resolveRateBand(request).annualRate();
+    }
 
-    private LoanSimulationDetails calculateSimulationDetails(LoanSimulationRequest request, BigDecimal monthlyPayment) {
-        BigDecimal totalAmountToPay = monthlyPayment.multiply(new BigDecimal(request.getPaymentTermInMonths()));
-        totalAmountToPay = totalAmountToPay.setScale(2, RoundingMode.HALF_UP);
+    private RateBand resolveRateBand(LoanSimulationRequest request) {
+        if (Objects.isNull(request.getVariableInterestRate())) {
+            int age = calculateAge(request.getBirthDate());
+            return rateTableService.resolve(age);
+        }
+        return new RateBand(VARIABLE_RATE_BUCKET, 0, Integer.MAX_VALUE, request.getVariableInterestRate());
+    }
 
-        BigDecimal totalInterest = totalAmountToPay.subtract(request.getLoanAmount());
-        totalInterest = totalInterest.setScale(2, RoundingMode.HALF_UP);
+    /**
+     * Calculadora do sistema de amortização pedido (Tabela Price quando não informado).
+     */
+    public AmortizationCalculator amortizationCalculator(LoanSimulationRequest request) {
+        return amortizationCalculators.get(request.getAmortizationSystem());
+    }
 
-        return LoanSimulationDetails.builder()
-                .totalAmountToPay(totalAmountToPay)
-                .totalInterest(totalInterest)
-                .build();
+    private LoanSimulationResponse calculateSimulation(AmortizationCalculator calculator, LoanSimulationRequest request,
+                                                       BigDecimal annualRate) {
+        long start = System.nanoTime();
+        LoanSimulationResponse response = calculator.simulate(request.getLoanAmount(), annualRate, request.getPaymentTermInMonths());
+        simulationMetrics.recordInstallment(System.nanoTime() - start);
+        return response;
     }
 
-    private LoanSimulationResponse createLoanSimulationResponse(BigDecimal monthlyPayment,LoanSimulationDetails details) {
-        return LoanSimulationResponse.builder()
-                .totalAmountToPay(details.getTotalAmountToPay())
-                .monthlyInstallment(monthlyPayment.setScale(2, RoundingMode.HALF_UP))
-                .totalInterest(details.getTotalInterest())
-                .build();
+    private int calculateAge(LocalDate birthDate) {
+        return Period.between(birthDate, LocalDate.now(clock)).getYears();
     }
 
+    private record Quote(LoanSimulationRequest request, RateBand rateBand, AmortizationCalculator calculator, QuoteKey key) {
+    }
 }
@@ -0,0 +1,196 @@
+package com.github.renatinhah.backend_credit_simulator.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationBatchItem;
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class LoanSimulationStreamService {
+
+    private static final int NEW_LINE = '\n';
+
+    private final LoanSimulationBatchService loanSimulationBatchService;
+    private final ObjectReader requestReader;
+    private final ObjectWriter itemWriter;
+    private final int chunkSize;
+    private final int maxLineLength;
+
+    public LoanSimulationStreamService(LoanSimulationBatchService loanSimulationBatchService,
+                                       ObjectMapper objectMapper,
+                                       @Value("${simulation.stream.chunk-size:512}") int chunkSize,
+                                       @Value("${simulation.stream.max-line-length:65536}") int maxLineLength) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("simulation.stream.chunk-size must be at least 1: " + chunkSize);
+        }
+        if (maxLineLength < 1) {
+            throw new IllegalArgumentException("simulation.stream.max-line-length must be at least 1: " + maxLineLength);
+        }
+        this.loanSimulationBatchService = loanSimulationBatchService;
+        this.requestReader = objectMapper.readerFor(LoanSimulationRequest.class);
+        this.itemWriter = objectMapper.writerFor(LoanSimulationBatchItem.class);
+        this.chunkSize = chunkSize;
+        this.maxLineLength = maxLineLength;
+    }
+
+    /**
+     * Lê requisições em NDJSON (uma por linha) e escreve um resultado por linha, na mesma ordem.
+     * No máximo um bloco de {@code chunkSize} registros fica em memória: o próximo bloco só é lido
+     * depois que o anterior foi escrito, então um consumidor lento segura a leitura da entrada. Uma linha com mais de
+     * {@code maxLineLength} caracteres não é montada: é descartada até a próxima quebra e vira um item
+     * {@code MALFORMED_RECORD}.
+     *
+     * @return quantidade de registros processados
+     */
+    public long simulateStream(InputStream input, OutputStream output) throws IOException {
+        LineReader reader = new LineReader(new InputStreamReader(input, StandardCharsets.UTF_8), maxLineLength);
+        // null marca uma linha acima do limite
+        List<String> chunk = new ArrayList<>(chunkSize);
+        long processed = 0;
+
+        while (reader.next()) {
+            String line = reader.line();
+            if (line != null && line.isBlank()) {
+                continue;
+            }
+            chunk.add(line);
+            if (chunk.size() == chunkSize) {
+                processed += writeChunk(processed, chunk, output);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            processed += writeChunk(processed, chunk, output);
+        }
+
+        output.flush();
+        return processed;
+    }
+
+    private int writeChunk(long firstIndex, List<String> chunk, OutputStream output) throws IOException {
+        List<byte[]> records = loanSimulationBatchService.mapInParallel(chunk.size(),
+                offset -> simulateRecord(firstIndex + offset, chunk.get(offset)));
+
+        for (byte[] record : records) {
+            output.write(record);
+            output.write(NEW_LINE);
+        }
+        output.flush();
+        return records.size();
+    }
+
+    /**
+     * Simula um registro NDJSON. Linhas que não são um JSON válido viram um item com erro {@code MALFORMED_RECORD}.
+     */
+    public LoanSimulationBatchItem simulateLine(long index, String line) {
+        try {
+            LoanSimulationRequest request = requestReader.readValue(line);
+            return loanSimulationBatchService.simulateItem(index, request);
+        } catch (JsonProcessingException e) {
+            return loanSimulationBatchService.failedItem(index, Map.of(
+                    "error", "Malformed simulation record: " + e.getOriginalMessage(),
+                    "type", "MALFORMED_RECORD"));
+        }
+    }
+
+    private byte[] simulateRecord(long index, String line) {
+        LoanSimulationBatchItem item = line == null
+                ? loanSimulationBatchService.failedItem(index, Map.of(
+                        "error", "Malformed simulation record: longer than " + maxLineLength + " characters",
+                        "type", "MALFORMED_RECORD"))
+                : simulateLine(index, line);
+        try {
+            return itemWriter.writeValueAsBytes(item);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Leitor de linhas com tamanho máximo: o que passa do limite é descartado até a próxima quebra, sem ir para a
+     * memória ({@link java.io.BufferedReader#readLine()} montaria a linha inteira, do tamanho do corpo).
+     */
+    private static final class LineReader {
+
+        private final Reader reader;
+        private final int maxLength;
+        private final char[] buffer = new char[8192];
+        private final StringBuilder line = new StringBuilder();
+        private int position;
+        private int limit;
+        private boolean tooLong;
+
+        LineReader(Reader reader, int maxLength) {
+            this.reader = reader;
+            this.maxLength = maxLength;
+        }
+
+        /**
+         * Avança para a próxima linha.
+         *
+         * @return {@code false} no fim da entrada
+         */
+        boolean next() throws IOException {
+            line.setLength(0);
+            tooLong = false;
+            boolean read = false;
+            while (true) {
+                if (position == limit) {
+                    limit = Math.max(reader.read(buffer, 0, buffer.length), 0);
+                    position = 0;
+                    if (limit == 0) {
+                        return read;
+                    }
+                }
+                read = true;
+                int start = position;
+                while (position < limit && buffer[position] != NEW_LINE) {
+                    position++;
+                }
+                append(start, position);
+                if (position < limit) {
+                    position++;
+                    return true;
+                }
+            }
+        }
+
+        /**
+         * Linha atual sem a quebra, ou {@code null} quando ela passou do limite.
+         */
+        String line() {
+            if (tooLong) {
+                return null;
+            }
+            int length = line.length();
+            return length > 0 && line.charAt(length - 1) == '\r' ? line.substring(0, length - 1) : line.toString();
+        }
+
+        private void append(int start, int end) {
+            if (tooLong) {
+                return;
+            }
+            if (line.length() + (end - start) > maxLength) {
+                tooLong = true;
+                line.setLength(0);
+                return;
+            }
+            line.append(buffer, start, end - start);
+        }
+    }
+}
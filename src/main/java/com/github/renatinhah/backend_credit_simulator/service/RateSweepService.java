@@ -0,0 +1,82 @@
+package com.github.renatinhah.backend_credit_simulator.service;
+
+import com.github.renatinhah.backend_credit_simulator.dto.DecimalRange;
+import com.github.renatinhah.backend_credit_simulator.dto.RateSweepRequest;
+import com.github.renatinhah.backend_credit_simulator.dto.RateSweepResponse;
+import com.github.renatinhah.backend_credit_simulator.dto.TermRange;
+import com.github.renatinhah.backend_credit_simulator.exceptions.SweepSizeExceededException;
+import com.github.renatinhah.backend_credit_simulator.service.engine.InstallmentGridEngine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class RateSweepService {
+
+    private static final BigDecimal MAX_STEPS = BigDecimal.valueOf(Long.MAX_VALUE - 1);
+
+    private final InstallmentGridEngine installmentGridEngine;
+    private final long maxCells;
+
+    public RateSweepService(InstallmentGridEngine installmentGridEngine,
+                            @Value("${simulation.sweep.max-cells:100000}") long maxCells) {
+        this.installmentGridEngine = installmentGridEngine;
+        this.maxCells = maxCells;
+    }
+
+    /**
+     * Grade de parcelas para todas as combinações de valor, prazo e taxa das faixas informadas.
+     * O número de células é conferido antes de qualquer cálculo ou alocação.
+     */
+    public RateSweepResponse sweep(RateSweepRequest request) {
+        DecimalRange amountRange = request.getLoanAmount();
+        TermRange termRange = request.getPaymentTermInMonths();
+        DecimalRange rateRange = request.getVariableInterestRate();
+
+        long amountCount = count(amountRange);
+        long termCount = (termRange.getTo() - termRange.getFrom()) / termRange.getStep() + 1;
+        long rateCount = count(rateRange);
+        long cells = (long) Math.min((double) amountCount * termCount * rateCount, Long.MAX_VALUE);
+        if (cells > maxCells) {
+            throw new SweepSizeExceededException(cells, maxCells);
+        }
+
+        List<BigDecimal> rates = values(rateRange, (int) rateCount);
+        BigDecimal[][][] installments = installmentGridEngine.calculateGrid(
+                amountRange.getFrom(), amountRange.getStep(), (int) amountCount,
+                termRange.getFrom(), termRange.getStep(), (int) termCount,
+                rates);
+
+        List<Integer> terms = new ArrayList<>((int) termCount);
+        // por índice: somar o passo ao prazo poderia estourar o int e nunca passar do fim da faixa
+        for (int i = 0; i < termCount; i++) {
+            terms.add(termRange.getFrom() + i * termRange.getStep());
+        }
+
+        return RateSweepResponse.builder()
+                .loanAmounts(values(amountRange, (int) amountCount))
+                .paymentTermsInMonths(terms)
+                .variableInterestRates(rates)
+                .monthlyInstallments(installments)
+                .build();
+    }
+
+    private static long count(DecimalRange range) {
+        BigDecimal steps = range.getTo().subtract(range.getFrom()).divide(range.getStep(), 0, RoundingMode.FLOOR);
+        return steps.min(MAX_STEPS).longValue() + 1;
+    }
+
+    private static List<BigDecimal> values(DecimalRange range, int count) {
+        List<BigDecimal> values = new ArrayList<>(count);
+        BigDecimal value = range.getFrom();
+        for (int i = 0; i < count; i++) {
+            values.add(value);
+            value = value.add(range.getStep());
+        }
+        return values;
+    }
+}
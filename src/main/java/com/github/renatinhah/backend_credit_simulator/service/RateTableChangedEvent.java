@@ -0,0 +1,9 @@
+package com.github.renatinhah.backend_credit_simulator.service;
+
+import com.github.renatinhah.backend_credit_simulator.model.RateTable;
+
+/**
+ * Publicado quando uma nova versão da tabela de taxas passa a valer.
+ */
+public record RateTableChangedEvent(RateTable previous, RateTable current) {
+}
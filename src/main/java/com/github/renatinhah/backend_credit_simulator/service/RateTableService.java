@@ -0,0 +1,121 @@
+package com.github.renatinhah.backend_credit_simulator.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.renatinhah.backend_credit_simulator.exceptions.AgeNotSupportedException;
+import com.github.renatinhah.backend_credit_simulator.model.RateBand;
+import com.github.renatinhah.backend_credit_simulator.model.RateTable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Mantém a versão vigente da tabela de taxas por faixa etária.
+ * <p>
+ * Sem {@code simulation.rate-table.location}, vale a tabela embutida ({@code InterestRateEnum}). Com um arquivo
+ * configurado, ele é relido quando modificado; a nova tabela é validada e indexada antes de ser publicada com
+ * uma troca atômica de referência, então as consultas nunca bloqueiam nem enxergam uma tabela pela metade.
+ * Um arquivo inválido é ignorado e a versão anterior continua valendo.
+ */
+@Slf4j
+@Service
+public class RateTableService {
+
+    private final AtomicReference<RateTable> current = new AtomicReference<>();
+    private final Path location;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private FileTime lastModified;
+
+    public RateTableService(@Value("${simulation.rate-table.location:}") String location,
+                            ObjectMapper objectMapper,
+                            ApplicationEventPublisher eventPublisher) {
+        this.location = location.isBlank() ? null : Path.of(location);
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+
+        if (this.location == null) {
+            current.set(RateTable.embedded());
+        } else {
+            lastModified = readLastModified();
+            current.set(load());
+        }
+        log.info("Rate table version '{}' loaded with {} bands", current().getVersion(), current().getBands().size());
+    }
+
+    public RateTable current() {
+        return current.get();
+    }
+
+    /**
+     * Faixa vigente para a idade informada.
+     */
+    public RateBand resolve(int age) {
+        RateBand band = current.get().findByAge(age);
+        if (band == null) {
+            throw new AgeNotSupportedException(age);
+        }
+        return band;
+    }
+
+    @Scheduled(fixedDelayString = "${simulation.rate-table.reload-interval-ms:30000}")
+    public void reloadIfModified() {
+        if (location == null) {
+            return;
+        }
+        try {
+            FileTime modified = readLastModified();
+            if (!modified.equals(lastModified)) {
+                lastModified = modified;
+                reload();
+            }
+        } catch (RuntimeException e) {
+            log.error("Could not reload rate table from {}, keeping version '{}'", location, current().getVersion(), e);
+        }
+    }
+
+    /**
+     * Relê o arquivo configurado e publica a nova versão.
+     */
+    public synchronized RateTable reload() {
+        if (location == null) {
+            return current();
+        }
+        RateTable loaded = load();
+        RateTable previous = current.getAndSet(loaded);
+        log.info("Rate table reloaded: version '{}' -> '{}'", previous.getVersion(), loaded.getVersion());
+        eventPublisher.publishEvent(new RateTableChangedEvent(previous, loaded));
+        return loaded;
+    }
+
+    private RateTable load() {
+        try (InputStream input = Files.newInputStream(location)) {
+            RateTableFile file = objectMapper.readValue(input, RateTableFile.class);
+            return RateTable.of(file.version(), Instant.now(), file.bands());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read rate table from " + location, e);
+        }
+    }
+
+    private FileTime readLastModified() {
+        try {
+            return Files.getLastModifiedTime(location);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read rate table from " + location, e);
+        }
+    }
+
+    private record RateTableFile(String version, List<RateBand> bands) {
+    }
+}
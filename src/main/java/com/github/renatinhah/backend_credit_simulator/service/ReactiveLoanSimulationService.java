@@ -0,0 +1,124 @@
+package com.github.renatinhah.backend_credit_simulator.service;
+
+import com.github.renatinhah.backend_credit_simulator.dto.AffordabilityRequest;
+import com.github.renatinhah.backend_credit_simulator.dto.AffordabilityResponse;
+import com.github.renatinhah.backend_credit_simulator.dto.AmortizationScheduleEntry;
+import com.github.renatinhah.backend_credit_simulator.dto.AmortizationSchedulePage;
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationBatchItem;
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationRequest;
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationResponse;
+import com.github.renatinhah.backend_credit_simulator.dto.RateSweepRequest;
+import com.github.renatinhah.backend_credit_simulator.dto.RateSweepResponse;
+import com.github.renatinhah.backend_credit_simulator.exceptions.BatchSizeExceededException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Composição reativa das simulações. O cálculo continua no {@link LoanSimulationService} (e na validação por item do
+ * {@link LoanSimulationBatchService}); aqui só se decide onde e quantos cálculos rodam ao mesmo tempo.
+ * Simulações unitárias rodam na própria thread de I/O, já que levam microssegundos; lotes e streams vão para o
+ * scheduler paralelo, com no máximo {@code concurrency} itens em voo, e só pedem mais itens conforme o cliente consome.
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveLoanSimulationService {
+
+    private final LoanSimulationService loanSimulationService;
+    private final LoanSimulationBatchService loanSimulationBatchService;
+    private final LoanSimulationStreamService loanSimulationStreamService;
+    private final AmortizationScheduleService amortizationScheduleService;
+    private final RateSweepService rateSweepService;
+    private final AffordabilityService affordabilityService;
+    private final Scheduler scheduler;
+    private final int concurrency;
+    private final int maxBatchSize;
+
+    public ReactiveLoanSimulationService(LoanSimulationService loanSimulationService,
+                                         LoanSimulationBatchService loanSimulationBatchService,
+                                         LoanSimulationStreamService loanSimulationStreamService,
+                                         AmortizationScheduleService amortizationScheduleService,
+                                         RateSweepService rateSweepService,
+                                         AffordabilityService affordabilityService,
+                                         @Value("${simulation.batch.parallelism:0}") int parallelism,
+                                         @Value("${simulation.batch.max-size:10000}") int maxBatchSize) {
+        this.loanSimulationService = loanSimulationService;
+        this.loanSimulationBatchService = loanSimulationBatchService;
+        this.loanSimulationStreamService = loanSimulationStreamService;
+        this.amortizationScheduleService = amortizationScheduleService;
+        this.rateSweepService = rateSweepService;
+        this.affordabilityService = affordabilityService;
+        this.scheduler = Schedulers.parallel();
+        this.concurrency = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Cotação na própria thread de I/O; uma cotação idêntica em andamento em outra thread é encadeada pelo future,
+     * sem bloquear o event loop à espera dela.
+     */
+    public Mono<LoanSimulationResponse> simulate(LoanSimulationRequest request) {
+        return Mono.fromFuture(() -> loanSimulationService.simulateAsync(request));
+    }
+
+    /**
+     * Lote com a mesma semântica do endpoint servlet: acima de {@code simulation.batch.max-size} o lote inteiro é
+     * recusado, por isso a lista de entrada é lida antes de começar; a saída é emitida em ordem, conforme demanda.
+     */
+    public Flux<LoanSimulationBatchItem> simulateBatch(Flux<LoanSimulationRequest> requests) {
+        return requests.collectList()
+                .flatMapMany(list -> {
+                    if (list.size() > maxBatchSize) {
+                        return Flux.error(new BatchSizeExceededException(list.size(), maxBatchSize));
+                    }
+                    return Flux.range(0, list.size())
+                            .flatMapSequential(index -> compute(() -> loanSimulationBatchService.simulateItem(index, list.get(index))),
+                                    concurrency, concurrency);
+                });
+    }
+
+    /**
+     * Stream NDJSON ponta a ponta: cada linha só é lida do socket quando há espaço entre os itens em voo,
+     * então um cliente lento segura a leitura da entrada em vez de acumular resultados em memória.
+     */
+    public Flux<LoanSimulationBatchItem> simulateStream(Flux<String> lines) {
+        return lines.filter(line -> !line.isBlank())
+                .index()
+                .flatMapSequential(record -> compute(() -> loanSimulationStreamService.simulateLine(record.getT1(), record.getT2())),
+                        concurrency, concurrency);
+    }
+
+    /**
+     * Grade de sensibilidade; pode ter milhares de células, então é calculada fora do event loop.
+     */
+    public Mono<RateSweepResponse> sweep(RateSweepRequest request) {
+        return compute(() -> rateSweepService.sweep(request));
+    }
+
+    /**
+     * Simulação inversa: forma fechada e poucas conferências, então roda na própria thread de I/O; a cotação da
+     * solução é encadeada como em {@link #simulate}.
+     */
+    public Mono<AffordabilityResponse> affordability(AffordabilityRequest request) {
+        return Mono.fromFuture(() -> affordabilityService.solveAsync(request));
+    }
+
+    public Mono<AmortizationSchedulePage> schedulePage(LoanSimulationRequest request, int page, int size) {
+        return Mono.fromCallable(() -> amortizationScheduleService.schedulePage(request, page, size));
+    }
+
+    public Flux<AmortizationScheduleEntry> schedule(LoanSimulationRequest request) {
+        return Mono.fromCallable(() -> amortizationScheduleService.schedule(request))
+                .flatMapMany(Flux::fromStream);
+    }
+
+    private <T> Mono<T> compute(Callable<T> computation) {
+        return Mono.fromCallable(computation).subscribeOn(scheduler);
+    }
+}
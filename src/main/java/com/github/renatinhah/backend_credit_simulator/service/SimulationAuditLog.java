@@ -0,0 +1,264 @@
+package com.github.renatinhah.backend_credit_simulator.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationRequest;
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationResponse;
+import com.github.renatinhah.backend_credit_simulator.model.RateBand;
+import com.github.renatinhah.backend_credit_simulator.model.enums.AuditOverflowPolicyEnum;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Histórico de simulações, gravado fora do caminho da requisição.
+ * <p>
+ * Cada cotação vira um {@link SimulationAuditRecord} numa fila limitada ({@code simulation.audit.queue-size});
+ * uma única thread de fundo esvazia a fila em lotes de até {@code simulation.audit.batch-size} registros e os
+ * acrescenta como NDJSON ao arquivo {@code simulation.audit.file}, com um flush por lote. O primeiro registro de
+ * um lote espera no máximo {@code simulation.audit.flush-interval} até ser gravado. Com a fila cheia vale a
+ * {@link AuditOverflowPolicyEnum} configurada.
+ * <p>
+ * Métricas: {@code simulation.audit.queue.size}, {@code simulation.audit.lag} (da cotação até a gravação),
+ * {@code simulation.audit.flush} e {@code simulation.audit.records{outcome=written|dropped|failed}}.
+ * <p>
+ * Desligado por padrão: ligado, exige um {@code simulation.audit.file} absoluto, para não criar o arquivo (nem a
+ * thread de gravação) no diretório de trabalho de quem sobe a JVM, como nos modos de linha de comando e nos testes.
+ */
+@Slf4j
+@Component
+public class SimulationAuditLog implements SimulationListener {
+
+    private final boolean enabled;
+    private final Path file;
+    private final BlockingQueue<SimulationAuditRecord> queue;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final AuditOverflowPolicyEnum overflowPolicy;
+    private final Clock clock;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter recordWriter;
+    private final Timer lagTimer;
+    private final Timer flushTimer;
+    private final Counter writtenCounter;
+    private final Counter droppedCounter;
+    private final Counter failedCounter;
+    private Thread writer;
+    private JsonGenerator output;
+    private volatile boolean running;
+
+    public SimulationAuditLog(@Value("${simulation.audit.enabled:false}") boolean enabled,
+                              @Value("${simulation.audit.file:#{null}}") Path file,
+                              @Value("${simulation.audit.queue-size:65536}") int queueSize,
+                              @Value("${simulation.audit.batch-size:1024}") int batchSize,
+                              @Value("${simulation.audit.flush-interval:200ms}") Duration flushInterval,
+                              @Value("${simulation.audit.overflow-policy:DROP_NEWEST}") AuditOverflowPolicyEnum overflowPolicy,
+                              Clock clock,
+                              ObjectMapper objectMapper,
+                              MeterRegistry meterRegistry) {
+        if (enabled && (file == null || !file.isAbsolute())) {
+            throw new IllegalArgumentException(
+                    "simulation.audit.file must be an absolute path when the audit log is enabled: " + file);
+        }
+        this.enabled = enabled;
+        this.file = file;
+        this.queue = new ArrayBlockingQueue<>(queueSize);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.overflowPolicy = overflowPolicy;
+        this.clock = clock;
+        this.objectMapper = objectMapper;
+        this.recordWriter = objectMapper.writerFor(SimulationAuditRecord.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        Gauge.builder("simulation.audit.queue.size", queue, BlockingQueue::size)
+                .description("Registros de auditoria aguardando gravação")
+                .register(meterRegistry);
+        this.lagTimer = Timer.builder("simulation.audit.lag")
+                .description("Tempo entre a cotação e a gravação do registro de auditoria")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("simulation.audit.flush")
+                .description("Duração da gravação de um lote de auditoria")
+                .register(meterRegistry);
+        this.writtenCounter = recordsCounter(meterRegistry, "written");
+        this.droppedCounter = recordsCounter(meterRegistry, "dropped");
+        this.failedCounter = recordsCounter(meterRegistry, "failed");
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        writer = Thread.ofPlatform().name("simulation-audit-writer").daemon().start(this::drain);
+    }
+
+    @Override
+    public void onSimulation(LoanSimulationRequest request, RateBand rateBand, LoanSimulationResponse response) {
+        if (!enabled) {
+            return;
+        }
+        SimulationAuditRecord record = new SimulationAuditRecord(clock.instant(), request, rateBand.name(),
+                rateBand.annualRate(), response);
+        if (queue.offer(record)) {
+            return;
+        }
+        switch (overflowPolicy) {
+            case DROP_NEWEST -> droppedCounter.increment();
+            case DROP_OLDEST -> {
+                while (!queue.offer(record)) {
+                    if (queue.poll() != null) {
+                        droppedCounter.increment();
+                    }
+                }
+            }
+            case BLOCK -> block(record);
+        }
+    }
+
+    /**
+     * Para de aceitar registros, grava o que ainda está na fila e fecha o arquivo.
+     */
+    @PreDestroy
+    public void close() throws InterruptedException {
+        if (writer == null) {
+            return;
+        }
+        running = false;
+        writer.join();
+        writer = null;
+    }
+
+    private void block(SimulationAuditRecord record) {
+        try {
+            while (running && !queue.offer(record, flushIntervalNanos, TimeUnit.NANOSECONDS)) {
+                // espera o writer abrir espaço; se ele parar, o registro é descartado
+            }
+            if (!running) {
+                droppedCounter.increment();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            droppedCounter.increment();
+        }
+    }
+
+    private void drain() {
+        List<SimulationAuditRecord> batch = new ArrayList<>(batchSize);
+        try {
+            while (running || !queue.isEmpty()) {
+                SimulationAuditRecord first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                fill(batch, System.nanoTime() + flushIntervalNanos);
+                write(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            closeOutput();
+        }
+    }
+
+    /**
+     * Completa o lote com o que chegar até o prazo, sem passar de {@code batchSize}.
+     */
+    private void fill(List<SimulationAuditRecord> batch, long deadline) throws InterruptedException {
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0 || !running) {
+                return;
+            }
+            SimulationAuditRecord next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void write(List<SimulationAuditRecord> batch) {
+        long start = System.nanoTime();
+        try {
+            JsonGenerator out = output();
+            for (SimulationAuditRecord record : batch) {
+                recordWriter.writeValue(out, record);
+                out.writeRaw('\n');
+            }
+            out.flush();
+        } catch (IOException e) {
+            log.error("Could not write {} simulation audit records to {}", batch.size(), file, e);
+            failedCounter.increment(batch.size());
+            closeOutput();
+            return;
+        }
+        flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        writtenCounter.increment(batch.size());
+        long now = clock.millis();
+        for (SimulationAuditRecord record : batch) {
+            lagTimer.record(now - record.simulatedAt().toEpochMilli(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Gerador JSON aberto sobre o arquivo durante toda a vida do writer: os registros são serializados direto no
+     * buffer dele, sem um {@code byte[]} intermediário por registro.
+     */
+    private JsonGenerator output() throws IOException {
+        if (output == null) {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            output = objectMapper.getFactory().createGenerator(Files.newOutputStream(file,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND));
+            output.setRootValueSeparator(null); // cada registro termina a própria linha
+        }
+        return output;
+    }
+
+    private void closeOutput() {
+        if (output == null) {
+            return;
+        }
+        try {
+            output.close();
+        } catch (IOException e) {
+            log.warn("Could not close simulation audit file {}", file, e);
+        }
+        output = null;
+    }
+
+    private static Counter recordsCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("simulation.audit.records")
+                .description("Registros de auditoria por resultado da gravação")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,18 @@
+package com.github.renatinhah.backend_credit_simulator.service;
+
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationRequest;
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationResponse;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Linha do histórico de simulações: requisição, faixa aplicada ({@code InterestRateEnum}/faixa da tabela vigente,
+ * ou {@code VARIABLE_RATE}) com a taxa anual, e a resposta devolvida ao cliente.
+ */
+public record SimulationAuditRecord(Instant simulatedAt,
+                                    LoanSimulationRequest request,
+                                    String rateBand,
+                                    BigDecimal annualRate,
+                                    LoanSimulationResponse response) {
+}
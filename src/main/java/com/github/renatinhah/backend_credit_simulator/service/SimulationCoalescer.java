@@ -0,0 +1,145 @@
+package com.github.renatinhah.backend_credit_simulator.service;
+
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationResponse;
+import com.github.renatinhah.backend_credit_simulator.service.SimulationResponseCache.QuoteKey;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalescência (single-flight) das cotações em andamento: chamadas simultâneas com a mesma requisição canônica
+ * ({@link QuoteKey}) compartilham um único cálculo e a mesma resposta.
+ * <p>
+ * Quem registra primeiro o {@link CompletableFuture} da chave calcula; quem chega durante o cálculo espera por ele
+ * ({@link #get}) ou recebe o future para encadear a resposta sem bloquear a thread ({@link #submit}, no event loop
+ * da pilha reativa).
+ * O registro é um {@link ConcurrentHashMap}, sem trava global: chaves diferentes nunca esperam umas pelas outras.
+ * A entrada sai do registro assim que o cálculo termina, então nada fica guardado (respostas prontas são papel do
+ * {@link SimulationResponseCache}); um erro no cálculo chega a todos os que esperavam.
+ */
+@Component
+public class SimulationCoalescer {
+
+    public static final String METRIC_REQUESTS = "simulation.coalescing.requests";
+    public static final String METRIC_RATIO = "simulation.coalescing.ratio";
+    public static final String METRIC_IN_FLIGHT = "simulation.coalescing.in.flight";
+
+    private final boolean enabled;
+    private final Map<QuoteKey, CompletableFuture<LoanSimulationResponse>> inFlight = new ConcurrentHashMap<>();
+    private final Counter computed;
+    private final Counter coalesced;
+
+    public SimulationCoalescer(@Value("${simulation.coalescing.enabled:true}") boolean enabled, MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.computed = requests(meterRegistry, "computed");
+        this.coalesced = requests(meterRegistry, "coalesced");
+
+        Gauge.builder(METRIC_RATIO, this, SimulationCoalescer::coalescingRatio)
+                .description("Fração das cotações que esperaram o cálculo de uma cotação idêntica em andamento")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_IN_FLIGHT, inFlight, Map::size)
+                .description("Cotações distintas sendo calculadas agora")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Resposta da cotação: a do cálculo em andamento para a mesma chave, ou a calculada agora por {@code simulation}.
+     */
+    public LoanSimulationResponse get(QuoteKey key, Supplier<LoanSimulationResponse> simulation) {
+        if (!enabled) {
+            return simulation.get();
+        }
+
+        CompletableFuture<LoanSimulationResponse> running = inFlight.get(key);
+        if (running == null) {
+            CompletableFuture<LoanSimulationResponse> flight = new CompletableFuture<>();
+            running = inFlight.putIfAbsent(key, flight);
+            if (running == null) {
+                computed.increment();
+                return compute(key, flight, simulation);
+            }
+        }
+        coalesced.increment();
+        return await(running);
+    }
+
+    /**
+     * Como {@link #get}, sem bloquear: quem chega durante um cálculo idêntico recebe um future que completa com ele;
+     * quem calcula, calcula na própria thread e recebe o future já completo. O future devolvido é uma cópia, então
+     * cancelá-lo não afeta os demais à espera.
+     */
+    public CompletableFuture<LoanSimulationResponse> submit(QuoteKey key, Supplier<LoanSimulationResponse> simulation) {
+        if (!enabled) {
+            return supply(simulation);
+        }
+
+        CompletableFuture<LoanSimulationResponse> running = inFlight.get(key);
+        if (running == null) {
+            CompletableFuture<LoanSimulationResponse> flight = new CompletableFuture<>();
+            running = inFlight.putIfAbsent(key, flight);
+            if (running == null) {
+                computed.increment();
+                return supply(() -> compute(key, flight, simulation));
+            }
+        }
+        coalesced.increment();
+        return running.copy();
+    }
+
+    public double coalescingRatio() {
+        double total = computed.count() + coalesced.count();
+        return total == 0 ? 0 : coalesced.count() / total;
+    }
+
+    private LoanSimulationResponse compute(QuoteKey key, CompletableFuture<LoanSimulationResponse> flight,
+                                           Supplier<LoanSimulationResponse> simulation) {
+        try {
+            LoanSimulationResponse response = simulation.get();
+            flight.complete(response);
+            return response;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private static CompletableFuture<LoanSimulationResponse> supply(Supplier<LoanSimulationResponse> simulation) {
+        try {
+            return CompletableFuture.completedFuture(simulation.get());
+        } catch (RuntimeException | Error e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static LoanSimulationResponse await(CompletableFuture<LoanSimulationResponse> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            // o mesmo erro do cálculo, sem o envelope do CompletableFuture
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder(METRIC_REQUESTS)
+                .description("Cotações que passaram pela coalescência, por desfecho")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,15 @@
+package com.github.renatinhah.backend_credit_simulator.service;
+
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationRequest;
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationResponse;
+import com.github.renatinhah.backend_credit_simulator.model.RateBand;
+
+/**
+ * Recebe cada cotação concluída pelo {@link LoanSimulationService}, inclusive as servidas pelo cache de respostas.
+ * Todos os listeners do contexto são chamados, na thread da requisição: implementações não devem bloquear nem lançar.
+ */
+@FunctionalInterface
+public interface SimulationListener {
+
+    void onSimulation(LoanSimulationRequest request, RateBand rateBand, LoanSimulationResponse response);
+}
@@ -0,0 +1,101 @@
+package com.github.renatinhah.backend_credit_simulator.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationResponse;
+import com.github.renatinhah.backend_credit_simulator.model.Money;
+import com.github.renatinhah.backend_credit_simulator.model.enums.AmortizationSystemEnum;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Cache das respostas de simulação, para reenvios da mesma cotação.
+ * <p>
+ * A chave é a requisição canônica: valor em centavos, taxa anual (sem zeros à direita) já resolvida, prazo e sistema de amortização. A data de
+ * nascimento só entra pela faixa de taxa, então clientes da mesma faixa compartilham a entrada. Como a resposta
+ * depende apenas da taxa, e não da versão da tabela, uma entrada nunca fica errada depois de uma troca de tabela;
+ * mesmo assim o cache é esvaziado a cada {@link RateTableChangedEvent} para liberar as taxas que saíram de uso.
+ */
+@Slf4j
+@Component
+public class SimulationResponseCache {
+
+    public static final String CACHE_NAME = "simulation.response";
+
+    private final boolean enabled;
+    private final Cache<QuoteKey, LoanSimulationResponse> responses;
+
+    @Autowired
+    public SimulationResponseCache(@Value("${simulation.response-cache.enabled:true}") boolean enabled,
+                                   @Value("${simulation.response-cache.max-size:100000}") long maximumSize,
+                                   @Value("${simulation.response-cache.ttl:10m}") Duration timeToLive,
+                                   MeterRegistry meterRegistry) {
+        this(enabled, maximumSize, timeToLive, Ticker.systemTicker(), meterRegistry);
+    }
+
+    public SimulationResponseCache(boolean enabled, long maximumSize, Duration timeToLive, Ticker ticker, MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .ticker(ticker)
+                .executor(Runnable::run) // manutenção síncrona: evita tarefas no ForkJoinPool comum
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, responses, CACHE_NAME);
+        Gauge.builder(CACHE_NAME + ".hit.ratio", responses, cache -> cache.stats().hitRate())
+                .description("Fração das cotações servidas pelo cache de respostas")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Resposta em cache para a cotação, ou a calculada por {@code simulation} (e guardada) quando ausente ou expirada.
+     */
+    public LoanSimulationResponse get(QuoteKey key, Supplier<LoanSimulationResponse> simulation) {
+        if (!enabled) {
+            return simulation.get();
+        }
+        return responses.get(key, quoteKey -> simulation.get());
+    }
+
+    @EventListener
+    public void onRateTableChanged(RateTableChangedEvent event) {
+        long evicted = responses.estimatedSize();
+        responses.invalidateAll();
+        log.info("Simulation response cache cleared for rate table version '{}' ({} entries)",
+                event.current().getVersion(), evicted);
+    }
+
+    public CacheStats stats() {
+        return responses.stats();
+    }
+
+    public long size() {
+        return responses.estimatedSize();
+    }
+
+    /**
+     * Requisição canônica de uma cotação, compartilhada com o {@link SimulationCoalescer}.
+     */
+    public record QuoteKey(long loanAmountCents, BigDecimal annualRate, int numberOfPayments,
+                           AmortizationSystemEnum amortizationSystem) {
+
+        public static QuoteKey of(Money loanAmount, BigDecimal annualRate, int numberOfPayments,
+                                  AmortizationSystemEnum amortizationSystem) {
+            return new QuoteKey(loanAmount.cents(), annualRate.stripTrailingZeros(), numberOfPayments, amortizationSystem);
+        }
+    }
+}
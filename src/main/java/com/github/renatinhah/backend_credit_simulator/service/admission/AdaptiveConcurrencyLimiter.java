@@ -0,0 +1,110 @@
+package com.github.renatinhah.backend_credit_simulator.service.admission;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.github.renatinhah.backend_credit_simulator.service.admission.ClientRateLimiter.METRIC_PREFIX;
+
+/**
+ * Limite de requisições simultâneas que se ajusta pela latência observada (AIMD), para recusar na entrada
+ * em vez de enfileirar até o timeout.
+ * <p>
+ * A latência de referência é a menor observada na janela de {@code window} amostras. Uma amostra acima de
+ * {@code latency-tolerance} × referência (e acima de {@code latency-floor}, para ignorar variações de microssegundos)
+ * indica fila: o limite cai para {@code backoff-ratio} × limite. Caso contrário, com pelo menos metade do limite em
+ * uso, ele sobe uma unidade. Todo o estado são contadores atômicos; nenhuma decisão toma lock.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class AdaptiveConcurrencyLimiter {
+
+    private final boolean enabled;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double latencyTolerance;
+    private final long latencyFloorNanos;
+    private final double backoffRatio;
+    private final int window;
+    private final AtomicInteger limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong minLatency = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong samples = new AtomicLong();
+
+    public AdaptiveConcurrencyLimiter(@Value("${simulation.concurrency-limit.enabled:true}") boolean enabled,
+                                      @Value("${simulation.concurrency-limit.initial:200}") int initialLimit,
+                                      @Value("${simulation.concurrency-limit.min:16}") int minLimit,
+                                      @Value("${simulation.concurrency-limit.max:2000}") int maxLimit,
+                                      @Value("${simulation.concurrency-limit.latency-tolerance:2.0}") double latencyTolerance,
+                                      @Value("${simulation.concurrency-limit.latency-floor:25ms}") Duration latencyFloor,
+                                      @Value("${simulation.concurrency-limit.backoff-ratio:0.9}") double backoffRatio,
+                                      @Value("${simulation.concurrency-limit.window:1000}") int window,
+                                      MeterRegistry meterRegistry) {
+        if (minLimit < 1 || minLimit > initialLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Concurrency limit requires 1 <= min <= initial <= max");
+        }
+        this.enabled = enabled;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyTolerance = latencyTolerance;
+        this.latencyFloorNanos = latencyFloor.toNanos();
+        this.backoffRatio = backoffRatio;
+        this.window = window;
+        this.limit = new AtomicInteger(initialLimit);
+
+        Gauge.builder(METRIC_PREFIX + ".limit", limit, AtomicInteger::get)
+                .description("Limite atual de simulações simultâneas")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".in.flight", inFlight, AtomicInteger::get)
+                .description("Simulações em andamento")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Reserva uma vaga; quando devolve {@code true}, o chamador deve chamar {@link #release(long)} ao terminar.
+     */
+    public boolean tryAcquire() {
+        if (!enabled) {
+            return true;
+        }
+        if (inFlight.incrementAndGet() > limit.get()) {
+            inFlight.decrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Libera a vaga e ajusta o limite pela latência da requisição.
+     */
+    public void release(long latencyNanos) {
+        if (!enabled) {
+            return;
+        }
+        int concurrent = inFlight.getAndDecrement();
+        if (samples.incrementAndGet() % window == 0) {
+            minLatency.set(latencyNanos);
+        }
+        long baseline = minLatency.accumulateAndGet(latencyNanos, Math::min);
+
+        if (latencyNanos > latencyFloorNanos && latencyNanos > baseline * latencyTolerance) {
+            limit.updateAndGet(current -> Math.max(minLimit, (int) (current * backoffRatio)));
+        } else if (concurrent * 2 >= limit.get()) {
+            limit.updateAndGet(current -> Math.min(maxLimit, current + 1));
+        }
+    }
+
+    public int limit() {
+        return limit.get();
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,93 @@
+package com.github.renatinhah.backend_credit_simulator.service.admission;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Token bucket por cliente, na forma GCRA: cada cliente guarda só o instante teórico da próxima chegada em um
+ * {@link AtomicLong}, avançado por CAS, sem lock. Equivale a um balde de {@code burst} fichas reposto a
+ * {@code requests-per-second}.
+ * <p>
+ * Os baldes ficam em um cache Caffeine (mapa concorrente com buffers de acesso particionados), limitado a
+ * {@code max-clients} e expirando após o tempo de encher o balde: um balde ocioso por esse tempo já está cheio,
+ * então descartá-lo não muda nenhuma decisão.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ClientRateLimiter {
+
+    public static final String METRIC_PREFIX = "simulation.admission";
+
+    private final boolean enabled;
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final Ticker ticker;
+    private final Cache<String, AtomicLong> arrivals;
+    private final Function<String, AtomicLong> newArrival;
+
+    @Autowired
+    public ClientRateLimiter(@Value("${simulation.rate-limit.enabled:false}") boolean enabled,
+                             @Value("${simulation.rate-limit.requests-per-second:100}") double requestsPerSecond,
+                             @Value("${simulation.rate-limit.burst:200}") int burst,
+                             @Value("${simulation.rate-limit.max-clients:100000}") long maxClients,
+                             MeterRegistry meterRegistry) {
+        this(enabled, requestsPerSecond, burst, maxClients, Ticker.systemTicker(), meterRegistry);
+    }
+
+    public ClientRateLimiter(boolean enabled, double requestsPerSecond, int burst, long maxClients,
+                             Ticker ticker, MeterRegistry meterRegistry) {
+        if (requestsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("Rate limit requires requests-per-second > 0 and burst >= 1");
+        }
+        this.enabled = enabled;
+        this.emissionIntervalNanos = Math.max(1, Math.round(1_000_000_000d / requestsPerSecond));
+        this.burstToleranceNanos = emissionIntervalNanos * burst;
+        this.ticker = ticker;
+        this.newArrival = key -> new AtomicLong(ticker.read()); // criada uma vez: o lambda captura o ticker
+        this.arrivals = Caffeine.newBuilder()
+                .maximumSize(maxClients)
+                .expireAfterAccess(Duration.ofNanos(burstToleranceNanos))
+                .ticker(ticker)
+                .executor(Runnable::run) // manutenção síncrona: evita tarefas no ForkJoinPool comum
+                .build();
+
+        Gauge.builder(METRIC_PREFIX + ".clients", arrivals, Cache::estimatedSize)
+                .description("Clientes com balde de rate limit ativo")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Consome uma ficha do balde do cliente.
+     *
+     * @return 0 se a requisição foi aceita; senão, nanossegundos até a próxima ficha
+     */
+    public long tryAcquire(String clientId) {
+        if (!enabled) {
+            return 0;
+        }
+        AtomicLong arrival = arrivals.get(clientId, newArrival);
+        while (true) {
+            long now = ticker.read();
+            long theoreticalArrival = arrival.get();
+            long next = Math.max(theoreticalArrival, now) + emissionIntervalNanos;
+            long excess = next - now - burstToleranceNanos;
+            if (excess > 0) {
+                return excess;
+            }
+            if (arrival.compareAndSet(theoreticalArrival, next)) {
+                return 0;
+            }
+        }
+    }
+}
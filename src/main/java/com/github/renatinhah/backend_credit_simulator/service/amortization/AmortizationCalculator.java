@@ -0,0 +1,26 @@
+package com.github.renatinhah.backend_credit_simulator.service.amortization;
+
+import com.github.renatinhah.backend_credit_simulator.dto.AmortizationScheduleEntry;
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationResponse;
+import com.github.renatinhah.backend_credit_simulator.model.Money;
+import com.github.renatinhah.backend_credit_simulator.model.enums.AmortizationSystemEnum;
+
+import java.math.BigDecimal;
+import java.util.Iterator;
+
+/**
+ * Um sistema de amortização: a cotação (parcela e totais) e o cronograma mês a mês, sempre com valores em centavos
+ * (2 casas, HALF_UP). Para um novo sistema basta um bean desta interface e o valor correspondente em
+ * {@link AmortizationSystemEnum}; o {@link AmortizationCalculators} o encontra na subida.
+ */
+public interface AmortizationCalculator {
+
+    AmortizationSystemEnum system();
+
+    LoanSimulationResponse simulate(Money loanAmount, BigDecimal annualRate, int numberOfPayments);
+
+    /**
+     * Cronograma gerado sob demanda, sem materializar a lista completa; a soma das parcelas bate com a cotação.
+     */
+    Iterator<AmortizationScheduleEntry> schedule(Money loanAmount, BigDecimal annualRate, int numberOfPayments);
+}
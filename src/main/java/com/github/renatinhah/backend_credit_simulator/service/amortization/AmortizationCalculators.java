@@ -0,0 +1,37 @@
+package com.github.renatinhah.backend_credit_simulator.service.amortization;
+
+import com.github.renatinhah.backend_credit_simulator.model.enums.AmortizationSystemEnum;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Calculadoras por sistema de amortização. Requisições sem sistema informado usam a Tabela Price.
+ * Todo valor de {@link AmortizationSystemEnum} precisa de uma calculadora, conferido na subida.
+ */
+@Component
+public class AmortizationCalculators {
+
+    public static final AmortizationSystemEnum DEFAULT_SYSTEM = AmortizationSystemEnum.PRICE;
+
+    private final Map<AmortizationSystemEnum, AmortizationCalculator> calculators = new EnumMap<>(AmortizationSystemEnum.class);
+
+    public AmortizationCalculators(List<AmortizationCalculator> calculators) {
+        for (AmortizationCalculator calculator : calculators) {
+            if (this.calculators.putIfAbsent(calculator.system(), calculator) != null) {
+                throw new IllegalStateException("Duplicate amortization calculator for " + calculator.system());
+            }
+        }
+        for (AmortizationSystemEnum system : AmortizationSystemEnum.values()) {
+            if (!this.calculators.containsKey(system)) {
+                throw new IllegalStateException("No amortization calculator for " + system);
+            }
+        }
+    }
+
+    public AmortizationCalculator get(AmortizationSystemEnum system) {
+        return calculators.get(system == null ? DEFAULT_SYSTEM : system);
+    }
+}
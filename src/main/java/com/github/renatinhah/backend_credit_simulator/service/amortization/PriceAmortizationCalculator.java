@@ -0,0 +1,115 @@
+package com.github.renatinhah.backend_credit_simulator.service.amortization;
+
+import com.github.renatinhah.backend_credit_simulator.dto.AmortizationScheduleEntry;
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationDetails;
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationResponse;
+import com.github.renatinhah.backend_credit_simulator.model.Money;
+import com.github.renatinhah.backend_credit_simulator.model.enums.AmortizationSystemEnum;
+import com.github.renatinhah.backend_credit_simulator.service.engine.InstallmentEngine;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static com.github.renatinhah.backend_credit_simulator.service.LoanSimulationService.MONTHS_IN_YEAR;
+
+/**
+ * Tabela Price: parcela fixa calculada pelo {@link InstallmentEngine} configurado, total = parcela × prazo.
+ * A parcela já sai em centavos, então os totais são contas exatas em {@link Money}, sem novo arredondamento.
+ */
+@Component
+public class PriceAmortizationCalculator implements AmortizationCalculator {
+
+    private static final MathContext MATH_CONTEXT = new MathContext(34, RoundingMode.HALF_UP);
+    private static final BigDecimal MONTHS = new BigDecimal(MONTHS_IN_YEAR);
+
+    private final InstallmentEngine installmentEngine;
+
+    public PriceAmortizationCalculator(InstallmentEngine installmentEngine) {
+        this.installmentEngine = installmentEngine;
+    }
+
+    @Override
+    public AmortizationSystemEnum system() {
+        return AmortizationSystemEnum.PRICE;
+    }
+
+    @Override
+    public LoanSimulationResponse simulate(Money loanAmount, BigDecimal annualRate, int numberOfPayments) {
+        Money monthlyPayment = installmentEngine.calculateInstallment(loanAmount, annualRate, numberOfPayments);
+        LoanSimulationDetails details = calculateSimulationDetails(loanAmount, numberOfPayments, monthlyPayment);
+
+        return LoanSimulationResponse.builder()
+                .totalAmountToPay(details.getTotalAmountToPay())
+                .monthlyInstallment(monthlyPayment)
+                .totalInterest(details.getTotalInterest())
+                .build();
+    }
+
+    /**
+     * Cada parcela é calculada a partir do saldo da anterior. Os juros do mês são arredondados para centavos e a
+     * última parcela absorve a diferença de arredondamento, zerando o saldo.
+     */
+    @Override
+    public Iterator<AmortizationScheduleEntry> schedule(Money loanAmount, BigDecimal annualRate, int numberOfPayments) {
+        BigDecimal installment = installmentEngine.calculateInstallment(loanAmount, annualRate, numberOfPayments).toBigDecimal();
+        BigDecimal monthRate = annualRate.divide(MONTHS, MATH_CONTEXT);
+        return new ScheduleIterator(loanAmount.toBigDecimal(), monthRate, installment, numberOfPayments);
+    }
+
+    private LoanSimulationDetails calculateSimulationDetails(Money loanAmount, int numberOfPayments, Money monthlyPayment) {
+        Money totalAmountToPay = monthlyPayment.times(numberOfPayments);
+        Money totalInterest = totalAmountToPay.minus(loanAmount);
+
+        return LoanSimulationDetails.builder()
+                .totalAmountToPay(totalAmountToPay)
+                .totalInterest(totalInterest)
+                .build();
+    }
+
+    private static final class ScheduleIterator implements Iterator<AmortizationScheduleEntry> {
+
+        private final BigDecimal monthRate;
+        private final BigDecimal installment;
+        private final int numberOfPayments;
+        private BigDecimal balance;
+        private int installmentNumber;
+
+        private ScheduleIterator(BigDecimal balance, BigDecimal monthRate, BigDecimal installment, int numberOfPayments) {
+            this.balance = balance;
+            this.monthRate = monthRate;
+            this.installment = installment;
+            this.numberOfPayments = numberOfPayments;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return installmentNumber < numberOfPayments;
+        }
+
+        @Override
+        public AmortizationScheduleEntry next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            installmentNumber++;
+
+            BigDecimal interest = balance.multiply(monthRate, MATH_CONTEXT).setScale(2, RoundingMode.HALF_UP);
+            BigDecimal principal = installmentNumber == numberOfPayments
+                    ? balance
+                    : installment.subtract(interest);
+            balance = balance.subtract(principal);
+
+            return AmortizationScheduleEntry.builder()
+                    .installmentNumber(installmentNumber)
+                    .installment(principal.add(interest))
+                    .principal(principal)
+                    .interest(interest)
+                    .remainingBalance(balance)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.github.renatinhah.backend_credit_simulator.service.amortization;
+
+import com.github.renatinhah.backend_credit_simulator.dto.AmortizationScheduleEntry;
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationResponse;
+import com.github.renatinhah.backend_credit_simulator.model.Money;
+import com.github.renatinhah.backend_credit_simulator.model.enums.AmortizationSystemEnum;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static com.github.renatinhah.backend_credit_simulator.service.LoanSimulationService.MONTHS_IN_YEAR;
+
+/**
+ * SAC (sistema de amortização constante): amortização PV / n todo mês e juros sobre o saldo, então as parcelas caem.
+ * <p>
+ * Os totais saem de somas fechadas, sem percorrer os meses. Com taxa mensal r = i / 12, o saldo antes do mês j é
+ * PV × (1 - (j - 1) / n), e os juros acumulados até o mês k são
+ * <pre>
+ * J(k) = r × PV × k × (2n - k + 1) / (2n) = i × PV × k × (2n - k + 1) / (24n)
+ * </pre>
+ * com J(n) = i × PV × (n + 1) / 24. O numerador é um produto exato de {@link BigDecimal}, então uma única divisão
+ * arredondada dá o centavo exato; a amortização acumulada, PV × k / n, é uma divisão HALF_UP em centavos. O cronograma usa arredondamento acumulado: os juros do mês k são J(k) - J(k - 1),
+ * ambos já em centavos, e o mesmo vale para a amortização, PV × k / n. A soma das parcelas é exatamente o total
+ * da cotação, e nenhum mês se afasta mais de um centavo do valor sem arredondamento.
+ */
+@Component
+public class SacAmortizationCalculator implements AmortizationCalculator {
+
+    private static final int CENTS = 2;
+
+    @Override
+    public AmortizationSystemEnum system() {
+        return AmortizationSystemEnum.SAC;
+    }
+
+    @Override
+    public LoanSimulationResponse simulate(Money loanAmount, BigDecimal annualRate, int numberOfPayments) {
+        BigDecimal principal = loanAmount.toBigDecimal();
+        Money totalInterest = Money.of(cumulativeInterest(principal, annualRate, numberOfPayments, numberOfPayments));
+
+        Money firstInstallment = cumulativePrincipal(loanAmount, numberOfPayments, 1)
+                .plus(Money.of(cumulativeInterest(principal, annualRate, numberOfPayments, 1)));
+        Money lastInstallment = loanAmount.minus(cumulativePrincipal(loanAmount, numberOfPayments, numberOfPayments - 1))
+                .plus(totalInterest.minus(Money.of(cumulativeInterest(principal, annualRate, numberOfPayments, numberOfPayments - 1))));
+
+        return LoanSimulationResponse.builder()
+                .totalAmountToPay(loanAmount.plus(totalInterest))
+                .monthlyInstallment(firstInstallment)
+                .lastInstallment(lastInstallment)
+                .totalInterest(totalInterest)
+                .build();
+    }
+
+    @Override
+    public Iterator<AmortizationScheduleEntry> schedule(Money loanAmount, BigDecimal annualRate, int numberOfPayments) {
+        return new ScheduleIterator(loanAmount, annualRate, numberOfPayments);
+    }
+
+    /**
+     * Amortização acumulada até o mês k, em centavos: PV × k / n.
+     */
+    static Money cumulativePrincipal(Money principal, int numberOfPayments, int month) {
+        return Money.ofCents(Money.divideHalfUp(Math.multiplyExact(principal.cents(), month), numberOfPayments));
+    }
+
+    /**
+     * Juros acumulados até o mês k, em centavos: i × PV × k × (2n - k + 1) / (24n).
+     */
+    static BigDecimal cumulativeInterest(BigDecimal principal, BigDecimal annualRate, int numberOfPayments, int month) {
+        long periods = (long) month * (2L * numberOfPayments - month + 1);
+        return annualRate.multiply(principal)
+                .multiply(BigDecimal.valueOf(periods))
+                .divide(BigDecimal.valueOf(2L * MONTHS_IN_YEAR * numberOfPayments), CENTS, RoundingMode.HALF_UP);
+    }
+
+    private static final class ScheduleIterator implements Iterator<AmortizationScheduleEntry> {
+
+        private final Money principal;
+        private final BigDecimal principalAmount;
+        private final BigDecimal annualRate;
+        private final int numberOfPayments;
+        private BigDecimal paidPrincipal = BigDecimal.ZERO.setScale(CENTS);
+        private BigDecimal paidInterest = BigDecimal.ZERO.setScale(CENTS);
+        private int installmentNumber;
+
+        private ScheduleIterator(Money principal, BigDecimal annualRate, int numberOfPayments) {
+            this.principal = principal;
+            this.principalAmount = principal.toBigDecimal();
+            this.annualRate = annualRate;
+            this.numberOfPayments = numberOfPayments;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return installmentNumber < numberOfPayments;
+        }
+
+        @Override
+        public AmortizationScheduleEntry next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            installmentNumber++;
+
+            BigDecimal cumulativePrincipal = cumulativePrincipal(principal, numberOfPayments, installmentNumber).toBigDecimal();
+            BigDecimal cumulativeInterest = cumulativeInterest(principalAmount, annualRate, numberOfPayments, installmentNumber);
+            BigDecimal amortization = cumulativePrincipal.subtract(paidPrincipal);
+            BigDecimal interest = cumulativeInterest.subtract(paidInterest);
+            paidPrincipal = cumulativePrincipal;
+            paidInterest = cumulativeInterest;
+
+            return AmortizationScheduleEntry.builder()
+                    .installmentNumber(installmentNumber)
+                    .installment(amortization.add(interest))
+                    .principal(amortization)
+                    .interest(interest)
+                    .remainingBalance(principalAmount.subtract(cumulativePrincipal))
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.github.renatinhah.backend_credit_simulator.service.engine;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Collection;
+
+import static com.github.renatinhah.backend_credit_simulator.service.LoanSimulationService.MONTHS_IN_YEAR;
+
+/**
+ * Cache limitado dos fatores de anuidade r / (1 - (1 + r)^(-n)), por taxa e prazo.
+ * <p>
+ * A taxa mensal é derivada da taxa anual (anual / 12), então a chave usa a taxa anual recebida,
+ * evitando uma divisão por consulta. Os fatores são calculados com 50 dígitos, acima da precisão
+ * do motor de referência.
+ */
+public class AnnuityFactorCache {
+
+    public static final String CACHE_NAME = "simulation.annuity.factor";
+
+    private static final MathContext FACTOR_CONTEXT = new MathContext(50, RoundingMode.HALF_UP);
+    private static final BigDecimal MONTHS = new BigDecimal(MONTHS_IN_YEAR);
+
+    private final Cache<AnnuityFactorKey, BigDecimal> factors;
+
+    public AnnuityFactorCache(long maximumSize) {
+        this.factors = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .executor(Runnable::run) // manutenção síncrona: evita tarefas no ForkJoinPool comum
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Cache com acertos, faltas e despejos publicados em {@code cache_*{cache="simulation.annuity.factor"}}.
+     */
+    public AnnuityFactorCache(long maximumSize, MeterRegistry meterRegistry) {
+        this(maximumSize);
+        CaffeineCacheMetrics.monitor(meterRegistry, factors, CACHE_NAME);
+    }
+
+    public BigDecimal getFactor(BigDecimal annualRate, int numberOfPayments) {
+        return factors.get(AnnuityFactorKey.of(annualRate, numberOfPayments), AnnuityFactorCache::calculateFactor);
+    }
+
+    /**
+     * Pré-calcula os fatores para as combinações de taxas e prazos informadas.
+     */
+    public void warmUp(Collection<BigDecimal> annualRates, Collection<Integer> terms) {
+        for (BigDecimal annualRate : annualRates) {
+            for (Integer term : terms) {
+                AnnuityFactorKey key = AnnuityFactorKey.of(annualRate, term);
+                factors.put(key, calculateFactor(key));
+            }
+        }
+    }
+
+    public CacheStats stats() {
+        return factors.stats();
+    }
+
+    public long size() {
+        return factors.estimatedSize();
+    }
+
+    private static BigDecimal calculateFactor(AnnuityFactorKey key) {
+        BigDecimal monthRate = key.annualRate().divide(MONTHS, FACTOR_CONTEXT);
+        BigDecimal sumRateOne = BigDecimal.ONE.add(monthRate, FACTOR_CONTEXT);
+        BigDecimal inversePower = BigDecimal.ONE.divide(sumRateOne.pow(key.numberOfPayments(), FACTOR_CONTEXT), FACTOR_CONTEXT);
+        BigDecimal divisor = BigDecimal.ONE.subtract(inversePower, FACTOR_CONTEXT);
+
+        return monthRate.divide(divisor, FACTOR_CONTEXT);
+    }
+
+    /**
+     * Taxa sem zeros à direita: {@code 0.045} e {@code 0.0450} são a mesma chave.
+     */
+    public record AnnuityFactorKey(BigDecimal annualRate, int numberOfPayments) {
+
+        public static AnnuityFactorKey of(BigDecimal annualRate, int numberOfPayments) {
+            return new AnnuityFactorKey(annualRate.stripTrailingZeros(), numberOfPayments);
+        }
+    }
+}
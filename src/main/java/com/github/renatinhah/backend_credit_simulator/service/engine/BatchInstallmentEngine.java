@@ -0,0 +1,53 @@
+package com.github.renatinhah.backend_credit_simulator.service.engine;
+
+import com.github.renatinhah.backend_credit_simulator.model.Money;
+
+import java.math.BigDecimal;
+
+import static com.github.renatinhah.backend_credit_simulator.service.LoanSimulationService.MONTHS_IN_YEAR;
+
+/**
+ * Parcelas (Tabela Price) de um lote em colunas: valor em centavos, taxa anual e prazo de cada item.
+ * <p>
+ * O lote passa pelo {@link InstallmentKernel}; as posições que ele não decide (fora da faixa suportada ou perto de
+ * um empate de arredondamento) são recalculadas no motor de referência, então cada centavo é o mesmo de uma
+ * cotação individual com a mesma taxa. Os itens devem ser cotações válidas (valor, taxa e prazo positivos): um item
+ * que o motor de referência rejeita interrompe o lote com a exceção dele.
+ */
+public class BatchInstallmentEngine {
+
+    private final InstallmentKernel kernel;
+    private final InstallmentEngine reference;
+
+    public BatchInstallmentEngine(InstallmentKernel kernel, InstallmentEngine reference) {
+        this.kernel = kernel;
+        this.reference = reference;
+    }
+
+    public long[] installmentsInCents(long[] loanAmountCents, double[] annualRates, int[] numberOfPayments) {
+        int length = loanAmountCents.length;
+        if (annualRates.length != length || numberOfPayments.length != length) {
+            throw new IllegalArgumentException("Batch columns must have the same length: " + length + " loan amounts, "
+                    + annualRates.length + " rates and " + numberOfPayments.length + " terms");
+        }
+
+        // mesmas conversões do PrimitiveInstallmentEngine numa cotação individual
+        double[] loanAmounts = new double[length];
+        double[] monthRates = new double[length];
+        for (int i = 0; i < length; i++) {
+            loanAmounts[i] = Money.ofCents(loanAmountCents[i]).doubleValue();
+            monthRates[i] = annualRates[i] / MONTHS_IN_YEAR;
+        }
+
+        long[] installments = new long[length];
+        kernel.installmentsInCents(loanAmounts, monthRates, numberOfPayments, installments, length);
+
+        for (int i = 0; i < length; i++) {
+            if (installments[i] == PrimitiveInstallmentEngine.AMBIGUOUS) {
+                installments[i] = reference.calculateInstallment(Money.ofCents(loanAmountCents[i]),
+                        BigDecimal.valueOf(annualRates[i]), numberOfPayments[i]).cents();
+            }
+        }
+        return installments;
+    }
+}
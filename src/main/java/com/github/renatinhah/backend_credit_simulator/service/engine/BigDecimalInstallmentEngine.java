@@ -0,0 +1,33 @@
+package com.github.renatinhah.backend_credit_simulator.service.engine;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+import static com.github.renatinhah.backend_credit_simulator.service.LoanSimulationService.MONTHS_IN_YEAR;
+
+/**
+ * Implementação de referência, com {@link BigDecimal} e 34 dígitos de precisão.
+ */
+public class BigDecimalInstallmentEngine implements InstallmentEngine {
+
+    private static final MathContext MATH_CONTEXT = new MathContext(34, RoundingMode.HALF_UP);
+    private static final BigDecimal MONTHS = new BigDecimal(MONTHS_IN_YEAR);
+
+    @Override
+    public BigDecimal calculateInstallment(BigDecimal loanAmount, BigDecimal annualRate, int numberOfPayments) {
+        BigDecimal monthRate = annualRate.divide(MONTHS, MATH_CONTEXT);
+
+        BigDecimal sumRateOne = BigDecimal.ONE.add(monthRate, MATH_CONTEXT); // (1 + r)
+
+        // (1 + r)^(-n)   ->     1 / (1 + r)^n
+        BigDecimal inversePower = BigDecimal.ONE.divide(
+                sumRateOne.pow(numberOfPayments, MATH_CONTEXT),
+                MATH_CONTEXT
+        );
+        BigDecimal divisor = BigDecimal.ONE.subtract(inversePower, MATH_CONTEXT); // 1 - (1 + r)^(-n)
+        BigDecimal dividend = loanAmount.multiply(monthRate, MATH_CONTEXT); // PV * r
+
+        return dividend.divide(divisor, 2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,48 @@
+package com.github.renatinhah.backend_credit_simulator.service.engine;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Calcula a parcela como PV * fator, com o fator de anuidade vindo do {@link AnnuityFactorCache}.
+ * <p>
+ * Se o produto estiver a menos do erro do motor de referência de um empate de arredondamento (x,xx5),
+ * a parcela é recalculada pelo motor de referência, para que o centavo seja sempre o mesmo.
+ */
+public class CachedInstallmentEngine implements InstallmentEngine {
+
+    private static final BigDecimal HALF_CENT = new BigDecimal("0.005");
+    private static final int TIE_TOLERANCE_EXPONENT = -24;
+
+    private final AnnuityFactorCache annuityFactorCache;
+    private final InstallmentEngine reference;
+
+    public CachedInstallmentEngine(AnnuityFactorCache annuityFactorCache, InstallmentEngine reference) {
+        this.annuityFactorCache = annuityFactorCache;
+        this.reference = reference;
+    }
+
+    @Override
+    public BigDecimal calculateInstallment(BigDecimal loanAmount, BigDecimal annualRate, int numberOfPayments) {
+        BigDecimal product = loanAmount.multiply(annuityFactorCache.getFactor(annualRate, numberOfPayments));
+        BigDecimal installment = roundUnlessNearTie(product);
+
+        if (installment == null) {
+            return reference.calculateInstallment(loanAmount, annualRate, numberOfPayments);
+        }
+        return installment;
+    }
+
+    /**
+     * Arredonda PV * fator para centavos, ou devolve {@code null} quando o produto está perto demais de um empate.
+     */
+    static BigDecimal roundUnlessNearTie(BigDecimal product) {
+        BigDecimal installment = product.setScale(2, RoundingMode.HALF_UP);
+
+        BigDecimal distanceToTie = HALF_CENT.subtract(product.subtract(installment).abs());
+        if (distanceToTie.compareTo(product.scaleByPowerOfTen(TIE_TOLERANCE_EXPONENT)) <= 0) {
+            return null;
+        }
+        return installment;
+    }
+}
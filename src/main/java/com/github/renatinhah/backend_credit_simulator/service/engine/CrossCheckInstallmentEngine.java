@@ -0,0 +1,46 @@
+package com.github.renatinhah.backend_credit_simulator.service.engine;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Executa o motor primitivo e o motor de referência para cada parcela e compara os centavos.
+ * O resultado devolvido é sempre o da referência; divergências são registradas em log e contabilizadas.
+ */
+@Slf4j
+public class CrossCheckInstallmentEngine implements InstallmentEngine {
+
+    private final InstallmentEngine reference;
+    private final InstallmentEngine candidate;
+    private final LongAdder comparisons = new LongAdder();
+    private final LongAdder mismatches = new LongAdder();
+
+    public CrossCheckInstallmentEngine(InstallmentEngine reference, InstallmentEngine candidate) {
+        this.reference = reference;
+        this.candidate = candidate;
+    }
+
+    @Override
+    public BigDecimal calculateInstallment(BigDecimal loanAmount, BigDecimal annualRate, int numberOfPayments) {
+        BigDecimal expected = reference.calculateInstallment(loanAmount, annualRate, numberOfPayments);
+        BigDecimal actual = candidate.calculateInstallment(loanAmount, annualRate, numberOfPayments);
+
+        comparisons.increment();
+        if (expected.compareTo(actual) != 0) {
+            mismatches.increment();
+            log.warn("Installment engine mismatch for amount={}, rate={}, term={}: expected={}, actual={}",
+                    loanAmount, annualRate, numberOfPayments, expected, actual);
+        }
+        return expected;
+    }
+
+    public long getComparisons() {
+        return comparisons.sum();
+    }
+
+    public long getMismatches() {
+        return mismatches.sum();
+    }
+}
@@ -0,0 +1,22 @@
+package com.github.renatinhah.backend_credit_simulator.service.engine;
+
+import com.github.renatinhah.backend_credit_simulator.model.Money;
+
+import java.math.BigDecimal;
+
+/**
+ * Cálculo da parcela fixa (Tabela Price): PMT = (PV * r) / (1 - (1 + r)^(-n)).
+ * Todas as implementações devolvem o valor com 2 casas decimais, arredondado HALF_UP.
+ */
+public interface InstallmentEngine {
+
+    BigDecimal calculateInstallment(BigDecimal loanAmount, BigDecimal annualRate, int numberOfPayments);
+
+    /**
+     * A mesma parcela em {@link Money}, usada pelas cotações; motores que já calculam em centavos evitam o
+     * {@link BigDecimal} intermediário.
+     */
+    default Money calculateInstallment(Money loanAmount, BigDecimal annualRate, int numberOfPayments) {
+        return Money.of(calculateInstallment(loanAmount.toBigDecimal(), annualRate, numberOfPayments));
+    }
+}
@@ -0,0 +1,143 @@
+package com.github.renatinhah.backend_credit_simulator.service.engine;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.github.renatinhah.backend_credit_simulator.service.LoanSimulationService.MONTHS_IN_YEAR;
+
+/**
+ * Grade de parcelas valor × prazo × taxa, aproveitando a estrutura da grade em vez de calcular célula a célula:
+ * <ul>
+ *     <li>para cada taxa, (1 + r)^n é montado incrementalmente entre prazos consecutivos, multiplicando por (1 + r)^passo;</li>
+ *     <li>o fator de anuidade r * (1 + r)^n / ((1 + r)^n - 1) é calculado uma vez por (taxa, prazo);</li>
+ *     <li>a parcela é linear no valor, então PV * fator avança somando passo * fator, sem arredondamento.</li>
+ * </ul>
+ * Os fatores usam 50 dígitos e, como no {@link CachedInstallmentEngine}, células perto de um empate de
+ * arredondamento são recalculadas pelo motor de referência, para que o centavo seja sempre o mesmo.
+ * <p>
+ * Com um {@link BatchInstallmentEngine}, as fatias de taxas representáveis em {@code double} sem perda (0,03, 0,045)
+ * sobre valores em centavos inteiros são calculadas de uma vez no kernel em lote (vetorial, quando disponível); as
+ * demais seguem o cálculo incremental em {@link BigDecimal}. Os dois caminhos dão o centavo do motor de referência.
+ */
+public class InstallmentGridEngine {
+
+    private static final MathContext FACTOR_CONTEXT = new MathContext(50, RoundingMode.HALF_UP);
+    private static final BigDecimal MONTHS = new BigDecimal(MONTHS_IN_YEAR);
+
+    private final InstallmentEngine reference;
+    private final BatchInstallmentEngine batchEngine;
+
+    public InstallmentGridEngine(InstallmentEngine reference) {
+        this(reference, null);
+    }
+
+    public InstallmentGridEngine(InstallmentEngine reference, BatchInstallmentEngine batchEngine) {
+        this.reference = reference;
+        this.batchEngine = batchEngine;
+    }
+
+    /**
+     * @return parcelas indexadas por [taxa][prazo][valor]
+     */
+    public BigDecimal[][][] calculateGrid(BigDecimal firstLoanAmount, BigDecimal loanAmountStep, int loanAmountCount,
+                                          int firstTerm, int termStep, int termCount,
+                                          List<BigDecimal> annualRates) {
+        BigDecimal[][][] grid = new BigDecimal[annualRates.size()][termCount][loanAmountCount];
+        Batch batch = batchEngine == null ? null : Batch.of(firstLoanAmount, loanAmountStep, loanAmountCount,
+                firstTerm, termStep, termCount);
+
+        for (int rateIndex = 0; rateIndex < annualRates.size(); rateIndex++) {
+            BigDecimal annualRate = annualRates.get(rateIndex);
+            if (batch != null && isExactDouble(annualRate)) {
+                fillFromBatch(grid[rateIndex], batch, annualRate.doubleValue());
+                continue;
+            }
+            BigDecimal monthRate = annualRate.divide(MONTHS, FACTOR_CONTEXT);
+            BigDecimal sumRateOne = BigDecimal.ONE.add(monthRate, FACTOR_CONTEXT);
+            // com um só prazo o passo não é usado (e pode passar do maior expoente aceito por pow)
+            BigDecimal stepPower = termCount > 1 ? sumRateOne.pow(termStep, FACTOR_CONTEXT) : BigDecimal.ONE;
+            BigDecimal power = sumRateOne.pow(firstTerm, FACTOR_CONTEXT);
+
+            for (int termIndex = 0; termIndex < termCount; termIndex++) {
+                if (termIndex > 0) {
+                    power = power.multiply(stepPower, FACTOR_CONTEXT);
+                }
+                int numberOfPayments = firstTerm + termIndex * termStep;
+                BigDecimal factor = monthRate.multiply(power, FACTOR_CONTEXT)
+                        .divide(power.subtract(BigDecimal.ONE, FACTOR_CONTEXT), FACTOR_CONTEXT);
+
+                BigDecimal[] installments = grid[rateIndex][termIndex];
+                BigDecimal product = firstLoanAmount.multiply(factor);
+                BigDecimal productStep = loanAmountStep.multiply(factor);
+                for (int amountIndex = 0; amountIndex < loanAmountCount; amountIndex++) {
+                    if (amountIndex > 0) {
+                        product = product.add(productStep);
+                    }
+                    BigDecimal installment = CachedInstallmentEngine.roundUnlessNearTie(product);
+                    if (installment == null) {
+                        BigDecimal loanAmount = firstLoanAmount.add(loanAmountStep.multiply(BigDecimal.valueOf(amountIndex)));
+                        installment = reference.calculateInstallment(loanAmount, annualRate, numberOfPayments);
+                    }
+                    installments[amountIndex] = installment;
+                }
+            }
+        }
+        return grid;
+    }
+
+    private void fillFromBatch(BigDecimal[][] slice, Batch batch, double annualRate) {
+        double[] annualRates = new double[batch.loanAmountCents().length];
+        Arrays.fill(annualRates, annualRate);
+        long[] installments = batchEngine.installmentsInCents(batch.loanAmountCents(), annualRates, batch.numberOfPayments());
+
+        int cell = 0;
+        for (BigDecimal[] installmentsByAmount : slice) {
+            for (int amountIndex = 0; amountIndex < installmentsByAmount.length; amountIndex++) {
+                installmentsByAmount[amountIndex] = BigDecimal.valueOf(installments[cell++], 2);
+            }
+        }
+    }
+
+    /**
+     * O lote calcula com a taxa em {@code double} e recalcula empates com {@code BigDecimal.valueOf(double)}: só
+     * vale para taxas que voltam iguais dessa conversão.
+     */
+    private static boolean isExactDouble(BigDecimal annualRate) {
+        return BigDecimal.valueOf(annualRate.doubleValue()).compareTo(annualRate) == 0;
+    }
+
+    /**
+     * Colunas valor × prazo de uma fatia da grade, em ordem [prazo][valor], compartilhadas pelas taxas.
+     */
+    private record Batch(long[] loanAmountCents, int[] numberOfPayments) {
+
+        /**
+         * Colunas da grade, ou {@code null} quando algum valor não é um número inteiro de centavos num {@code long}.
+         */
+        static Batch of(BigDecimal firstLoanAmount, BigDecimal loanAmountStep, int loanAmountCount,
+                        int firstTerm, int termStep, int termCount) {
+            long[] loanAmountCents;
+            int[] numberOfPayments;
+            try {
+                long firstCents = firstLoanAmount.movePointRight(2).longValueExact();
+                long stepCents = loanAmountStep.movePointRight(2).longValueExact();
+                Math.addExact(firstCents, Math.multiplyExact(stepCents, (long) loanAmountCount));
+                int cells = Math.multiplyExact(termCount, loanAmountCount);
+                loanAmountCents = new long[cells];
+                numberOfPayments = new int[cells];
+                for (int termIndex = 0, cell = 0; termIndex < termCount; termIndex++) {
+                    for (int amountIndex = 0; amountIndex < loanAmountCount; amountIndex++, cell++) {
+                        loanAmountCents[cell] = firstCents + amountIndex * stepCents;
+                        numberOfPayments[cell] = firstTerm + termIndex * termStep;
+                    }
+                }
+            } catch (ArithmeticException e) {
+                return null;
+            }
+            return new Batch(loanAmountCents, numberOfPayments);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.github.renatinhah.backend_credit_simulator.service.engine;
+
+/**
+ * Parcelas da Tabela Price de um lote inteiro, sobre colunas de primitivos (valor em reais, taxa mensal e prazo de
+ * cada item), sem objeto por item.
+ * <p>
+ * Cada posição segue a regra de {@link PrimitiveInstallmentEngine#installmentInCentsByMonthRate}: a parcela em
+ * centavos (HALF_UP), ou {@link PrimitiveInstallmentEngine#AMBIGUOUS} quando o item está fora da faixa suportada ou
+ * perto demais de um empate de arredondamento. Quem chama resolve essas posições no motor de referência
+ * (ver {@link BatchInstallmentEngine}).
+ */
+public interface InstallmentKernel {
+
+    String VECTOR_MODULE = "jdk.incubator.vector";
+    String VECTOR_KERNEL = "com.github.renatinhah.backend_credit_simulator.service.engine.VectorInstallmentKernel";
+
+    void installmentsInCents(double[] loanAmounts, double[] monthRates, int[] numberOfPayments, long[] installments,
+                             int length);
+
+    /**
+     * O kernel vetorial quando o módulo {@code jdk.incubator.vector} foi carregado
+     * ({@code --add-modules jdk.incubator.vector}) e a CPU tem ao menos duas pistas de {@code double}; senão, o escalar.
+     * A classe vetorial é carregada por nome, então nada fora dela depende do módulo para compilar ou subir.
+     */
+    static InstallmentKernel best() {
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent()) {
+            try {
+                return (InstallmentKernel) Class.forName(VECTOR_KERNEL).getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                // sem a classe (imagem nativa) ou sem pistas suficientes: segue no escalar
+            }
+        }
+        return new ScalarInstallmentKernel();
+    }
+}
@@ -0,0 +1,107 @@
+package com.github.renatinhah.backend_credit_simulator.service.engine;
+
+import com.github.renatinhah.backend_credit_simulator.model.Money;
+
+import java.math.BigDecimal;
+
+import static com.github.renatinhah.backend_credit_simulator.service.LoanSimulationService.MONTHS_IN_YEAR;
+
+/**
+ * Calcula a parcela com {@code double}, sem alocação no caminho principal.
+ * <p>
+ * O erro relativo da fórmula em ponto flutuante fica abaixo de 1e-14 dentro da faixa suportada.
+ * Quando o valor em centavos cai perto demais de um empate de arredondamento (x,xx5) para que o
+ * {@code double} consiga decidir o centavo, o cálculo é refeito no motor {@link BigDecimal}, garantindo
+ * o mesmo resultado da implementação de referência.
+ */
+public class PrimitiveInstallmentEngine implements InstallmentEngine {
+
+    public static final double MAX_LOAN_AMOUNT = 1_000_000_000d;
+    public static final double MIN_ANNUAL_RATE = 0.0001d;
+    public static final double MAX_ANNUAL_RATE = 1d;
+    public static final int MAX_NUMBER_OF_PAYMENTS = 600;
+    public static final double MIN_MONTH_RATE = MIN_ANNUAL_RATE / MONTHS_IN_YEAR;
+    public static final double MAX_MONTH_RATE = MAX_ANNUAL_RATE / MONTHS_IN_YEAR;
+
+    /**
+     * Sinaliza que o centavo não pode ser decidido com segurança em {@code double}.
+     */
+    public static final long AMBIGUOUS = Long.MIN_VALUE;
+
+    static final double RELATIVE_ERROR_BOUND = 1e-12;
+    static final double ABSOLUTE_ERROR_BOUND = 1e-9;
+    static final double HALF_CENT = 0.5d;
+
+    private final InstallmentEngine fallback;
+
+    public PrimitiveInstallmentEngine(InstallmentEngine fallback) {
+        this.fallback = fallback;
+    }
+
+    @Override
+    public BigDecimal calculateInstallment(BigDecimal loanAmount, BigDecimal annualRate, int numberOfPayments) {
+        long cents = installmentInCents(loanAmount.doubleValue(), annualRate.doubleValue(), numberOfPayments);
+        if (cents == AMBIGUOUS) {
+            return fallback.calculateInstallment(loanAmount, annualRate, numberOfPayments);
+        }
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    @Override
+    public Money calculateInstallment(Money loanAmount, BigDecimal annualRate, int numberOfPayments) {
+        long cents = installmentInCents(loanAmount.doubleValue(), annualRate.doubleValue(), numberOfPayments);
+        if (cents == AMBIGUOUS) {
+            return fallback.calculateInstallment(loanAmount, annualRate, numberOfPayments);
+        }
+        return Money.ofCents(cents);
+    }
+
+    /**
+     * Parcela em centavos (HALF_UP), ou {@link #AMBIGUOUS} quando a entrada está fora da faixa suportada
+     * ou o resultado está perto demais de um empate de arredondamento.
+     */
+    public static long installmentInCents(double loanAmount, double annualRate, int numberOfPayments) {
+        if (!(annualRate >= MIN_ANNUAL_RATE && annualRate <= MAX_ANNUAL_RATE)) {
+            return AMBIGUOUS;
+        }
+        return installmentInCentsByMonthRate(loanAmount, annualRate / MONTHS_IN_YEAR, numberOfPayments);
+    }
+
+    /**
+     * A mesma parcela a partir da taxa mensal (taxa anual / 12), como nas colunas do {@link InstallmentKernel}.
+     */
+    public static long installmentInCentsByMonthRate(double loanAmount, double monthRate, int numberOfPayments) {
+        if (!isSupported(loanAmount, monthRate, numberOfPayments)) {
+            return AMBIGUOUS;
+        }
+
+        // 1 - (1 + r)^(-n) calculado via expm1/log1p para não perder precisão com taxas pequenas
+        double divisor = -Math.expm1(-numberOfPayments * Math.log1p(monthRate));
+        double cents = loanAmount * monthRate / divisor * 100d;
+
+        return roundHalfUp(cents);
+    }
+
+    /**
+     * Arredonda um valor em centavos para o inteiro mais próximo (HALF_UP), devolvendo {@link #AMBIGUOUS}
+     * quando a distância até o empate é menor que o erro máximo do cálculo em ponto flutuante.
+     */
+    public static long roundHalfUp(double cents) {
+        if (!Double.isFinite(cents) || cents <= 0d) {
+            return AMBIGUOUS;
+        }
+
+        double floor = Math.floor(cents);
+        double distanceToTie = Math.abs(cents - floor - HALF_CENT);
+        if (distanceToTie <= cents * RELATIVE_ERROR_BOUND + ABSOLUTE_ERROR_BOUND) {
+            return AMBIGUOUS;
+        }
+        return (long) Math.floor(cents + HALF_CENT);
+    }
+
+    private static boolean isSupported(double loanAmount, double monthRate, int numberOfPayments) {
+        return loanAmount > 0d && loanAmount <= MAX_LOAN_AMOUNT
+                && monthRate >= MIN_MONTH_RATE && monthRate <= MAX_MONTH_RATE
+                && numberOfPayments >= 1 && numberOfPayments <= MAX_NUMBER_OF_PAYMENTS;
+    }
+}
@@ -0,0 +1,16 @@
+package com.github.renatinhah.backend_credit_simulator.service.engine;
+
+/**
+ * Kernel de referência: o mesmo cálculo do {@link PrimitiveInstallmentEngine}, um item por vez.
+ */
+public class ScalarInstallmentKernel implements InstallmentKernel {
+
+    @Override
+    public void installmentsInCents(double[] loanAmounts, double[] monthRates, int[] numberOfPayments, long[] installments,
+                                    int length) {
+        for (int i = 0; i < length; i++) {
+            installments[i] = PrimitiveInstallmentEngine.installmentInCentsByMonthRate(loanAmounts[i], monthRates[i],
+                    numberOfPayments[i]);
+        }
+    }
+}
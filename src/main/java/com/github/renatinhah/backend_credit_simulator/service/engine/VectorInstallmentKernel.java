@@ -0,0 +1,92 @@
+package com.github.renatinhah.backend_credit_simulator.service.engine;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+import static com.github.renatinhah.backend_credit_simulator.service.engine.PrimitiveInstallmentEngine.ABSOLUTE_ERROR_BOUND;
+import static com.github.renatinhah.backend_credit_simulator.service.engine.PrimitiveInstallmentEngine.AMBIGUOUS;
+import static com.github.renatinhah.backend_credit_simulator.service.engine.PrimitiveInstallmentEngine.HALF_CENT;
+import static com.github.renatinhah.backend_credit_simulator.service.engine.PrimitiveInstallmentEngine.MAX_LOAN_AMOUNT;
+import static com.github.renatinhah.backend_credit_simulator.service.engine.PrimitiveInstallmentEngine.MAX_MONTH_RATE;
+import static com.github.renatinhah.backend_credit_simulator.service.engine.PrimitiveInstallmentEngine.MAX_NUMBER_OF_PAYMENTS;
+import static com.github.renatinhah.backend_credit_simulator.service.engine.PrimitiveInstallmentEngine.MIN_MONTH_RATE;
+import static com.github.renatinhah.backend_credit_simulator.service.engine.PrimitiveInstallmentEngine.RELATIVE_ERROR_BOUND;
+import static jdk.incubator.vector.VectorOperators.ABS;
+import static jdk.incubator.vector.VectorOperators.D2L;
+import static jdk.incubator.vector.VectorOperators.EXPM1;
+import static jdk.incubator.vector.VectorOperators.GE;
+import static jdk.incubator.vector.VectorOperators.GT;
+import static jdk.incubator.vector.VectorOperators.I2D;
+import static jdk.incubator.vector.VectorOperators.L2D;
+import static jdk.incubator.vector.VectorOperators.LE;
+import static jdk.incubator.vector.VectorOperators.LOG1P;
+import static jdk.incubator.vector.VectorOperators.LT;
+
+/**
+ * O cálculo do {@link ScalarInstallmentKernel} com a Vector API (incubadora), várias parcelas por instrução na
+ * largura preferida da CPU (8 pistas de {@code double} com AVX-512, 4 com AVX2).
+ * <p>
+ * A fórmula e o critério de empate são os do {@link PrimitiveInstallmentEngine}. {@code log1p} e {@code expm1}
+ * vetoriais podem diferir do {@link Math} no último bit, bem abaixo da margem de 1e-12 do critério de empate, então o
+ * centavo decidido é o mesmo. O resto do lote que não enche um vetor segue pelo caminho escalar.
+ * <p>
+ * Só é carregada com o módulo {@code jdk.incubator.vector} presente; use {@link InstallmentKernel#best()}. É a única
+ * classe compilada com o módulo (execução {@code compile-vector-kernel} do {@code pom.xml}).
+ */
+public class VectorInstallmentKernel implements InstallmentKernel {
+
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> LONGS = DOUBLES.withLanes(long.class);
+    // prazos em int: metade da largura, para ter o mesmo número de pistas dos doubles
+    private static final VectorSpecies<Integer> INTS = VectorSpecies.of(int.class,
+            VectorShape.forBitSize(Math.max(DOUBLES.vectorBitSize() / 2, 64)));
+
+    public VectorInstallmentKernel() {
+        if (DOUBLES.length() < 2 || INTS.length() != DOUBLES.length()) {
+            throw new UnsupportedOperationException("Vector kernel needs at least two double lanes, got " + DOUBLES);
+        }
+    }
+
+    @Override
+    public void installmentsInCents(double[] loanAmounts, double[] monthRates, int[] numberOfPayments, long[] installments,
+                                    int length) {
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(length); i < bound; i += DOUBLES.length()) {
+            DoubleVector loanAmount = DoubleVector.fromArray(DOUBLES, loanAmounts, i);
+            DoubleVector monthRate = DoubleVector.fromArray(DOUBLES, monthRates, i);
+            DoubleVector terms = (DoubleVector) IntVector.fromArray(INTS, numberOfPayments, i).convertShape(I2D, DOUBLES, 0);
+
+            VectorMask<Double> supported = loanAmount.compare(GT, 0d)
+                    .and(loanAmount.compare(LE, MAX_LOAN_AMOUNT))
+                    .and(monthRate.compare(GE, MIN_MONTH_RATE))
+                    .and(monthRate.compare(LE, MAX_MONTH_RATE))
+                    .and(terms.compare(GE, 1d))
+                    .and(terms.compare(LE, MAX_NUMBER_OF_PAYMENTS));
+
+            // mesma ordem de operações do caminho escalar
+            DoubleVector divisor = terms.neg().mul(monthRate.lanewise(LOG1P)).lanewise(EXPM1).neg();
+            DoubleVector cents = loanAmount.mul(monthRate).div(divisor).mul(100d);
+
+            // centavos positivos: truncar para long é o mesmo que Math.floor
+            DoubleVector floor = (DoubleVector) cents.convert(D2L, 0).convert(L2D, 0);
+            DoubleVector distanceToTie = cents.sub(floor).sub(HALF_CENT).lanewise(ABS);
+            VectorMask<Double> decided = supported
+                    .and(cents.compare(GT, 0d))
+                    .and(cents.compare(LT, Double.POSITIVE_INFINITY))
+                    .and(distanceToTie.compare(GT, cents.mul(RELATIVE_ERROR_BOUND).add(ABSOLUTE_ERROR_BOUND)));
+
+            LongVector rounded = (LongVector) cents.add(HALF_CENT).convert(D2L, 0);
+            LongVector.broadcast(LONGS, AMBIGUOUS)
+                    .blend(rounded, decided.cast(LONGS))
+                    .intoArray(installments, i);
+        }
+        for (; i < length; i++) {
+            installments[i] = PrimitiveInstallmentEngine.installmentInCentsByMonthRate(loanAmounts[i], monthRates[i],
+                    numberOfPayments[i]);
+        }
+    }
+}
@@ -0,0 +1,351 @@
+package com.github.renatinhah.backend_credit_simulator.service.journal;
+
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationRequest;
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationResponse;
+import com.github.renatinhah.backend_credit_simulator.model.RateBand;
+import com.github.renatinhah.backend_credit_simulator.service.SimulationListener;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Journal binário append-only de todas as simulações servidas, para replay analítico sem banco de dados.
+ * <p>
+ * Cada cotação vira um {@link SimulationJournalRecord} de tamanho fixo, gravado num segmento mapeado em memória
+ * ({@code simulation.journal.directory}); a gravação é uma cópia para a memória na thread da requisição, e o
+ * sistema operacional leva as páginas ao disco. Quando o segmento enche ({@code simulation.journal.segment-records}
+ * registros), ele é sincronizado com o disco e um novo é aberto. Cada arquivo leva no nome a sequência do seu
+ * primeiro registro, então o índice sequência -> (segmento, posição) é uma busca no mapa de segmentos mais uma
+ * multiplicação.
+ * <p>
+ * O append não tem trava: cada thread reserva a sua sequência num {@link AtomicLong} e grava na posição que ela
+ * determina, publicando o registro com a sequência por último. Só a virada de segmento é sincronizada. Como as
+ * gravações terminam fora de ordem, o replay para no primeiro registro ainda não publicado. Um append que falha
+ * depois de reservar a sequência publica uma lápide no lugar (se o segmento ainda não existe, quando ele for
+ * criado), para que a posição não segure o replay dos registros seguintes.
+ * <p>
+ * Na subida, o último segmento é percorrido de trás para frente até o último registro publicado: o journal continua
+ * depois dele, e as posições vazias abaixo (gravações em andamento numa queda) viram lápides. Abaixo dessa marca, o
+ * replay pula posições vazias em vez de parar, o que cobre buracos de quedas em segmentos anteriores.
+ * <p>
+ * Desligado por padrão: ligado, exige um {@code simulation.journal.directory} absoluto, para não criar segmentos
+ * no diretório de trabalho de quem sobe a JVM.
+ */
+@Slf4j
+@Component
+public class SimulationJournal implements SimulationListener {
+
+    private static final String SEGMENT_SUFFIX = ".journal";
+
+    private final boolean enabled;
+    private final Path directory;
+    private final int segmentRecords;
+    private final Clock clock;
+    private final NavigableMap<Long, Path> segments = new ConcurrentSkipListMap<>();
+    // segmentos abertos para escrita nesta execução: o atual e o anterior, para gravações que reservaram a
+    // sequência antes da virada
+    private final NavigableMap<Long, Segment> writable = new ConcurrentSkipListMap<>();
+    private final AtomicLong nextSequence = new AtomicLong();
+    // sequências reservadas por appends que falharam antes de o segmento delas existir
+    private final NavigableSet<Long> lostSequences = new ConcurrentSkipListSet<>();
+    private volatile Segment current;
+    private long publishedOnOpen;
+
+    public SimulationJournal(@Value("${simulation.journal.enabled:false}") boolean enabled,
+                             @Value("${simulation.journal.directory:#{null}}") Path directory,
+                             @Value("${simulation.journal.segment-records:1048576}") int segmentRecords,
+                             Clock clock) {
+        if (enabled && (directory == null || !directory.isAbsolute())) {
+            throw new IllegalArgumentException(
+                    "simulation.journal.directory must be an absolute path when the journal is enabled: " + directory);
+        }
+        this.enabled = enabled;
+        this.directory = directory;
+        this.segmentRecords = segmentRecords;
+        this.clock = clock;
+        if (enabled) {
+            open();
+        }
+    }
+
+    @Override
+    public void onSimulation(LoanSimulationRequest request, RateBand rateBand, LoanSimulationResponse response) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            append(request, response, clock.millis());
+        } catch (RuntimeException e) {
+            // o journal é analítico: uma falha de disco não pode derrubar a cotação
+            log.warn("Could not append simulation to the journal at {}", directory, e);
+        }
+    }
+
+    /**
+     * Acrescenta um registro e devolve a sequência atribuída a ele.
+     */
+    public long append(LoanSimulationRequest request, LoanSimulationResponse response, long simulatedAt) {
+        Segment segment = current;
+        if (segment == null) {
+            throw new IllegalStateException("Simulation journal is closed");
+        }
+        long sequence = nextSequence.getAndIncrement();
+        Segment target = segment.contains(sequence) ? segment : null;
+        try {
+            if (target == null) {
+                target = segmentFor(sequence);
+            }
+            SimulationJournalRecord.write(target.buffer(), target.offset(sequence), sequence, simulatedAt, request, response);
+        } catch (RuntimeException | Error e) {
+            if (target != null) {
+                SimulationJournalRecord.writeTombstone(target.buffer(), target.offset(sequence), sequence);
+            } else {
+                tombstoneLater(sequence);
+            }
+            throw e;
+        }
+        return sequence;
+    }
+
+    /**
+     * Sequência do último registro reservado, ou 0 com o journal vazio; com appends em andamento, ele pode ainda não
+     * estar publicado.
+     */
+    public long lastSequence() {
+        return nextSequence.get() - 1;
+    }
+
+    /**
+     * Percorre até {@code limit} registros a partir de {@code fromSequence}, em ordem, pulando lápides e parando no
+     * último gravado.
+     * O visitante recebe sempre a mesma visão, reposicionada sobre o segmento mapeado (somente leitura) a cada
+     * registro: nada é copiado, e a visão não deve ser guardada depois que o visitante retorna.
+     *
+     * @return quantidade de registros visitados
+     */
+    public long replay(long fromSequence, long limit, Consumer<SimulationJournalRecord> visitor) {
+        SimulationJournalRecord record = new SimulationJournalRecord();
+        long visited = 0;
+        Long first = segments.floorKey(Math.max(fromSequence, 1));
+        if (first == null) {
+            return 0;
+        }
+        for (Map.Entry<Long, Path> segment : segments.tailMap(first, true).entrySet()) {
+            MappedByteBuffer buffer = map(segment.getValue(), FileChannel.MapMode.READ_ONLY);
+            int start = (int) Math.max(0, fromSequence - segment.getKey());
+            for (int position = start; position < capacity(buffer) && visited < limit; position++) {
+                int offset = position * SimulationJournalRecord.SIZE;
+                long sequence = SimulationJournalRecord.sequenceAt(buffer, offset);
+                if (sequence == 0 && segment.getKey() + position >= publishedOnOpen) {
+                    return visited;
+                }
+                if (sequence <= 0) {
+                    continue;
+                }
+                visitor.accept(record.wrap(buffer, offset));
+                visited++;
+            }
+            if (visited == limit) {
+                return visited;
+            }
+        }
+        return visited;
+    }
+
+    /**
+     * Percorre todos os registros gravados.
+     */
+    public long replay(Consumer<SimulationJournalRecord> visitor) {
+        return replay(1, Long.MAX_VALUE, visitor);
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (current != null) {
+            current.buffer().force();
+            current = null;
+            writable.clear();
+            lostSequences.clear();
+        }
+    }
+
+    private void open() {
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> files = Files.list(directory)) {
+                files.filter(file -> file.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                        .forEach(file -> segments.put(firstSequence(file), file));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open simulation journal at " + directory, e);
+        }
+
+        if (segments.isEmpty()) {
+            nextSequence.set(1);
+            current = create(1);
+        } else {
+            Map.Entry<Long, Path> last = segments.lastEntry();
+            current = new Segment(last.getKey(), map(last.getValue(), FileChannel.MapMode.READ_WRITE));
+            nextSequence.set(last.getKey() + recover(current));
+        }
+        publishedOnOpen = nextSequence.get();
+        writable.put(current.firstSequence(), current);
+        log.info("Simulation journal opened at {} with {} segments, next sequence {}", directory, segments.size(), nextSequence);
+    }
+
+    /**
+     * Segmento da sequência fora do atual: abre os próximos segmentos até cobri-la, ou devolve um anterior. Cada
+     * segmento começa onde o anterior termina, então a virada não depende de qual thread chega primeiro.
+     */
+    private synchronized Segment segmentFor(long sequence) {
+        if (current == null) {
+            throw new IllegalStateException("Simulation journal is closed");
+        }
+        while (!current.contains(sequence) && sequence >= current.firstSequence()) {
+            Segment previous = current;
+            current = create(previous.endSequence());
+            writable.put(current.firstSequence(), current);
+            writable.headMap(previous.firstSequence()).clear();
+            previous.buffer().force();
+            tombstoneLost();
+        }
+        Map.Entry<Long, Segment> open = writable.floorEntry(sequence);
+        if (open != null && open.getValue().contains(sequence)) {
+            return open.getValue();
+        }
+        // a thread ficou mais de um segmento para trás: remapeia o arquivo dela
+        Map.Entry<Long, Path> file = segments.floorEntry(sequence);
+        return new Segment(file.getKey(), map(file.getValue(), FileChannel.MapMode.READ_WRITE));
+    }
+
+    /**
+     * Guarda a sequência de um append que falhou antes de ter segmento; a lápide vai quando o segmento for criado.
+     */
+    private synchronized void tombstoneLater(long sequence) {
+        lostSequences.add(sequence);
+        tombstoneLost();
+    }
+
+    private void tombstoneLost() {
+        for (Iterator<Long> lost = lostSequences.iterator(); lost.hasNext(); ) {
+            long sequence = lost.next();
+            Map.Entry<Long, Segment> open = writable.floorEntry(sequence);
+            if (open != null && open.getValue().contains(sequence)) {
+                SimulationJournalRecord.writeTombstone(open.getValue().buffer(), open.getValue().offset(sequence), sequence);
+                lost.remove();
+            }
+        }
+    }
+
+    private Segment create(long firstSequence) {
+        Path file = directory.resolve(String.format("%020d%s", firstSequence, SEGMENT_SUFFIX));
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            buffer = mapped(channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) segmentRecords * SimulationJournalRecord.SIZE));
+        } catch (FileAlreadyExistsException e) {
+            throw new UncheckedIOException("Could not create simulation journal segment " + file, e);
+        } catch (IOException e) {
+            // o arquivo já foi criado: sem apagá-lo, toda virada seguinte falharia com FileAlreadyExists
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException deleteFailure) {
+                e.addSuppressed(deleteFailure);
+            }
+            throw new UncheckedIOException("Could not create simulation journal segment " + file, e);
+        }
+        segments.put(firstSequence, file);
+        return new Segment(firstSequence, buffer);
+    }
+
+    /**
+     * Percorre o segmento de trás para frente até o último registro publicado e marca como lápide as posições vazias
+     * abaixo dele, deixadas por gravações em andamento numa queda.
+     *
+     * @return posições ocupadas do segmento (registros e lápides)
+     */
+    private static int recover(Segment segment) {
+        MappedByteBuffer buffer = segment.buffer();
+        int end = capacity(buffer);
+        while (end > 0 && SimulationJournalRecord.sequenceAt(buffer, (end - 1) * SimulationJournalRecord.SIZE) == 0) {
+            end--;
+        }
+        int holes = 0;
+        for (int position = 0; position < end; position++) {
+            int offset = position * SimulationJournalRecord.SIZE;
+            if (SimulationJournalRecord.sequenceAt(buffer, offset) == 0) {
+                SimulationJournalRecord.writeTombstone(buffer, offset, segment.firstSequence() + position);
+                holes++;
+            }
+        }
+        if (holes > 0) {
+            log.warn("Tombstoned {} unfinished simulation journal records below sequence {}", holes,
+                    segment.firstSequence() + end);
+        }
+        return end;
+    }
+
+    private static MappedByteBuffer map(Path file, FileChannel.MapMode mode) {
+        StandardOpenOption[] options = mode == FileChannel.MapMode.READ_ONLY
+                ? new StandardOpenOption[]{StandardOpenOption.READ}
+                : new StandardOpenOption[]{StandardOpenOption.READ, StandardOpenOption.WRITE};
+        try (FileChannel channel = FileChannel.open(file, options)) {
+            return mapped(channel.map(mode, 0, channel.size()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not map simulation journal segment " + file, e);
+        }
+    }
+
+    private static MappedByteBuffer mapped(MappedByteBuffer buffer) {
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        return buffer;
+    }
+
+    private static int capacity(MappedByteBuffer buffer) {
+        return buffer.capacity() / SimulationJournalRecord.SIZE;
+    }
+
+    /**
+     * Segmento mapeado com as sequências {@code [firstSequence, endSequence)}.
+     */
+    private record Segment(long firstSequence, MappedByteBuffer buffer) {
+
+        long endSequence() {
+            return firstSequence + capacity(buffer);
+        }
+
+        boolean contains(long sequence) {
+            return sequence >= firstSequence && sequence < endSequence();
+        }
+
+        int offset(long sequence) {
+            return (int) (sequence - firstSequence) * SimulationJournalRecord.SIZE;
+        }
+    }
+
+    private static long firstSequence(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+    }
+}
@@ -0,0 +1,209 @@
+package com.github.renatinhah.backend_credit_simulator.service.journal;
+
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationRequest;
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationResponse;
+import com.github.renatinhah.backend_credit_simulator.model.Money;
+import com.github.renatinhah.backend_credit_simulator.model.enums.AmortizationSystemEnum;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Registro de tamanho fixo do {@link SimulationJournal} e, ao mesmo tempo, a visão sobre ele usada no replay.
+ * <p>
+ * Layout ({@value #SIZE} bytes, little-endian):
+ * <pre>
+ *  0 long  sequência (0 = posição livre, negativa = lápide; gravada por último, com release)
+ *  8 long  instante da simulação (epoch millis)
+ * 16 long  loanAmount sem escala          72 byte escala do loanAmount
+ * 24 long  variableInterestRate sem escala 73 byte escala da taxa ({@value #NO_RATE} = taxa por idade)
+ * 32 long  monthlyInstallment em centavos
+ * 40 long  totalInterest em centavos
+ * 48 long  totalAmountToPay em centavos
+ * 56 int   birthDate (epoch day)
+ * 60 int   paymentTermInMonths
+ * 64 long  lastInstallment em centavos (só no SAC)  74 byte sistema de amortização (0 = não informado, senão ordinal + 1)
+ * 75-79 reservados
+ * </pre>
+ * Uma lápide ocupa uma sequência reservada que nunca foi gravada (append que falhou ou queda no meio da gravação):
+ * só o campo de sequência vale, com o sinal trocado, e o replay a pula.
+ * Registros gravados antes do campo de sistema têm os bytes 64-79 zerados e são lidos como Tabela Price. O loanAmount
+ * é gravado em centavos (escala 2); registros antigos com outra escala são arredondados HALF_UP na leitura.
+ * A mesma instância é reposicionada a cada registro do replay, então os getters leem direto do arquivo mapeado,
+ * sem cópia; os que devolvem {@link Money}/{@link BigDecimal}/{@link LocalDate} alocam o valor, os primitivos não.
+ */
+public final class SimulationJournalRecord {
+
+    public static final int SIZE = 80;
+    static final byte NO_RATE = Byte.MIN_VALUE;
+
+    private static final int SEQUENCE = 0;
+    private static final int SIMULATED_AT = 8;
+    private static final int LOAN_AMOUNT = 16;
+    private static final int VARIABLE_RATE = 24;
+    private static final int MONTHLY_INSTALLMENT = 32;
+    private static final int TOTAL_INTEREST = 40;
+    private static final int TOTAL_AMOUNT_TO_PAY = 48;
+    private static final int BIRTH_DATE = 56;
+    private static final int PAYMENT_TERM = 60;
+    private static final int LAST_INSTALLMENT = 64;
+    private static final int LOAN_AMOUNT_SCALE = 72;
+    private static final int VARIABLE_RATE_SCALE = 73;
+    private static final int AMORTIZATION_SYSTEM = 74;
+
+    private static final MathContext LONG_PRECISION = new MathContext(18);
+    private static final VarHandle LONG = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private ByteBuffer buffer;
+    private int offset;
+
+    SimulationJournalRecord wrap(ByteBuffer buffer, int offset) {
+        this.buffer = buffer;
+        this.offset = offset;
+        return this;
+    }
+
+    /**
+     * Grava o registro na posição; a sequência vai por último, então um leitor nunca vê um registro pela metade.
+     */
+    static void write(ByteBuffer buffer, int offset, long sequence, long simulatedAt,
+                      LoanSimulationRequest request, LoanSimulationResponse response) {
+        buffer.putLong(offset + SIMULATED_AT, simulatedAt);
+        buffer.putLong(offset + LOAN_AMOUNT, request.getLoanAmount().cents());
+        buffer.put(offset + LOAN_AMOUNT_SCALE, (byte) Money.SCALE);
+        if (request.getVariableInterestRate() == null) {
+            buffer.putLong(offset + VARIABLE_RATE, 0);
+            buffer.put(offset + VARIABLE_RATE_SCALE, NO_RATE);
+        } else {
+            BigDecimal variableRate = fitInLong(request.getVariableInterestRate());
+            buffer.putLong(offset + VARIABLE_RATE, variableRate.unscaledValue().longValue());
+            buffer.put(offset + VARIABLE_RATE_SCALE, (byte) variableRate.scale());
+        }
+        buffer.putLong(offset + MONTHLY_INSTALLMENT, response.getMonthlyInstallment().cents());
+        buffer.putLong(offset + TOTAL_INTEREST, response.getTotalInterest().cents());
+        buffer.putLong(offset + TOTAL_AMOUNT_TO_PAY, response.getTotalAmountToPay().cents());
+        buffer.putInt(offset + BIRTH_DATE, (int) request.getBirthDate().toEpochDay());
+        buffer.putInt(offset + PAYMENT_TERM, request.getPaymentTermInMonths());
+        buffer.putLong(offset + LAST_INSTALLMENT, response.getLastInstallment() == null ? 0 : response.getLastInstallment().cents());
+        buffer.put(offset + AMORTIZATION_SYSTEM,
+                (byte) (request.getAmortizationSystem() == null ? 0 : request.getAmortizationSystem().ordinal() + 1));
+        LONG.setRelease(buffer, offset + SEQUENCE, sequence);
+    }
+
+    /**
+     * Publica a posição como lápide, para que a sequência reservada não deixe um buraco no journal.
+     */
+    static void writeTombstone(ByteBuffer buffer, int offset, long sequence) {
+        LONG.setRelease(buffer, offset + SEQUENCE, -sequence);
+    }
+
+    static long sequenceAt(ByteBuffer buffer, int offset) {
+        return (long) LONG.getAcquire(buffer, offset + SEQUENCE);
+    }
+
+    public long sequence() {
+        return sequenceAt(buffer, offset);
+    }
+
+    public long simulatedAtMillis() {
+        return buffer.getLong(offset + SIMULATED_AT);
+    }
+
+    public Instant simulatedAt() {
+        return Instant.ofEpochMilli(simulatedAtMillis());
+    }
+
+    public long loanAmountUnscaled() {
+        return buffer.getLong(offset + LOAN_AMOUNT);
+    }
+
+    public int loanAmountScale() {
+        return buffer.get(offset + LOAN_AMOUNT_SCALE);
+    }
+
+    public Money loanAmount() {
+        return Money.of(loanAmountUnscaled(), loanAmountScale());
+    }
+
+    public LocalDate birthDate() {
+        return LocalDate.ofEpochDay(buffer.getInt(offset + BIRTH_DATE));
+    }
+
+    public int paymentTermInMonths() {
+        return buffer.getInt(offset + PAYMENT_TERM);
+    }
+
+    public boolean hasVariableInterestRate() {
+        return buffer.get(offset + VARIABLE_RATE_SCALE) != NO_RATE;
+    }
+
+    /**
+     * Taxa variável informada na requisição, ou {@code null} quando a taxa veio da faixa etária.
+     */
+    public BigDecimal variableInterestRate() {
+        return hasVariableInterestRate()
+                ? BigDecimal.valueOf(buffer.getLong(offset + VARIABLE_RATE), buffer.get(offset + VARIABLE_RATE_SCALE))
+                : null;
+    }
+
+    /**
+     * Sistema de amortização informado na requisição, ou {@code null} quando ficou o padrão (Tabela Price).
+     */
+    public AmortizationSystemEnum amortizationSystem() {
+        int system = buffer.get(offset + AMORTIZATION_SYSTEM);
+        return system == 0 ? null : AmortizationSystemEnum.values()[system - 1];
+    }
+
+    public long monthlyInstallmentCents() {
+        return buffer.getLong(offset + MONTHLY_INSTALLMENT);
+    }
+
+    public long totalInterestCents() {
+        return buffer.getLong(offset + TOTAL_INTEREST);
+    }
+
+    public long totalAmountToPayCents() {
+        return buffer.getLong(offset + TOTAL_AMOUNT_TO_PAY);
+    }
+
+    public long lastInstallmentCents() {
+        return buffer.getLong(offset + LAST_INSTALLMENT);
+    }
+
+    public LoanSimulationRequest toRequest() {
+        LoanSimulationRequest request = new LoanSimulationRequest();
+        request.setLoanAmount(loanAmount());
+        request.setBirthDate(birthDate());
+        request.setPaymentTermInMonths(paymentTermInMonths());
+        request.setVariableInterestRate(variableInterestRate());
+        request.setAmortizationSystem(amortizationSystem());
+        return request;
+    }
+
+    public LoanSimulationResponse toResponse() {
+        return LoanSimulationResponse.builder()
+                .monthlyInstallment(Money.ofCents(monthlyInstallmentCents()))
+                .totalInterest(Money.ofCents(totalInterestCents()))
+                .totalAmountToPay(Money.ofCents(totalAmountToPayCents()))
+                .lastInstallment(amortizationSystem() == AmortizationSystemEnum.SAC
+                        ? Money.ofCents(lastInstallmentCents())
+                        : null)
+                .build();
+    }
+
+    /**
+     * Taxas com mais de 18 dígitos significativos são arredondadas para caber em long + escala; taxas digitadas por
+     * clientes ficam sempre exatas.
+     */
+    private static BigDecimal fitInLong(BigDecimal value) {
+        BigDecimal fitted = value.precision() > LONG_PRECISION.getPrecision() ? value.round(LONG_PRECISION) : value;
+        return fitted.scale() > Byte.MAX_VALUE ? fitted.setScale(Byte.MAX_VALUE, RoundingMode.HALF_UP) : fitted;
+    }
+}
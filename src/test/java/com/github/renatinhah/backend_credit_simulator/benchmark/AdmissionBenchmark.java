@@ -0,0 +1,70 @@
+package com.github.renatinhah.backend_credit_simulator.benchmark;
+
+import com.github.renatinhah.backend_credit_simulator.service.admission.AdaptiveConcurrencyLimiter;
+import com.github.renatinhah.backend_credit_simulator.service.admission.ClientRateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Custo do controle de admissão por requisição, com várias threads disputando o mesmo estado:
+ * todas no balde de um único cliente (pior caso do CAS) ou cada uma no seu, e a reserva/liberação de uma vaga
+ * no limite de concorrência. As cotas são altas o bastante para que nada seja recusado.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class AdmissionBenchmark {
+
+    private static final AtomicInteger THREAD_IDS = new AtomicInteger();
+
+    private ClientRateLimiter rateLimiter;
+    private AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+    @State(Scope.Thread)
+    public static class Client {
+        final String id = "client-" + THREAD_IDS.incrementAndGet();
+    }
+
+    @Setup
+    public void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        rateLimiter = new ClientRateLimiter(true, 1e9, Integer.MAX_VALUE, 100_000, System::nanoTime, meterRegistry);
+        concurrencyLimiter = new AdaptiveConcurrencyLimiter(true, 1_000, 1_000, 1_000, 2.0, Duration.ofMillis(25),
+                0.9, 1_000, meterRegistry);
+    }
+
+    @Benchmark
+    public long sharedClient() {
+        return rateLimiter.tryAcquire("partner");
+    }
+
+    @Benchmark
+    public long distinctClients(Client client) {
+        return rateLimiter.tryAcquire(client.id);
+    }
+
+    @Benchmark
+    public boolean concurrencySlot() {
+        boolean acquired = concurrencyLimiter.tryAcquire();
+        concurrencyLimiter.release(1_000);
+        return acquired;
+    }
+}
@@ -0,0 +1,70 @@
+package com.github.renatinhah.backend_credit_simulator.benchmark;
+
+import com.github.renatinhah.backend_credit_simulator.service.AffordabilityService;
+import com.github.renatinhah.backend_credit_simulator.service.LoanSimulationServiceFixture;
+import com.github.renatinhah.backend_credit_simulator.service.engine.AnnuityFactorCache;
+import com.github.renatinhah.backend_credit_simulator.service.engine.BigDecimalInstallmentEngine;
+import com.github.renatinhah.backend_credit_simulator.service.engine.CachedInstallmentEngine;
+import com.github.renatinhah.backend_credit_simulator.service.engine.InstallmentEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Simulação inversa contra a varredura que ela substitui: o prazo mínimo para R$ 250.000 a 3% a.a. caber em
+ * R$ 1.100,00 (337 meses), por logaritmo + conferência e por uma simulação a cada prazo; e o valor máximo em 360 meses.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AffordabilityBenchmark {
+
+    private final BigDecimal loanAmount = new BigDecimal("250000.00");
+    private final BigDecimal annualRate = new BigDecimal("0.03");
+    private final BigDecimal targetInstallment = new BigDecimal("1100.00");
+    private InstallmentEngine installmentEngine;
+    private AffordabilityService affordabilityService;
+
+    @Setup
+    public void setUp() {
+        AnnuityFactorCache annuityFactorCache = new AnnuityFactorCache(10_000);
+        installmentEngine = new CachedInstallmentEngine(annuityFactorCache, new BigDecimalInstallmentEngine());
+        affordabilityService = new AffordabilityService(
+                LoanSimulationServiceFixture.fixture(LocalDate.of(2025, 1, 1)).engine(installmentEngine).build(),
+                installmentEngine, annuityFactorCache, 480);
+    }
+
+    @Benchmark
+    public BigDecimal maxLoanAmount() {
+        return affordabilityService.maxLoanAmount(targetInstallment, annualRate, 360);
+    }
+
+    @Benchmark
+    public int minPaymentTerm() {
+        return affordabilityService.minPaymentTerm(loanAmount, targetInstallment, annualRate);
+    }
+
+    @Benchmark
+    public int linearTermScan() {
+        for (int term = 1; term <= 480; term++) {
+            if (installmentEngine.calculateInstallment(loanAmount, annualRate, term).compareTo(targetInstallment) <= 0) {
+                return term;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,70 @@
+package com.github.renatinhah.backend_credit_simulator.benchmark;
+
+import com.github.renatinhah.backend_credit_simulator.dto.AmortizationScheduleEntry;
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationResponse;
+import com.github.renatinhah.backend_credit_simulator.model.Money;
+import com.github.renatinhah.backend_credit_simulator.model.enums.AmortizationSystemEnum;
+import com.github.renatinhah.backend_credit_simulator.service.LoanSimulationServiceFixture;
+import com.github.renatinhah.backend_credit_simulator.service.amortization.AmortizationCalculator;
+import com.github.renatinhah.backend_credit_simulator.service.engine.AnnuityFactorCache;
+import com.github.renatinhah.backend_credit_simulator.service.engine.BigDecimalInstallmentEngine;
+import com.github.renatinhah.backend_credit_simulator.service.engine.CachedInstallmentEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cotação e cronograma completo por sistema de amortização, com o motor da aplicação (fatores de anuidade em cache).
+ * A cotação SAC usa as somas fechadas, então seu custo não depende do prazo; o cronograma percorre todos os meses.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AmortizationSystemBenchmark {
+
+    @Param({"PRICE", "SAC"})
+    private AmortizationSystemEnum amortizationSystem;
+
+    @Param({"12", "360"})
+    private int paymentTermInMonths;
+
+    private final Money loanAmount = Money.parse("250000.00");
+    private final BigDecimal annualRate = new BigDecimal("0.03");
+    private AmortizationCalculator calculator;
+
+    @Setup
+    public void setUp() {
+        calculator = LoanSimulationServiceFixture
+                .amortizationCalculators(new CachedInstallmentEngine(new AnnuityFactorCache(10_000), new BigDecimalInstallmentEngine()))
+                .get(amortizationSystem);
+    }
+
+    @Benchmark
+    public LoanSimulationResponse simulate() {
+        return calculator.simulate(loanAmount, annualRate, paymentTermInMonths);
+    }
+
+    @Benchmark
+    public void schedule(Blackhole blackhole) {
+        Iterator<AmortizationScheduleEntry> schedule = calculator.schedule(loanAmount, annualRate, paymentTermInMonths);
+        while (schedule.hasNext()) {
+            blackhole.consume(schedule.next());
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.github.renatinhah.backend_credit_simulator.benchmark;
+
+import com.github.renatinhah.backend_credit_simulator.model.Money;
+import com.github.renatinhah.backend_credit_simulator.service.engine.BatchInstallmentEngine;
+import com.github.renatinhah.backend_credit_simulator.service.engine.BigDecimalInstallmentEngine;
+import com.github.renatinhah.backend_credit_simulator.service.engine.PrimitiveInstallmentEngine;
+import com.github.renatinhah.backend_credit_simulator.service.engine.ScalarInstallmentKernel;
+import com.github.renatinhah.backend_credit_simulator.service.engine.VectorInstallmentKernel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.renatinhah.backend_credit_simulator.service.LoanSimulationService.MONTHS_IN_YEAR;
+
+/**
+ * Parcelas de um lote de {@code batchSize} itens aleatórios (R$ 1 mil a R$ 1 milhão, 1% a 30% a.a., 6 a 420 meses):
+ * uma chamada por item nos motores {@code BIG_DECIMAL} e {@code PRIMITIVE} contra os kernels escalar e vetorial sobre
+ * colunas e o {@link BatchInstallmentEngine} completo (colunas, kernel vetorial e recálculo das posições ambíguas).
+ * O tempo é por lote; divida por {@code batchSize} para o custo por item.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Benchmark)
+public class BatchInstallmentBenchmark {
+
+    @Param({"8", "64", "1024", "65536", "1048576"})
+    private int batchSize;
+
+    private BigDecimalInstallmentEngine reference;
+    private PrimitiveInstallmentEngine primitive;
+    private ScalarInstallmentKernel scalarKernel;
+    private VectorInstallmentKernel vectorKernel;
+    private BatchInstallmentEngine batchEngine;
+
+    private long[] loanAmountCents;
+    private BigDecimal[] annualRates;
+    private int[] terms;
+    private Money[] loanAmounts;
+    private double[] annualRateColumn;
+    private double[] loanAmountColumn;
+    private double[] monthRateColumn;
+    private long[] installments;
+
+    @Setup
+    public void setUp() {
+        reference = new BigDecimalInstallmentEngine();
+        primitive = new PrimitiveInstallmentEngine(reference);
+        scalarKernel = new ScalarInstallmentKernel();
+        vectorKernel = new VectorInstallmentKernel();
+        batchEngine = new BatchInstallmentEngine(vectorKernel, reference);
+
+        SplittableRandom random = new SplittableRandom(42);
+        loanAmountCents = new long[batchSize];
+        annualRates = new BigDecimal[batchSize];
+        terms = new int[batchSize];
+        loanAmounts = new Money[batchSize];
+        annualRateColumn = new double[batchSize];
+        loanAmountColumn = new double[batchSize];
+        monthRateColumn = new double[batchSize];
+        installments = new long[batchSize];
+        for (int i = 0; i < batchSize; i++) {
+            loanAmountCents[i] = random.nextLong(100_000, 100_000_001);
+            annualRates[i] = BigDecimal.valueOf(random.nextLong(100, 3_001), 4);
+            terms[i] = random.nextInt(6, 421);
+            loanAmounts[i] = Money.ofCents(loanAmountCents[i]);
+            annualRateColumn[i] = annualRates[i].doubleValue();
+            loanAmountColumn[i] = loanAmounts[i].doubleValue();
+            monthRateColumn[i] = annualRateColumn[i] / MONTHS_IN_YEAR;
+        }
+    }
+
+    @Benchmark
+    public long[] perItemBigDecimal() {
+        for (int i = 0; i < batchSize; i++) {
+            installments[i] = reference.calculateInstallment(loanAmounts[i], annualRates[i], terms[i]).cents();
+        }
+        return installments;
+    }
+
+    @Benchmark
+    public long[] perItemPrimitive() {
+        for (int i = 0; i < batchSize; i++) {
+            installments[i] = primitive.calculateInstallment(loanAmounts[i], annualRates[i], terms[i]).cents();
+        }
+        return installments;
+    }
+
+    @Benchmark
+    public long[] scalarKernel() {
+        scalarKernel.installmentsInCents(loanAmountColumn, monthRateColumn, terms, installments, batchSize);
+        return installments;
+    }
+
+    @Benchmark
+    public long[] vectorKernel() {
+        vectorKernel.installmentsInCents(loanAmountColumn, monthRateColumn, terms, installments, batchSize);
+        return installments;
+    }
+
+    @Benchmark
+    public long[] batchEngine() {
+        return batchEngine.installmentsInCents(loanAmountCents, annualRateColumn, terms);
+    }
+}
@@ -0,0 +1,158 @@
+package com.github.renatinhah.backend_credit_simulator.benchmark;
+
+import com.github.renatinhah.backend_credit_simulator.BackendCreditSimulatorApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Teste de carga que compara o atendimento de {@code POST /api/v1/simulations} em threads de plataforma
+ * (pool do Tomcat) e em threads virtuais ({@code spring.threads.virtual.enabled}).
+ * <p>
+ * Para cada modo, sobe a aplicação em porta aleatória, mantém {@code concurrency} requisições em voo por
+ * {@code duration} segundos (após {@code warmup} segundos descartados) e imprime vazão e latências p50/p99/p99.9.
+ * <pre>
+ * mvn -Pload-test verify -DskipTests -Dload.args="concurrency=2000 duration=30"
+ * </pre>
+ */
+public final class ExecutionModeLoadRunner {
+
+    private static final String REQUEST_BODY =
+            "{\"loanAmount\":250000.00,\"birthDate\":\"1990-05-20\",\"paymentTermInMonths\":360}";
+
+    private ExecutionModeLoadRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "1000"));
+        int warmupSeconds = Integer.parseInt(options.getOrDefault("warmup", "5"));
+        int durationSeconds = Integer.parseInt(options.getOrDefault("duration", "20"));
+        String tomcatMaxThreads = options.getOrDefault("tomcat-max-threads", "200");
+
+        List<String> report = new ArrayList<>();
+        for (boolean virtualThreads : new boolean[]{false, true}) {
+            try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BackendCreditSimulatorApplication.class)
+                    .properties("server.port=0",
+                            "server.tomcat.threads.max=" + tomcatMaxThreads,
+                            "spring.threads.virtual.enabled=" + virtualThreads,
+                            "simulation.rate-limit.enabled=false",
+                            "simulation.concurrency-limit.enabled=false",
+                            "spring.main.banner-mode=off",
+                            "logging.level.root=WARN")
+                    .run()) {
+                URI endpoint = URI.create("http://localhost:"
+                        + context.getEnvironment().getProperty("local.server.port") + "/api/v1/simulations");
+
+                run(endpoint, concurrency, warmupSeconds);
+                Result result = run(endpoint, concurrency, durationSeconds);
+                report.add(String.format("%-8s %s", virtualThreads ? "VIRTUAL" : "PLATFORM", result));
+            }
+        }
+
+        System.out.printf("%nconcurrency=%d duration=%ds tomcat-max-threads=%s%n", concurrency, durationSeconds, tomcatMaxThreads);
+        report.forEach(System.out::println);
+    }
+
+    private static Result run(URI endpoint, int concurrency, int durationSeconds) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(endpoint)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(REQUEST_BODY))
+                .build();
+        AtomicLong errors = new AtomicLong();
+        long deadline = System.nanoTime() + Duration.ofSeconds(durationSeconds).toNanos();
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient httpClient = HttpClient.newBuilder().executor(clients).build()) {
+            List<Future<LatencyRecorder>> workers = new ArrayList<>(concurrency);
+            for (int i = 0; i < concurrency; i++) {
+                workers.add(clients.submit(() -> {
+                    LatencyRecorder recorder = new LatencyRecorder();
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        recorder.record(System.nanoTime() - start);
+                    }
+                    return recorder;
+                }));
+            }
+
+            LatencyRecorder total = new LatencyRecorder();
+            for (Future<LatencyRecorder> worker : workers) {
+                total.addAll(worker.get());
+            }
+            return total.result(durationSeconds, errors.get());
+        }
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String[] keyValue = arg.split("=", 2);
+            if (keyValue.length == 2) {
+                options.put(keyValue[0].replaceFirst("^--", ""), keyValue[1]);
+            }
+        }
+        return options;
+    }
+
+    private static final class LatencyRecorder {
+
+        private long[] latencies = new long[1024];
+        private int size;
+
+        void record(long nanos) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = nanos;
+        }
+
+        void addAll(LatencyRecorder other) {
+            for (int i = 0; i < other.size; i++) {
+                record(other.latencies[i]);
+            }
+        }
+
+        Result result(int durationSeconds, long errors) {
+            long[] sorted = Arrays.copyOf(latencies, size);
+            Arrays.sort(sorted);
+            return new Result((double) size / durationSeconds, percentile(sorted, 0.50), percentile(sorted, 0.99),
+                    percentile(sorted, 0.999), sorted.length == 0 ? 0 : sorted[sorted.length - 1], errors);
+        }
+
+        private static long percentile(long[] sorted, double percentile) {
+            return sorted.length == 0 ? 0 : sorted[(int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1)];
+        }
+    }
+
+    private record Result(double throughput, long p50, long p99, long p999, long max, long errors) {
+
+        @Override
+        public String toString() {
+            return String.format("throughput=%.0f req/s p50=%.2fms p99=%.2fms p99.9=%.2fms max=%.2fms errors=%d",
+                    throughput, p50 / 1e6, p99 / 1e6, p999 / 1e6, max / 1e6, errors);
+        }
+    }
+}
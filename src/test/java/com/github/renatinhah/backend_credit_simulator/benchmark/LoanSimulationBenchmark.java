@@ -0,0 +1,127 @@
+package com.github.renatinhah.backend_credit_simulator.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.renatinhah.backend_credit_simulator.config.InstallmentEngineConfig;
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationRequest;
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationResponse;
+import com.github.renatinhah.backend_credit_simulator.exceptions.LoanSimulationException;
+import com.github.renatinhah.backend_credit_simulator.metrics.SimulationMetrics;
+import com.github.renatinhah.backend_credit_simulator.model.Money;
+import com.github.renatinhah.backend_credit_simulator.model.RateBand;
+import com.github.renatinhah.backend_credit_simulator.model.enums.InstallmentEngineEnum;
+import com.github.renatinhah.backend_credit_simulator.service.LoanSimulationService;
+import com.github.renatinhah.backend_credit_simulator.service.LoanSimulationServiceFixture;
+import com.github.renatinhah.backend_credit_simulator.service.RateTableService;
+import com.github.renatinhah.backend_credit_simulator.service.SimulationCoalescer;
+import com.github.renatinhah.backend_credit_simulator.service.SimulationResponseCache;
+import com.github.renatinhah.backend_credit_simulator.service.engine.AnnuityFactorCache;
+import com.github.renatinhah.backend_credit_simulator.service.engine.InstallmentEngine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caminho principal da simulação: cotação por faixa etária, taxa variável e cálculo isolado da parcela,
+ * para prazos curtos e longos (360 a 480 meses) em cada motor de cálculo, com e sem o cache de fatores de anuidade.
+ * {@code simulateFromJson} mede a cotação completa como no controller: leitura do JSON, cálculo e escrita da resposta.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoanSimulationBenchmark {
+
+    @Param({"12", "60", "360", "480"})
+    private int paymentTermInMonths;
+
+    @Param({"BIG_DECIMAL", "PRIMITIVE"})
+    private InstallmentEngineEnum engine;
+
+    @Param({"true", "false"})
+    private boolean annuityCacheEnabled;
+
+    private LoanSimulationService loanSimulationService;
+    private InstallmentEngine installmentEngine;
+    private LoanSimulationRequest ageBasedRequest;
+    private LoanSimulationRequest variableRateRequest;
+    private BigDecimal annualRate;
+    private ObjectReader requestReader;
+    private ObjectWriter responseWriter;
+    private byte[] ageBasedRequestBytes;
+
+    @Setup
+    public void setUp() throws IOException {
+        RateTableService rateTableService = new RateTableService("", new ObjectMapper(), event -> { });
+        AnnuityFactorCache annuityFactorCache = new AnnuityFactorCache(10_000);
+        annuityFactorCache.warmUp(rateTableService.current().getBands().stream().map(RateBand::annualRate).toList(),
+                List.of(12, 60, 360, 480));
+
+        installmentEngine = new InstallmentEngineConfig().installmentEngine(engine, annuityCacheEnabled, annuityFactorCache);
+        loanSimulationService = new LoanSimulationService(Clock.systemDefaultZone(),
+                LoanSimulationServiceFixture.amortizationCalculators(installmentEngine), rateTableService,
+                new SimulationMetrics(new SimpleMeterRegistry()),
+                new SimulationResponseCache(false, 0, Duration.ZERO, Ticker.systemTicker(), new SimpleMeterRegistry()),
+                new SimulationCoalescer(false, new SimpleMeterRegistry()), List.of());
+
+        ageBasedRequest = createRequest(null);
+        variableRateRequest = createRequest(new BigDecimal("0.045"));
+        annualRate = new BigDecimal(0.05);
+
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        requestReader = objectMapper.readerFor(LoanSimulationRequest.class);
+        responseWriter = objectMapper.writerFor(LoanSimulationResponse.class);
+        ageBasedRequestBytes = objectMapper.writeValueAsBytes(ageBasedRequest);
+    }
+
+    @Benchmark
+    public LoanSimulationResponse simulateByAge() throws LoanSimulationException {
+        return loanSimulationService.simulate(ageBasedRequest);
+    }
+
+    @Benchmark
+    public LoanSimulationResponse simulateWithVariableRate() throws LoanSimulationException {
+        return loanSimulationService.simulate(variableRateRequest);
+    }
+
+    @Benchmark
+    public byte[] simulateFromJson() throws IOException, LoanSimulationException {
+        return responseWriter.writeValueAsBytes(loanSimulationService.simulate(requestReader.readValue(ageBasedRequestBytes)));
+    }
+
+    @Benchmark
+    public Money calculateInstallment() {
+        return installmentEngine.calculateInstallment(ageBasedRequest.getLoanAmount(), annualRate, paymentTermInMonths);
+    }
+
+    private LoanSimulationRequest createRequest(BigDecimal variableInterestRate) {
+        LoanSimulationRequest request = new LoanSimulationRequest();
+        request.setLoanAmount(Money.parse("250000.00"));
+        request.setBirthDate(LocalDate.of(1990, 5, 20));
+        request.setPaymentTermInMonths(paymentTermInMonths);
+        request.setVariableInterestRate(variableInterestRate);
+        return request;
+    }
+}
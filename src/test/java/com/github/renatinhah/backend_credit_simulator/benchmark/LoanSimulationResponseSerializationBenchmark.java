@@ -0,0 +1,49 @@
+package com.github.renatinhah.backend_credit_simulator.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationResponse;
+import com.github.renatinhah.backend_credit_simulator.model.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoanSimulationResponseSerializationBenchmark {
+
+    private ObjectWriter responseWriter;
+    private LoanSimulationResponse response;
+
+    @Setup
+    public void setUp() {
+        responseWriter = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .writerFor(LoanSimulationResponse.class);
+        response = LoanSimulationResponse.builder()
+                .monthlyInstallment(Money.parse("856.07"))
+                .totalInterest(Money.parse("272.84"))
+                .totalAmountToPay(Money.parse("10272.84"))
+                .build();
+    }
+
+    @Benchmark
+    public byte[] serializeResponse() throws JsonProcessingException {
+        return responseWriter.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,84 @@
+package com.github.renatinhah.backend_credit_simulator.benchmark;
+
+import com.github.renatinhah.backend_credit_simulator.service.engine.BatchInstallmentEngine;
+import com.github.renatinhah.backend_credit_simulator.service.engine.BigDecimalInstallmentEngine;
+import com.github.renatinhah.backend_credit_simulator.service.engine.InstallmentGridEngine;
+import com.github.renatinhah.backend_credit_simulator.service.engine.InstallmentKernel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Grade de 10 taxas × 30 prazos (12..360, passo 12) × 50 valores: cálculo incremental do
+ * {@link InstallmentGridEngine}, com e sem o kernel em lote, contra as mesmas 15.000 chamadas independentes ao motor
+ * de referência.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Benchmark)
+public class RateSweepBenchmark {
+
+    private static final BigDecimal FIRST_LOAN_AMOUNT = new BigDecimal("10000.00");
+    private static final BigDecimal LOAN_AMOUNT_STEP = new BigDecimal("5000.00");
+    private static final int LOAN_AMOUNT_COUNT = 50;
+    private static final int FIRST_TERM = 12;
+    private static final int TERM_STEP = 12;
+    private static final int TERM_COUNT = 30;
+
+    private BigDecimalInstallmentEngine reference;
+    private InstallmentGridEngine gridEngine;
+    private InstallmentGridEngine batchGridEngine;
+    private List<BigDecimal> annualRates;
+
+    @Setup
+    public void setUp() {
+        reference = new BigDecimalInstallmentEngine();
+        gridEngine = new InstallmentGridEngine(reference);
+        batchGridEngine = new InstallmentGridEngine(reference, new BatchInstallmentEngine(InstallmentKernel.best(), reference));
+        annualRates = IntStream.rangeClosed(1, 10)
+                .mapToObj(i -> new BigDecimal("0.01").multiply(BigDecimal.valueOf(i)))
+                .toList();
+    }
+
+    @Benchmark
+    public BigDecimal[][][] gridEngine() {
+        return gridEngine.calculateGrid(FIRST_LOAN_AMOUNT, LOAN_AMOUNT_STEP, LOAN_AMOUNT_COUNT,
+                FIRST_TERM, TERM_STEP, TERM_COUNT, annualRates);
+    }
+
+    @Benchmark
+    public BigDecimal[][][] batchGridEngine() {
+        return batchGridEngine.calculateGrid(FIRST_LOAN_AMOUNT, LOAN_AMOUNT_STEP, LOAN_AMOUNT_COUNT,
+                FIRST_TERM, TERM_STEP, TERM_COUNT, annualRates);
+    }
+
+    @Benchmark
+    public BigDecimal[][][] independentCalls() {
+        BigDecimal[][][] grid = new BigDecimal[annualRates.size()][TERM_COUNT][LOAN_AMOUNT_COUNT];
+        for (int rate = 0; rate < annualRates.size(); rate++) {
+            for (int term = 0; term < TERM_COUNT; term++) {
+                for (int amount = 0; amount < LOAN_AMOUNT_COUNT; amount++) {
+                    BigDecimal loanAmount = FIRST_LOAN_AMOUNT.add(LOAN_AMOUNT_STEP.multiply(BigDecimal.valueOf(amount)));
+                    grid[rate][term][amount] = reference.calculateInstallment(loanAmount, annualRates.get(rate),
+                            FIRST_TERM + term * TERM_STEP);
+                }
+            }
+        }
+        return grid;
+    }
+}
@@ -0,0 +1,114 @@
+package com.github.renatinhah.backend_credit_simulator.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationRequest;
+import com.github.renatinhah.backend_credit_simulator.exceptions.AgeNotSupportedException;
+import com.github.renatinhah.backend_credit_simulator.exceptions.LoanSimulationException;
+import com.github.renatinhah.backend_credit_simulator.handlers.GlobalExceptionHandler;
+import com.github.renatinhah.backend_credit_simulator.metrics.SimulationMetrics;
+import com.github.renatinhah.backend_credit_simulator.model.Money;
+import com.github.renatinhah.backend_credit_simulator.service.LoanSimulationService;
+import com.github.renatinhah.backend_credit_simulator.service.LoanSimulationServiceFixture;
+import com.github.renatinhah.backend_credit_simulator.service.RateTableService;
+import com.github.renatinhah.backend_credit_simulator.service.SimulationCoalescer;
+import com.github.renatinhah.backend_credit_simulator.service.SimulationResponseCache;
+import com.github.renatinhah.backend_credit_simulator.service.engine.BigDecimalInstallmentEngine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de uma requisição recusada, do serviço até o corpo JSON do erro, comparado com o de uma cotação aceita:
+ * idade fora de todas as faixas (regra de negócio) e falha de cálculo (taxa variável zero).
+ * Com {@code -t} o mesmo cenário roda em várias threads, simulando um pico de tráfego inválido.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RejectedSimulationBenchmark {
+
+    private static final String ADULTS_ONLY_RATE_TABLE = """
+            {"version":"adults-only","bands":[{"name":"ADULT","ageStart":18,"ageEnd":2147483647,"annualRate":0.03}]}""";
+
+    private LoanSimulationService loanSimulationService;
+    private GlobalExceptionHandler exceptionHandler;
+    private ObjectMapper objectMapper;
+    private LoanSimulationRequest acceptedRequest;
+    private LoanSimulationRequest minorRequest;
+    private LoanSimulationRequest zeroRateRequest;
+
+    @Setup
+    public void setUp() throws IOException {
+        Path rateTable = Files.createTempFile("interest-rates", ".json");
+        Files.writeString(rateTable, ADULTS_ONLY_RATE_TABLE);
+        rateTable.toFile().deleteOnExit();
+
+        objectMapper = new ObjectMapper();
+        SimulationMetrics simulationMetrics = new SimulationMetrics(new SimpleMeterRegistry());
+        loanSimulationService = new LoanSimulationService(Clock.systemDefaultZone(),
+                LoanSimulationServiceFixture.amortizationCalculators(new BigDecimalInstallmentEngine()),
+                new RateTableService(rateTable.toString(), objectMapper, event -> { }), simulationMetrics,
+                new SimulationResponseCache(false, 0, Duration.ZERO, Ticker.systemTicker(), new SimpleMeterRegistry()),
+                new SimulationCoalescer(false, new SimpleMeterRegistry()), List.of());
+        exceptionHandler = new GlobalExceptionHandler(simulationMetrics);
+
+        acceptedRequest = createRequest(LocalDate.of(1990, 5, 20), null);
+        minorRequest = createRequest(LocalDate.now().minusYears(10), null);
+        zeroRateRequest = createRequest(LocalDate.of(1990, 5, 20), BigDecimal.ZERO);
+    }
+
+    @Benchmark
+    public byte[] acceptedQuote() throws LoanSimulationException, JsonProcessingException {
+        return objectMapper.writeValueAsBytes(loanSimulationService.simulate(acceptedRequest));
+    }
+
+    @Benchmark
+    public byte[] rejectedByAge() throws LoanSimulationException, JsonProcessingException {
+        try {
+            return objectMapper.writeValueAsBytes(loanSimulationService.simulate(minorRequest));
+        } catch (AgeNotSupportedException e) {
+            return objectMapper.writeValueAsBytes(exceptionHandler.handleAgeNotSupported(e).getBody());
+        }
+    }
+
+    @Benchmark
+    public byte[] failedCalculation() throws JsonProcessingException {
+        try {
+            return objectMapper.writeValueAsBytes(loanSimulationService.simulate(zeroRateRequest));
+        } catch (LoanSimulationException e) {
+            return objectMapper.writeValueAsBytes(exceptionHandler.handleLoanSimulationException(e).getBody());
+        }
+    }
+
+    private LoanSimulationRequest createRequest(LocalDate birthDate, BigDecimal variableInterestRate) {
+        LoanSimulationRequest request = new LoanSimulationRequest();
+        request.setLoanAmount(Money.parse("250000.00"));
+        request.setBirthDate(birthDate);
+        request.setPaymentTermInMonths(360);
+        request.setVariableInterestRate(variableInterestRate);
+        return request;
+    }
+}
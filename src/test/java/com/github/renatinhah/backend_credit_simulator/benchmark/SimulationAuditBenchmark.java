@@ -0,0 +1,127 @@
+package com.github.renatinhah.backend_credit_simulator.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationRequest;
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationResponse;
+import com.github.renatinhah.backend_credit_simulator.exceptions.LoanSimulationException;
+import com.github.renatinhah.backend_credit_simulator.metrics.SimulationMetrics;
+import com.github.renatinhah.backend_credit_simulator.model.Money;
+import com.github.renatinhah.backend_credit_simulator.model.enums.AuditOverflowPolicyEnum;
+import com.github.renatinhah.backend_credit_simulator.service.LoanSimulationService;
+import com.github.renatinhah.backend_credit_simulator.service.LoanSimulationServiceFixture;
+import com.github.renatinhah.backend_credit_simulator.service.RateTableService;
+import com.github.renatinhah.backend_credit_simulator.service.SimulationAuditLog;
+import com.github.renatinhah.backend_credit_simulator.service.SimulationAuditRecord;
+import com.github.renatinhah.backend_credit_simulator.service.SimulationListener;
+import com.github.renatinhah.backend_credit_simulator.service.SimulationCoalescer;
+import com.github.renatinhah.backend_credit_simulator.service.SimulationResponseCache;
+import com.github.renatinhah.backend_credit_simulator.service.engine.BigDecimalInstallmentEngine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo do histórico de simulações no caminho da requisição: sem auditoria, gravação síncrona de uma linha com
+ * flush por cotação, e o {@link SimulationAuditLog} assíncrono em lotes (com {@code BLOCK}, para que nenhum
+ * registro seja descartado e a vazão medida seja a sustentada pelo disco).
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SimulationAuditBenchmark {
+
+    @Param({"NONE", "SYNC", "ASYNC"})
+    private String audit;
+
+    private LoanSimulationService loanSimulationService;
+    private SimulationAuditLog auditLog;
+    private OutputStream syncOutput;
+    private LoanSimulationRequest request;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        Path file = Files.createTempFile("simulations", ".ndjson");
+        file.toFile().deleteOnExit();
+
+        List<SimulationListener> listeners = switch (audit) {
+            case "SYNC" -> List.of(synchronousListener(file, objectMapper));
+            case "ASYNC" -> {
+                auditLog = new SimulationAuditLog(true, file, 65_536, 1_024, Duration.ofMillis(200),
+                        AuditOverflowPolicyEnum.BLOCK, Clock.systemUTC(), objectMapper, new SimpleMeterRegistry());
+                auditLog.start();
+                yield List.of(auditLog);
+            }
+            default -> List.of();
+        };
+
+        loanSimulationService = new LoanSimulationService(Clock.systemDefaultZone(),
+                LoanSimulationServiceFixture.amortizationCalculators(new BigDecimalInstallmentEngine()),
+                new RateTableService("", objectMapper, event -> { }), new SimulationMetrics(new SimpleMeterRegistry()),
+                new SimulationResponseCache(false, 0, Duration.ZERO, Ticker.systemTicker(), new SimpleMeterRegistry()),
+                new SimulationCoalescer(false, new SimpleMeterRegistry()), listeners);
+
+        request = new LoanSimulationRequest();
+        request.setLoanAmount(Money.parse("250000.00"));
+        request.setBirthDate(LocalDate.of(1990, 5, 20));
+        request.setPaymentTermInMonths(360);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException, InterruptedException {
+        if (auditLog != null) {
+            auditLog.close();
+        }
+        if (syncOutput != null) {
+            syncOutput.close();
+        }
+    }
+
+    @Benchmark
+    public LoanSimulationResponse simulate() throws LoanSimulationException {
+        return loanSimulationService.simulate(request);
+    }
+
+    private SimulationListener synchronousListener(Path file, ObjectMapper objectMapper) throws IOException {
+        ObjectWriter recordWriter = objectMapper.writerFor(SimulationAuditRecord.class);
+        syncOutput = Files.newOutputStream(file, StandardOpenOption.APPEND);
+        return (simulationRequest, rateBand, response) -> {
+            try {
+                syncOutput.write(recordWriter.writeValueAsBytes(new SimulationAuditRecord(Clock.systemUTC().instant(),
+                        simulationRequest, rateBand.name(), rateBand.annualRate(), response)));
+                syncOutput.write('\n');
+                syncOutput.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+}
@@ -0,0 +1,88 @@
+package com.github.renatinhah.backend_credit_simulator.benchmark;
+
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationRequest;
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationResponse;
+import com.github.renatinhah.backend_credit_simulator.model.Money;
+import com.github.renatinhah.backend_credit_simulator.service.journal.SimulationJournal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Journal mapeado em memória: custo de um append na thread da requisição e vazão do replay sobre
+ * {@value #RECORDS} registros (segmentos de 262.144), somando os centavos das parcelas pelos getters primitivos.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SimulationJournalBenchmark {
+
+    private static final int RECORDS = 1_000_000;
+    private static final int SEGMENT_RECORDS = 262_144;
+
+    private Path directory;
+    private SimulationJournal replayJournal;
+    private SimulationJournal appendJournal;
+    private LoanSimulationRequest request;
+    private LoanSimulationResponse response;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("simulation-journal");
+        request = new LoanSimulationRequest();
+        request.setLoanAmount(Money.parse("250000.00"));
+        request.setBirthDate(LocalDate.of(1990, 5, 20));
+        request.setPaymentTermInMonths(360);
+        response = LoanSimulationResponse.builder()
+                .monthlyInstallment(Money.parse("1054.01"))
+                .totalInterest(Money.parse("129443.60"))
+                .totalAmountToPay(Money.parse("379443.60"))
+                .build();
+
+        replayJournal = new SimulationJournal(true, directory.resolve("replay"), SEGMENT_RECORDS, Clock.systemUTC());
+        for (int i = 0; i < RECORDS; i++) {
+            replayJournal.append(request, response, i);
+        }
+        appendJournal = new SimulationJournal(true, directory.resolve("append"), SEGMENT_RECORDS, Clock.systemUTC());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        replayJournal.close();
+        appendJournal.close();
+        FileSystemUtils.deleteRecursively(directory);
+    }
+
+    @Benchmark
+    public long append() {
+        return appendJournal.append(request, response, 0);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public long replay() {
+        long[] totalCents = new long[1];
+        replayJournal.replay(record -> totalCents[0] += record.monthlyInstallmentCents());
+        return totalCents[0];
+    }
+}
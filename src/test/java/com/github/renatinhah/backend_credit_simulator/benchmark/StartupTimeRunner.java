@@ -0,0 +1,174 @@
+package com.github.renatinhah.backend_credit_simulator.benchmark;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Mede o tempo até a primeira cotação e o RSS logo depois dela, subindo a aplicação em um processo novo a cada
+ * rodada com as flags de JVM do {@code Dockerfile}, em três modos:
+ * <ul>
+ *     <li>{@code jar}: o jar executável, como na imagem atual;</li>
+ *     <li>{@code aot}: o jar extraído em {@code target/cds} com {@code -Dspring.aot.enabled=true};</li>
+ *     <li>{@code aot-cds}: o mesmo, com o arquivo CDS {@code application.jsa} treinado no build.</li>
+ * </ul>
+ * O tempo conta do {@code fork} do processo até a primeira resposta 200 de {@code POST /api/v1/simulations};
+ * o RSS vem de {@code /proc/<pid>/status} (só Linux). Imprime a mediana de {@code runs} rodadas por modo.
+ * <pre>
+ * mvn -Pcds verify -DskipTests -Dstartup.args="runs=10"
+ * </pre>
+ */
+public final class StartupTimeRunner {
+
+    private static final String REQUEST_BODY =
+            "{\"loanAmount\":250000.00,\"birthDate\":\"1990-05-20\",\"paymentTermInMonths\":360}";
+    private static final List<String> DOCKERFILE_FLAGS =
+            List.of("-XX:+UnlockExperimentalVMOptions", "-XX:+UseContainerSupport", "-XX:MaxRAMPercentage=75.0");
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+    private StartupTimeRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        int runs = Integer.parseInt(options.getOrDefault("runs", "5"));
+        Path jar = Path.of(options.getOrDefault("jar", "target/backend-credit-simulator-1.0.0-BETA.jar")).toAbsolutePath();
+        Path cdsDirectory = Path.of(options.getOrDefault("cds-dir", "target/cds")).toAbsolutePath();
+        Path extractedJar = cdsDirectory.resolve(jar.getFileName());
+
+        Map<String, List<String>> modes = new LinkedHashMap<>();
+        modes.put("jar", command(List.of(), jar));
+        modes.put("aot", command(List.of("-Dspring.aot.enabled=true"), extractedJar));
+        modes.put("aot-cds", command(List.of("-XX:SharedArchiveFile=application.jsa", "-Dspring.aot.enabled=true"), extractedJar));
+
+        List<String> report = new ArrayList<>();
+        try (HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build()) {
+            for (Map.Entry<String, List<String>> mode : modes.entrySet()) {
+                long[] millis = new long[runs];
+                long[] rssKb = new long[runs];
+                for (int i = 0; i < runs; i++) {
+                    Sample sample = measure(mode.getValue(), cdsDirectory, httpClient);
+                    millis[i] = sample.millisToFirstQuote();
+                    rssKb[i] = sample.rssKb();
+                }
+                report.add(String.format("%-8s time-to-first-quote=%dms rss=%dMiB", mode.getKey(),
+                        median(millis), median(rssKb) / 1024));
+            }
+        }
+
+        System.out.printf("%nruns=%d (median) java=%s%n", runs, Runtime.version());
+        report.forEach(System.out::println);
+    }
+
+    private static List<String> command(List<String> jvmFlags, Path jar) {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(DOCKERFILE_FLAGS);
+        command.addAll(jvmFlags);
+        command.add("-jar");
+        command.add(jar.toString());
+        return command;
+    }
+
+    private static Sample measure(List<String> baseCommand, Path workingDirectory, HttpClient httpClient)
+            throws IOException, InterruptedException {
+        Path scratch = Files.createTempDirectory("startup-time");
+        int port = freePort();
+        List<String> command = new ArrayList<>(baseCommand);
+        command.addAll(List.of("--server.port=" + port,
+                "--simulation.audit.file=" + scratch.resolve("simulations.ndjson"),
+                "--simulation.journal.directory=" + scratch.resolve("journal"),
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN"));
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/simulations"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(REQUEST_BODY))
+                .build();
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(workingDirectory.toFile())
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+        try {
+            long deadline = start + STARTUP_TIMEOUT.toNanos();
+            while (System.nanoTime() < deadline && process.isAlive()) {
+                try {
+                    if (httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return new Sample((System.nanoTime() - start) / 1_000_000, rssKb(process.pid()));
+                    }
+                } catch (ConnectException e) {
+                    // ainda subindo
+                }
+                Thread.sleep(5);
+            }
+            throw new IllegalStateException("Application did not answer within " + STARTUP_TIMEOUT + ": " + command);
+        } finally {
+            process.destroy();
+            process.waitFor();
+            deleteRecursively(scratch);
+        }
+    }
+
+    private static long rssKb(long pid) throws IOException {
+        Path status = Path.of("/proc", Long.toString(pid), "status");
+        if (!Files.exists(status)) {
+            return -1;
+        }
+        try (Stream<String> lines = Files.lines(status)) {
+            return lines.filter(line -> line.startsWith("VmRSS:"))
+                    .map(line -> Long.parseLong(line.replaceAll("\\D", "")))
+                    .findFirst()
+                    .orElse(-1L);
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted((a, b) -> b.getNameCount() - a.getNameCount()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String[] keyValue = arg.split("=", 2);
+            if (keyValue.length == 2) {
+                options.put(keyValue[0].replaceFirst("^--", ""), keyValue[1]);
+            }
+        }
+        return options;
+    }
+
+    private record Sample(long millisToFirstQuote, long rssKb) {
+    }
+}
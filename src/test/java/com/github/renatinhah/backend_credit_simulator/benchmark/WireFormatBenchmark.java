@@ -0,0 +1,100 @@
+package com.github.renatinhah.backend_credit_simulator.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationBatchItem;
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationRequest;
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationResponse;
+import com.github.renatinhah.backend_credit_simulator.model.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * JSON contra Smile, com os mapeadores montados como nos conversores da aplicação: leitura da requisição,
+ * escrita da resposta e escrita de um lote de 1.000 itens. Os bytes de cada formato são impressos no setup.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WireFormatBenchmark {
+
+    private static final int BATCH_SIZE = 1_000;
+
+    @Param({"json", "smile"})
+    private String format;
+
+    private ObjectReader requestReader;
+    private ObjectWriter responseWriter;
+    private ObjectWriter batchWriter;
+    private byte[] requestBytes;
+    private LoanSimulationResponse response;
+    private List<LoanSimulationBatchItem> batch;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = "smile".equals(format)
+                ? Jackson2ObjectMapperBuilder.smile().build()
+                : Jackson2ObjectMapperBuilder.json().build();
+        requestReader = objectMapper.readerFor(LoanSimulationRequest.class);
+        responseWriter = objectMapper.writerFor(LoanSimulationResponse.class);
+        batchWriter = objectMapper.writerFor(new TypeReference<List<LoanSimulationBatchItem>>() { });
+
+        LoanSimulationRequest request = new LoanSimulationRequest();
+        request.setLoanAmount(Money.parse("250000.00"));
+        request.setBirthDate(LocalDate.of(1990, 5, 20));
+        request.setPaymentTermInMonths(360);
+        requestBytes = objectMapper.writeValueAsBytes(request);
+
+        response = LoanSimulationResponse.builder()
+                .monthlyInstallment(Money.parse("1054.01"))
+                .totalInterest(Money.parse("129443.60"))
+                .totalAmountToPay(Money.parse("379443.60"))
+                .build();
+        batch = IntStream.range(0, BATCH_SIZE)
+                .mapToObj(i -> LoanSimulationBatchItem.builder().index(i).simulation(LoanSimulationResponse.builder()
+                        .monthlyInstallment(Money.ofCents(85607L + i))
+                        .totalInterest(Money.ofCents(27284L + 12L * i))
+                        .totalAmountToPay(Money.ofCents(1027284L + 12L * i))
+                        .build()).build())
+                .toList();
+
+        System.out.printf("%n%s bytes: request=%d response=%d batch(%d)=%d%n", format, requestBytes.length,
+                responseWriter.writeValueAsBytes(response).length, BATCH_SIZE, batchWriter.writeValueAsBytes(batch).length);
+    }
+
+    @Benchmark
+    public LoanSimulationRequest readRequest() throws IOException {
+        return requestReader.readValue(requestBytes);
+    }
+
+    @Benchmark
+    public byte[] writeResponse() throws IOException {
+        return responseWriter.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] writeBatch() throws IOException {
+        return batchWriter.writeValueAsBytes(batch);
+    }
+}
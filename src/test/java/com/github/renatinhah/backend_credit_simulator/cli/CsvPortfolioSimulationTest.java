@@ -0,0 +1,134 @@
+package com.github.renatinhah.backend_credit_simulator.cli;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.renatinhah.backend_credit_simulator.service.LoanSimulationBatchService;
+import com.github.renatinhah.backend_credit_simulator.service.LoanSimulationServiceFixture;
+import com.github.renatinhah.backend_credit_simulator.service.RateTableService;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CsvPortfolioSimulationTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 1, 1);
+
+    private LoanSimulationBatchService batchService = batchService(LoanSimulationServiceFixture.embeddedRateTableService());
+
+    @AfterEach
+    void tearDown() {
+        batchService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should write one result per row in input order across chunks, with the same cents as a single quote")
+    void shouldSimulateRowsInOrder() throws IOException {
+        // Given
+        String input = "id,loanAmount,birthDate,paymentTermInMonths\n" + IntStream.range(0, 50)
+                .mapToObj(i -> "C-" + i + "," + (10000 + i) + ",1995-01-01,12")
+                .collect(Collectors.joining("\n"));
+
+        // When
+        List<String> output = run(input);
+
+        // Then
+        assertThat(output).hasSize(51);
+        assertThat(output.get(0)).isEqualTo(CsvPortfolioSimulation.OUTPUT_HEADER);
+        assertThat(output.get(1)).isEqualTo("0,C-0,846.94,,10163.28,163.28,");
+        for (int i = 0; i < 50; i++) {
+            assertThat(output.get(i + 1)).startsWith(i + ",C-" + i + ",");
+        }
+    }
+
+    @Test
+    @DisplayName("Should report malformed and invalid rows in the error column without stopping the portfolio")
+    void shouldReportMalformedAndInvalidRows() throws IOException {
+        // Given - colunas em outra ordem, opcionais, aspas e uma coluna desconhecida
+        String input = """
+                paymentTermInMonths;birthDate;loanAmount;amortizationSystem;variableInterestRate;branch
+                12;1995-01-01;"10000.00";SAC;;SP
+                12;01/01/1995;10000;;;SP
+                0;1995-01-01;-5;;;SP
+
+                12;1995-01-01;10000;;0.045;SP
+                """;
+
+        // When
+        List<String> output = run(input, ';');
+
+        // Then
+        assertThat(output).hasSize(5);
+        assertThat(output.get(1)).isEqualTo("0,,858.33,835.41,10162.50,162.50,");
+        assertThat(output.get(2)).startsWith("1,,,,,,Malformed portfolio row: Text '01/01/1995' could not be parsed");
+        assertThat(output.get(3)).isEqualTo(
+                "2,,,,,,loanAmount: Loan amount must be greater than zero; paymentTermInMonths: Payment term must be at least 1 month");
+        assertThat(output.get(4)).isEqualTo("3,,853.79,,10245.48,245.48,");
+    }
+
+    @Test
+    @DisplayName("Should quote with the override rate table instead of the current rates")
+    void shouldUseOverrideRateTable(@TempDir Path directory) throws IOException {
+        // Given - 3% a.a. da faixa de 26 a 40 anos vira 12% a.a. para todas as idades
+        Path rates = Files.writeString(directory.resolve("what-if.json"), """
+                {"version": "what-if", "bands": [{"name": "ALL_AGES", "ageStart": 0, "ageEnd": 2147483647, "annualRate": 0.12}]}
+                """);
+        batchService.shutdown();
+        batchService = batchService(new RateTableService(rates.toString(), new ObjectMapper(), event -> { }));
+
+        // When
+        List<String> output = run("loanAmount,birthDate,paymentTermInMonths\n10000,1995-01-01,12\n");
+
+        // Then
+        assertThat(output.get(1)).isEqualTo("0,,888.49,,10661.88,661.88,");
+    }
+
+    @Test
+    @DisplayName("Should reject a portfolio whose header lacks a required column")
+    void shouldRejectMissingColumns() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> run("loanAmount,paymentTermInMonths\n10000,12\n"));
+
+        assertThat(exception.getMessage()).contains("missing column 'birthDate'");
+    }
+
+    @Test
+    @DisplayName("Should reject a chunk size below one")
+    void shouldRejectInvalidChunkSize() {
+        assertThrows(IllegalArgumentException.class, () -> new CsvPortfolioSimulation(batchService, 0, Duration.ZERO, ','));
+    }
+
+    private List<String> run(String input) throws IOException {
+        return run(input, ',');
+    }
+
+    private List<String> run(String input, char delimiter) throws IOException {
+        StringWriter output = new StringWriter();
+        CsvPortfolioSimulation.Summary summary = new CsvPortfolioSimulation(batchService, 7, Duration.ZERO, delimiter)
+                .run(new BufferedReader(new StringReader(input)), input.length(), output);
+        List<String> lines = output.toString().lines().toList();
+        assertThat(summary.rows()).isEqualTo(lines.size() - 1);
+        return lines;
+    }
+
+    private static LoanSimulationBatchService batchService(RateTableService rateTableService) {
+        return new LoanSimulationBatchService(
+                LoanSimulationServiceFixture.fixture(TODAY).rates(rateTableService).build(),
+                Validation.buildDefaultValidatorFactory().getValidator(), 4, Integer.MAX_VALUE);
+    }
+}
@@ -0,0 +1,46 @@
+package com.github.renatinhah.backend_credit_simulator.config;
+
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationRequest;
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationResponse;
+import com.github.renatinhah.backend_credit_simulator.model.Money;
+import com.github.renatinhah.backend_credit_simulator.model.RateTable;
+import com.github.renatinhah.backend_credit_simulator.service.SimulationAuditRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SimulationRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @Test
+    @DisplayName("Should register every JSON type with declared fields for Jackson and springdoc")
+    void shouldRegisterJsonTypes() {
+        // When
+        new SimulationRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        // Then
+        for (Class<?> type : SimulationRuntimeHints.JSON_TYPES) {
+            assertThat(RuntimeHintsPredicates.reflection().onType(type).withMemberCategory(MemberCategory.DECLARED_FIELDS))
+                    .as(type.getSimpleName())
+                    .accepts(hints);
+        }
+    }
+
+    @Test
+    @DisplayName("Should register the accessors Jackson uses to bind requests, responses and the rate table")
+    void shouldRegisterBindingAccessors() throws NoSuchMethodException {
+        // When
+        new SimulationRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        // Then
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(LoanSimulationRequest.class.getMethod("setLoanAmount", Money.class))).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(LoanSimulationResponse.class.getMethod("getMonthlyInstallment"))).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(RateTable.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(SimulationAuditRecord.class)).accepts(hints);
+    }
+}
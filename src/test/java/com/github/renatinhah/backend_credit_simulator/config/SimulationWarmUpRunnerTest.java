@@ -0,0 +1,100 @@
+package com.github.renatinhah.backend_credit_simulator.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationRequest;
+import com.github.renatinhah.backend_credit_simulator.model.RateBand;
+import com.github.renatinhah.backend_credit_simulator.model.enums.AmortizationSystemEnum;
+import com.github.renatinhah.backend_credit_simulator.service.LoanSimulationService;
+import com.github.renatinhah.backend_credit_simulator.service.LoanSimulationServiceFixture;
+import com.github.renatinhah.backend_credit_simulator.service.RateTableService;
+import com.github.renatinhah.backend_credit_simulator.service.engine.BigDecimalInstallmentEngine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.DefaultApplicationArguments;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SimulationWarmUpRunnerTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 1, 1);
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final RateTableService rateTableService = LoanSimulationServiceFixture.embeddedRateTableService();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Should build synthetic requests covering every rate band, the variable rate and both amortization systems")
+    void shouldCoverEveryRateBucket() throws IOException {
+        // Given
+        SimulationWarmUpRunner runner = runner(2000, 20000, Duration.ofMillis(1));
+
+        // When
+        List<byte[]> bodies = runner.syntheticRequests();
+
+        // Then
+        Set<String> buckets = new HashSet<>();
+        Set<AmortizationSystemEnum> systems = new HashSet<>();
+        for (byte[] body : bodies) {
+            LoanSimulationRequest request = objectMapper.readValue(body, LoanSimulationRequest.class);
+            buckets.add(request.getVariableInterestRate() != null ? LoanSimulationService.VARIABLE_RATE_BUCKET
+                    : rateTableService.resolve(Period.between(request.getBirthDate(), TODAY).getYears()).name());
+            systems.add(request.getAmortizationSystem());
+        }
+        Set<String> expectedBuckets = rateTableService.current().getBands().stream()
+                .map(RateBand::name)
+                .collect(Collectors.toSet());
+        expectedBuckets.add(LoanSimulationService.VARIABLE_RATE_BUCKET);
+        assertThat(buckets).isEqualTo(expectedBuckets);
+        assertThat(systems).containsExactlyInAnyOrder(AmortizationSystemEnum.values());
+    }
+
+    @Test
+    @DisplayName("Should stop at max iterations when the latency target is not reached")
+    void shouldStopAtMaxIterations() throws IOException {
+        // Given
+        SimulationWarmUpRunner runner = runner(0, 500, Duration.ZERO);
+        int roundSize = runner.syntheticRequests().size();
+
+        // When
+        SimulationWarmUpRunner.WarmUpResult result = runner.warmUp();
+
+        // Then
+        assertThat(result.iterations()).isGreaterThanOrEqualTo(500).isLessThan(500 + roundSize);
+        assertThat(result.durationNanos()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should stop after min iterations once the latency target is reached and report the duration")
+    void shouldStopWhenLatencyTargetIsReached() throws IOException {
+        // Given
+        SimulationWarmUpRunner runner = runner(1, 1_000_000, Duration.ofHours(1));
+        int roundSize = runner.syntheticRequests().size();
+
+        // When
+        runner.run(new DefaultApplicationArguments());
+
+        // Then
+        assertThat(runner.warmUp().iterations()).isEqualTo(roundSize);
+        assertThat(meterRegistry.get(SimulationWarmUpRunner.METRIC_DURATION).timeGauge().value(TimeUnit.NANOSECONDS)).isPositive();
+    }
+
+    private SimulationWarmUpRunner runner(int minIterations, int maxIterations, Duration targetLatency) {
+        return new SimulationWarmUpRunner(true, minIterations, maxIterations, targetLatency, List.of(12, 360),
+                LoanSimulationServiceFixture.fixedClock(TODAY),
+                LoanSimulationServiceFixture.amortizationCalculators(new BigDecimalInstallmentEngine()),
+                rateTableService, objectMapper, Validation.buildDefaultValidatorFactory().getValidator(), meterRegistry);
+    }
+}
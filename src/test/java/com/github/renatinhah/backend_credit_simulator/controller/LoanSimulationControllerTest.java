@@ -1,11 +1,23 @@
 package com.github.renatinhah.backend_credit_simulator.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationBatchItem;
 import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationRequest;
 import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationResponse;
+import com.github.renatinhah.backend_credit_simulator.exceptions.AgeNotSupportedException;
+import com.github.renatinhah.backend_credit_simulator.exceptions.LoanSimulationException;
 import com.github.renatinhah.backend_credit_simulator.handlers.GlobalExceptionHandler;
+import com.github.renatinhah.backend_credit_simulator.handlers.SimulationAdmissionInterceptor;
+import com.github.renatinhah.backend_credit_simulator.metrics.SimulationMetrics;
+import com.github.renatinhah.backend_credit_simulator.model.Money;
+import com.github.renatinhah.backend_credit_simulator.service.LoanSimulationBatchService;
 import com.github.renatinhah.backend_credit_simulator.service.LoanSimulationService;
+import com.github.renatinhah.backend_credit_simulator.service.admission.AdaptiveConcurrencyLimiter;
+import com.github.renatinhah.backend_credit_simulator.service.admission.ClientRateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,12 +32,19 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -36,6 +55,9 @@ class LoanSimulationControllerSimpleTest {
     @Mock
     private LoanSimulationService loanSimulationService;
 
+    @Mock
+    private LoanSimulationBatchService loanSimulationBatchService;
+
     @InjectMocks
     private LoanSimulationController loanSimulationController;
 
@@ -47,7 +69,7 @@ class LoanSimulationControllerSimpleTest {
     void setUp() {
         MockitoAnnotations.openMocks(this);
         mockMvc = MockMvcBuilders.standaloneSetup(loanSimulationController)
-                .setControllerAdvice(new GlobalExceptionHandler()) // Adicionar seu exception handler
+                .setControllerAdvice(new GlobalExceptionHandler(new SimulationMetrics(new SimpleMeterRegistry()))) // Adicionar seu exception handler
                 .build();
         objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule()); // Para LocalDate
@@ -73,6 +95,90 @@ class LoanSimulationControllerSimpleTest {
                 .andExpect(jsonPath("$.totalAmountToPay").value(10272.84));
     }
 
+    @Test
+    @DisplayName("Should negotiate Smile and carry money as scaled decimals instead of text or doubles")
+    void shouldNegotiateSmile() throws Exception {
+        // Given
+        ObjectMapper smileMapper = new SmileMapper().registerModule(new JavaTimeModule());
+        MediaType smile = MediaType.valueOf("application/x-jackson-smile");
+        when(loanSimulationService.simulate(any(LoanSimulationRequest.class)))
+                .thenReturn(createMockResponse());
+
+        // When
+        byte[] body = mockMvc.perform(post(ENDPOINT)
+                        .contentType(smile)
+                        .accept(smile)
+                        .content(smileMapper.writeValueAsBytes(createValidRequest())))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(smile))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Then
+        JsonNode response = smileMapper.readTree(body);
+        assertThat(response.get("monthlyInstallment").isBigDecimal()).isTrue();
+        assertThat(response.get("monthlyInstallment").decimalValue()).isEqualByComparingTo("856.07");
+        assertThat(response.get("totalAmountToPay").decimalValue()).isEqualByComparingTo("10272.84");
+        assertThat(body.length).isLessThan(objectMapper.writeValueAsBytes(createMockResponse()).length);
+    }
+
+    @Test
+    @DisplayName("Should fail fast with 429 when a client exceeds its rate limit or the server is at its concurrency limit")
+    void shouldReturn429WhenAdmissionIsRefused() throws Exception {
+        // Given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AdaptiveConcurrencyLimiter concurrencyLimiter = new AdaptiveConcurrencyLimiter(
+                true, 1, 1, 1, 2.0, Duration.ofMillis(25), 0.9, 1_000, meterRegistry);
+        MockMvc limitedMockMvc = MockMvcBuilders.standaloneSetup(loanSimulationController)
+                .setControllerAdvice(new GlobalExceptionHandler(new SimulationMetrics(meterRegistry)))
+                .addInterceptors(new SimulationAdmissionInterceptor(
+                        new ClientRateLimiter(true, 1, 1, 100, () -> 0L, meterRegistry), concurrencyLimiter, "X-Client-Id"))
+                .build();
+        String body = objectMapper.writeValueAsString(createValidRequest());
+        when(loanSimulationService.simulate(any(LoanSimulationRequest.class)))
+                .thenReturn(createMockResponse());
+
+        // When & Then
+        limitedMockMvc.perform(post(ENDPOINT).header("X-Client-Id", "partner")
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk());
+        limitedMockMvc.perform(post(ENDPOINT).header("X-Client-Id", "partner")
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.type").value("RATE_LIMIT_EXCEEDED"));
+
+        assertThat(concurrencyLimiter.tryAcquire()).isTrue();
+        limitedMockMvc.perform(post(ENDPOINT).header("X-Client-Id", "other-partner")
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.type").value("CONCURRENCY_LIMIT_EXCEEDED"));
+        verify(loanSimulationService, times(1)).simulate(any());
+    }
+
+    @Test
+    @DisplayName("Should not put requests without the client header in a shared rate limit bucket")
+    void shouldNotRateLimitRequestsWithoutClientHeader() throws Exception {
+        // Given - uma ficha por cliente; atrás de um proxy, todas as requisições teriam o mesmo endereço remoto
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        MockMvc limitedMockMvc = MockMvcBuilders.standaloneSetup(loanSimulationController)
+                .setControllerAdvice(new GlobalExceptionHandler(new SimulationMetrics(meterRegistry)))
+                .addInterceptors(new SimulationAdmissionInterceptor(
+                        new ClientRateLimiter(true, 1, 1, 100, () -> 0L, meterRegistry),
+                        new AdaptiveConcurrencyLimiter(false, 1, 1, 1, 2.0, Duration.ofMillis(25), 0.9, 1_000, meterRegistry),
+                        "X-Client-Id"))
+                .build();
+        String body = objectMapper.writeValueAsString(createValidRequest());
+        when(loanSimulationService.simulate(any(LoanSimulationRequest.class)))
+                .thenReturn(createMockResponse());
+
+        // When & Then
+        for (int i = 0; i < 3; i++) {
+            limitedMockMvc.perform(post(ENDPOINT).contentType(MediaType.APPLICATION_JSON).content(body))
+                    .andExpect(status().isOk());
+        }
+        verify(loanSimulationService, times(3)).simulate(any());
+    }
+
     @ParameterizedTest(name = "Should return 400 for invalid request: {0}")
     @MethodSource("invalidRequestData")
     @DisplayName("Should return 400 Bad Request for invalid input data")
@@ -87,10 +193,53 @@ class LoanSimulationControllerSimpleTest {
         verify(loanSimulationService, never()).simulate(any());
     }
 
+    @Test
+    @DisplayName("Should return batch results aligned by index with per-item errors")
+    void shouldReturnBatchResultsAlignedByIndex() throws Exception {
+        // Given
+        List<LoanSimulationBatchItem> batchResponse = List.of(
+                LoanSimulationBatchItem.builder().index(0).simulation(createMockResponse()).build(),
+                LoanSimulationBatchItem.builder().index(1).errors(Map.of("loanAmount", "Loan amount is required")).build()
+        );
+
+        when(loanSimulationBatchService.simulateBatch(anyList())).thenReturn(batchResponse);
+
+        // When & Then
+        mockMvc.perform(post(ENDPOINT + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[" + objectMapper.writeValueAsString(createValidRequest())
+                                + ",{\"birthDate\":\"2000-01-01\",\"paymentTermInMonths\":12}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].index").value(0))
+                .andExpect(jsonPath("$[0].simulation.monthlyInstallment").value(856.07))
+                .andExpect(jsonPath("$[1].index").value(1))
+                .andExpect(jsonPath("$[1].simulation").doesNotExist())
+                .andExpect(jsonPath("$[1].errors.loanAmount").value("Loan amount is required"));
+    }
+
+    @Test
+    @DisplayName("Should return the fixed error payload for business-rule rejections")
+    void shouldReturnErrorPayloadWhenAgeIsNotSupported() throws Exception {
+        // Given
+        AgeNotSupportedException exception = new AgeNotSupportedException(10);
+        when(loanSimulationService.simulate(any())).thenThrow(exception);
+
+        // When & Then
+        mockMvc.perform(post(ENDPOINT)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createValidRequest())))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Age range not found for age: 10"))
+                .andExpect(jsonPath("$.type").value("AGE_NOT_SUPPORTED"));
+
+        assertThat(exception.getStackTrace()).isEmpty();
+        assertThat(new LoanSimulationException(BigDecimal.TEN, 12).getStackTrace()).isEmpty();
+    }
+
     // Helper methods
     private LoanSimulationRequest createValidRequest() {
         LoanSimulationRequest request = new LoanSimulationRequest();
-        request.setLoanAmount(new BigDecimal("10000.00"));
+        request.setLoanAmount(Money.parse("10000.00"));
         request.setBirthDate(LocalDate.of(2000, 1, 1));
         request.setPaymentTermInMonths(12);
         return request;
@@ -98,9 +247,9 @@ class LoanSimulationControllerSimpleTest {
 
     private LoanSimulationResponse createMockResponse() {
         return LoanSimulationResponse.builder()
-                .monthlyInstallment(new BigDecimal("856.07"))
-                .totalInterest(new BigDecimal("272.84"))
-                .totalAmountToPay(new BigDecimal("10272.84"))
+                .monthlyInstallment(Money.parse("856.07"))
+                .totalInterest(Money.parse("272.84"))
+                .totalAmountToPay(Money.parse("10272.84"))
                 .build();
     }
 
@@ -0,0 +1,160 @@
+package com.github.renatinhah.backend_credit_simulator.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationBatchItem;
+import com.github.renatinhah.backend_credit_simulator.handlers.GlobalExceptionHandler;
+import com.github.renatinhah.backend_credit_simulator.metrics.SimulationMetrics;
+import com.github.renatinhah.backend_credit_simulator.model.Money;
+import com.github.renatinhah.backend_credit_simulator.service.AffordabilityService;
+import com.github.renatinhah.backend_credit_simulator.service.AmortizationScheduleService;
+import com.github.renatinhah.backend_credit_simulator.service.LoanSimulationBatchService;
+import com.github.renatinhah.backend_credit_simulator.service.LoanSimulationService;
+import com.github.renatinhah.backend_credit_simulator.service.LoanSimulationServiceFixture;
+import com.github.renatinhah.backend_credit_simulator.service.LoanSimulationStreamService;
+import com.github.renatinhah.backend_credit_simulator.service.RateSweepService;
+import com.github.renatinhah.backend_credit_simulator.service.ReactiveLoanSimulationService;
+import com.github.renatinhah.backend_credit_simulator.service.engine.AnnuityFactorCache;
+import com.github.renatinhah.backend_credit_simulator.service.engine.BigDecimalInstallmentEngine;
+import com.github.renatinhah.backend_credit_simulator.service.engine.InstallmentGridEngine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReactiveLoanSimulationControllerTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 1, 1);
+    private static final String ENDPOINT = "/api/v1/simulations";
+    private static final String VALID_REQUEST = "{\"loanAmount\":10000.00,\"birthDate\":\"2000-01-01\",\"paymentTermInMonths\":12}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final LoanSimulationService loanSimulationService = LoanSimulationServiceFixture.fixture(TODAY).build();
+    private final LoanSimulationBatchService batchService = new LoanSimulationBatchService(
+            loanSimulationService, Validation.buildDefaultValidatorFactory().getValidator(), 4, 3);
+    private final WebTestClient webTestClient = WebTestClient
+            .bindToController(new ReactiveLoanSimulationController(new ReactiveLoanSimulationService(
+                    loanSimulationService,
+                    batchService,
+                    new LoanSimulationStreamService(batchService, objectMapper, 512, 65536),
+                    new AmortizationScheduleService(loanSimulationService, objectMapper),
+                    new RateSweepService(new InstallmentGridEngine(new BigDecimalInstallmentEngine()), 1_000),
+                    new AffordabilityService(loanSimulationService, new BigDecimalInstallmentEngine(), new AnnuityFactorCache(100), 480),
+                    4, 3)))
+            .controllerAdvice(new GlobalExceptionHandler(new SimulationMetrics(new SimpleMeterRegistry())))
+            .build();
+
+    @AfterEach
+    void tearDown() {
+        batchService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should return the simulation as a Mono when request is valid")
+    void shouldSimulateLoan() {
+        webTestClient.post().uri(ENDPOINT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(VALID_REQUEST)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.monthlyInstallment").isEqualTo(856.07)
+                .jsonPath("$.totalInterest").isEqualTo(272.84);
+    }
+
+    @Test
+    @DisplayName("Should return 400 with field errors when request is invalid")
+    void shouldReturn400ForInvalidRequest() {
+        webTestClient.post().uri(ENDPOINT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"birthDate\":\"2000-01-01\",\"paymentTermInMonths\":12}")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.loanAmount").isEqualTo("Loan amount is required");
+    }
+
+    @Test
+    @DisplayName("Should return batch results aligned by index and reject oversized batches")
+    void shouldSimulateBatch() {
+        webTestClient.post().uri(ENDPOINT + "/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("[" + VALID_REQUEST + ",{\"birthDate\":\"2000-01-01\",\"paymentTermInMonths\":12}]")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].index").isEqualTo(0)
+                .jsonPath("$[0].simulation.monthlyInstallment").isEqualTo(856.07)
+                .jsonPath("$[1].index").isEqualTo(1)
+                .jsonPath("$[1].errors.loanAmount").isEqualTo("Loan amount is required");
+
+        webTestClient.post().uri(ENDPOINT + "/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("[" + String.join(",", VALID_REQUEST, VALID_REQUEST, VALID_REQUEST, VALID_REQUEST) + "]")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.type").isEqualTo("BATCH_SIZE_EXCEEDED");
+    }
+
+    @Test
+    @DisplayName("Should solve the maximum loan amount for a target installment and require a single unknown")
+    void shouldSolveAffordability() {
+        webTestClient.post().uri(ENDPOINT + "/affordability")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"targetInstallment\":856.07,\"birthDate\":\"2000-01-01\",\"paymentTermInMonths\":12}")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.loanAmount").isEqualTo(10000.00)
+                .jsonPath("$.paymentTermInMonths").isEqualTo(12)
+                .jsonPath("$.simulation.monthlyInstallment").isEqualTo(856.07);
+
+        webTestClient.post().uri(ENDPOINT + "/affordability")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"targetInstallment\":856.07,\"birthDate\":\"2000-01-01\",\"loanAmount\":10000,\"paymentTermInMonths\":12}")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.singleUnknown").isEqualTo("Inform either loanAmount or paymentTermInMonths, not both");
+    }
+
+    @Test
+    @DisplayName("Should stream one NDJSON result per record in input order, reporting malformed records")
+    void shouldStreamResultsInOrder() {
+        // Given
+        String input = IntStream.range(0, 100)
+                .mapToObj(i -> i == 42 ? "{not json" : VALID_REQUEST)
+                .collect(Collectors.joining("\n"));
+
+        // When
+        List<LoanSimulationBatchItem> output = webTestClient.post().uri(ENDPOINT + "/stream")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .bodyValue(input)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(LoanSimulationBatchItem.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        // Then
+        assertThat(output).hasSize(100);
+        for (int i = 0; i < output.size(); i++) {
+            assertThat(output.get(i).getIndex()).isEqualTo(i);
+        }
+        assertThat(output.get(42).getErrors()).containsEntry("type", "MALFORMED_RECORD");
+        assertThat(output.get(43).getSimulation().getMonthlyInstallment()).isEqualTo(Money.parse("856.07"));
+    }
+}
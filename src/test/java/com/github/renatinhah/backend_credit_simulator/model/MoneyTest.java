@@ -0,0 +1,121 @@
+package com.github.renatinhah.backend_credit_simulator.model;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.json.JsonWriteFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MoneyTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Should round to the cent exactly like BigDecimal.setScale(2, HALF_UP), ties and negatives included")
+    void shouldRoundLikeBigDecimal() {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < 100_000; i++) {
+            // Given
+            BigDecimal value = BigDecimal.valueOf(random.nextLong(-1_000_000_000_000L, 1_000_000_000_000L), random.nextInt(0, 8));
+            long expected = value.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+
+            // When & Then
+            assertThat(Money.of(value).cents()).as(value.toPlainString()).isEqualTo(expected);
+            assertThat(Money.of(value.unscaledValue().longValueExact(), value.scale()).cents()).as(value.toPlainString()).isEqualTo(expected);
+            assertThat(Money.parse(value.toPlainString()).cents()).as(value.toPlainString()).isEqualTo(expected);
+        }
+        assertThat(Money.parse("856.075").cents()).isEqualTo(85608L);
+        assertThat(Money.parse("-856.075").cents()).isEqualTo(-85608L);
+        assertThat(Money.parse("856.0749999999").cents()).isEqualTo(85607L);
+        assertThat(Money.parse("1.5E+3").cents()).isEqualTo(150000L);
+    }
+
+    @Test
+    @DisplayName("Should do exact cent arithmetic and format like a scale-2 BigDecimal")
+    void shouldCalculateAndFormat() {
+        // Given
+        Money installment = Money.parse("856.07");
+
+        // When
+        Money total = installment.times(12);
+
+        // Then
+        assertThat(total).isEqualTo(Money.parse("10272.84"));
+        assertThat(total.minus(Money.parse("10000")).toString()).isEqualTo("272.84");
+        assertThat(Money.ofCents(5).toString()).isEqualTo("0.05");
+        assertThat(Money.ofCents(-5).toString()).isEqualTo("-0.05");
+        assertThat(Money.ZERO.toString()).isEqualTo("0.00");
+        assertThat(Money.ofCents(Long.MIN_VALUE).toString()).isEqualTo(BigDecimal.valueOf(Long.MIN_VALUE, 2).toString());
+        assertThat(installment.doubleValue()).isEqualTo(new BigDecimal("856.07").doubleValue());
+        assertThrows(ArithmeticException.class, () -> Money.ofCents(Long.MAX_VALUE).plus(Money.ofCents(1)));
+    }
+
+    @Test
+    @DisplayName("Should keep the JSON and Smile shape of a scale-2 BigDecimal")
+    void shouldKeepWireShape() throws Exception {
+        // Given
+        Amount amount = new Amount(Money.parse("10272.80"));
+        ObjectMapper smileMapper = new SmileMapper();
+
+        // When
+        String json = objectMapper.writeValueAsString(amount);
+        byte[] smile = smileMapper.writeValueAsBytes(amount);
+
+        // Then
+        assertThat(json).isEqualTo("{\"value\":10272.80}");
+        assertThat(JsonMapper.builder().enable(JsonWriteFeature.WRITE_NUMBERS_AS_STRINGS).build().writeValueAsString(amount))
+                .isEqualTo("{\"value\":\"10272.80\"}");
+        assertThat(objectMapper.writeValueAsString(new Money[]{Money.ofCents(-5), Money.ZERO})).isEqualTo("[-0.05,0.00]");
+        try (JsonParser parser = smileMapper.createParser(smile)) {
+            while (parser.nextToken() != JsonToken.VALUE_NUMBER_FLOAT) {
+                assertThat(parser.currentToken()).isNotNull();
+            }
+            assertThat(parser.getNumberType()).isEqualTo(JsonParser.NumberType.BIG_DECIMAL);
+            assertThat(parser.getDecimalValue()).isEqualTo(new BigDecimal("10272.80"));
+        }
+        assertThat(smileMapper.readValue(smile, Amount.class)).isEqualTo(amount);
+        assertThat(objectMapper.readValue(json, Amount.class)).isEqualTo(amount);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"{\"value\":10000.005}", "{\"value\":\"10000.005\"}", "{\"value\":1.0000005e4}", "{\"value\":10000.01}"})
+    @DisplayName("Should read numbers and numeric text, rounding HALF_UP to the cent")
+    void shouldReadNumbersAndText(String json) throws Exception {
+        assertThat(objectMapper.readValue(json, Amount.class).value()).isEqualTo(Money.parse("10000.01"));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"{\"value\":\"ten\"}", "{\"value\":1e30}", "{\"value\":\"\"}"})
+    @DisplayName("Should reject amounts that are not numbers or do not fit in cents")
+    void shouldRejectInvalidAmounts(String json) {
+        assertThrows(InvalidFormatException.class, () -> objectMapper.readValue(json, Amount.class));
+    }
+
+    @Test
+    @DisplayName("Should read JSON numbers with more digits than a double keeps")
+    void shouldReadExactDecimals() throws Exception {
+        try (JsonParser parser = objectMapper.createParser("[1234567890123456.78, 0.1]")) {
+            parser.nextToken();
+            parser.nextToken();
+            assertThat(objectMapper.readValue(parser, Money.class).cents()).isEqualTo(123456789012345678L);
+            parser.nextToken();
+            assertThat(objectMapper.readValue(parser, Money.class).cents()).isEqualTo(10L);
+        }
+    }
+
+    record Amount(Money value) {
+    }
+}
@@ -0,0 +1,184 @@
+package com.github.renatinhah.backend_credit_simulator.service;
+
+import com.github.renatinhah.backend_credit_simulator.dto.AffordabilityRequest;
+import com.github.renatinhah.backend_credit_simulator.dto.AffordabilityResponse;
+import com.github.renatinhah.backend_credit_simulator.exceptions.InstallmentNotAffordableException;
+import com.github.renatinhah.backend_credit_simulator.exceptions.LoanSimulationException;
+import com.github.renatinhah.backend_credit_simulator.model.Money;
+import com.github.renatinhah.backend_credit_simulator.service.engine.AnnuityFactorCache;
+import com.github.renatinhah.backend_credit_simulator.service.engine.BigDecimalInstallmentEngine;
+import com.github.renatinhah.backend_credit_simulator.service.engine.InstallmentEngine;
+import com.github.renatinhah.backend_credit_simulator.service.engine.PrimitiveInstallmentEngine;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AffordabilityServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 1, 1);
+    private static final BigDecimal CENT = new BigDecimal("0.01");
+    private static final List<String> RATES = List.of("0.01", "0.03", "0.045", "0.1299", "0.35");
+    private static final List<Integer> TERMS = List.of(1, 6, 12, 37, 120, 360, 480);
+    private static final List<String> TARGETS = List.of("0.07", "150.00", "856.07", "1499.99", "12345.67");
+
+    private final InstallmentEngine installmentEngine = new BigDecimalInstallmentEngine();
+    private final AffordabilityService affordabilityService = affordabilityService(installmentEngine);
+
+    @Test
+    @DisplayName("Should return the exact maximum loan amount: its installment fits the target and one more cent does not")
+    void shouldFindMaximumLoanAmountToTheCent() {
+        for (String rate : RATES) {
+            for (int term : TERMS) {
+                for (String target : TARGETS) {
+                    // When
+                    BigDecimal loanAmount = affordabilityService.maxLoanAmount(new BigDecimal(target), new BigDecimal(rate), term);
+
+                    // Then
+                    String scenario = "rate=" + rate + " term=" + term + " target=" + target;
+                    assertThat(installment(loanAmount, rate, term)).as(scenario).isLessThanOrEqualTo(new BigDecimal(target));
+                    assertThat(installment(loanAmount.add(CENT), rate, term)).as(scenario).isGreaterThan(new BigDecimal(target));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should return the same minimum payment term as a linear scan over the terms")
+    void shouldFindMinimumPaymentTerm() {
+        for (String rate : RATES) {
+            for (String loanAmount : List.of("1000.00", "10000.00", "250000.00")) {
+                for (String target : List.of("300.00", "856.07", "2500.00", "30000.00")) {
+                    Integer expected = linearScan(new BigDecimal(loanAmount), new BigDecimal(target), rate);
+                    String scenario = "rate=" + rate + " amount=" + loanAmount + " target=" + target;
+
+                    if (expected == null) {
+                        assertThrows(InstallmentNotAffordableException.class, () -> affordabilityService.minPaymentTerm(
+                                new BigDecimal(loanAmount), new BigDecimal(target), new BigDecimal(rate)), scenario);
+                    } else {
+                        assertThat(affordabilityService.minPaymentTerm(new BigDecimal(loanAmount), new BigDecimal(target),
+                                new BigDecimal(rate))).as(scenario).isEqualTo(expected);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep the cent boundary of the configured engine, even when it computes with doubles")
+    void shouldFollowConfiguredEngine() {
+        // Given
+        InstallmentEngine primitiveEngine = new PrimitiveInstallmentEngine(installmentEngine);
+        AffordabilityService service = affordabilityService(primitiveEngine);
+
+        // When
+        BigDecimal loanAmount = service.maxLoanAmount(new BigDecimal("1499.99"), new BigDecimal("0.045"), 360);
+
+        // Then
+        assertThat(primitiveEngine.calculateInstallment(loanAmount, new BigDecimal("0.045"), 360)).isLessThanOrEqualTo(new BigDecimal("1499.99"));
+        assertThat(primitiveEngine.calculateInstallment(loanAmount.add(CENT), new BigDecimal("0.045"), 360)).isGreaterThan(new BigDecimal("1499.99"));
+    }
+
+    @Test
+    @DisplayName("Should quote the solved loan with the age band rate, inverting a direct simulation (10000.00 in 12x of 856.07)")
+    void shouldQuoteSolvedLoan() throws LoanSimulationException {
+        // Given
+        AffordabilityRequest request = createRequest("856.079");
+        request.setPaymentTermInMonths(12);
+
+        // When
+        AffordabilityResponse response = affordabilityService.solve(request);
+
+        // Then
+        assertThat(response.getPaymentTermInMonths()).isEqualTo(12);
+        assertThat(response.getLoanAmount()).isEqualTo(Money.parse("10000.00"));
+        assertThat(response.getSimulation().getMonthlyInstallment()).isEqualTo(Money.parse("856.07"));
+    }
+
+    @Test
+    @DisplayName("Should reject targets no loan can fit: interest above the installment or term above the maximum")
+    void shouldRejectUnaffordableTargets() {
+        // Given - R$ 1.000.000 a 5% a.a. rende R$ 4.166,67 de juros no primeiro mês
+        AffordabilityRequest interestOnly = createRequest("4000.00");
+        interestOnly.setLoanAmount(Money.parse("1000000.00"));
+        interestOnly.setVariableInterestRate(new BigDecimal("0.05"));
+        AffordabilityRequest tooLong = createRequest("4200.00");
+        tooLong.setLoanAmount(Money.parse("1000000.00"));
+        tooLong.setVariableInterestRate(new BigDecimal("0.05"));
+
+        // When
+        InstallmentNotAffordableException interestOnlyException = assertThrows(InstallmentNotAffordableException.class,
+                () -> affordabilityService.solve(interestOnly));
+        InstallmentNotAffordableException tooLongException = assertThrows(InstallmentNotAffordableException.class,
+                () -> affordabilityService.solve(tooLong));
+
+        // Then
+        assertThat(interestOnlyException.getMessage())
+                .isEqualTo("No loan fits a monthly installment of 4000.00: a loan of 1000000.00 needs more than 480 months");
+        assertThat(tooLongException.getMessage()).contains("needs more than 480 months");
+        // 600% a.a. em 1 mês: até R$ 0,01 vira parcela de R$ 0,02
+        assertThrows(InstallmentNotAffordableException.class,
+                () -> affordabilityService.maxLoanAmount(new BigDecimal("0.01"), new BigDecimal("6.00"), 1));
+    }
+
+    @Test
+    @DisplayName("Should reject a payment term above the maximum before computing its annuity factor")
+    void shouldRejectTermAboveMaximum() {
+        // Given - acima de 999.999.999 o BigDecimal.pow do fator lançaria ArithmeticException
+        AffordabilityRequest request = createRequest("1500.00");
+        request.setPaymentTermInMonths(1_000_000_000);
+
+        // When
+        InstallmentNotAffordableException exception = assertThrows(InstallmentNotAffordableException.class,
+                () -> affordabilityService.solve(request));
+
+        // Then
+        assertThat(exception.getMessage())
+                .isEqualTo("No loan fits a monthly installment of 1500.00: the payment term exceeds the maximum of 480 months");
+    }
+
+    @Test
+    @DisplayName("Should reject oversized targets in validation and report an overflowing loan amount as a simulation failure")
+    void shouldRejectOversizedTarget() {
+        // Given - R$ 1e16 em 60 meses daria um valor acima do maior Money
+        AffordabilityRequest request = createRequest("10000000000000000");
+        request.setPaymentTermInMonths(60);
+
+        // When & Then
+        assertThat(Validation.buildDefaultValidatorFactory().getValidator().validate(request))
+                .extracting(violation -> violation.getPropertyPath().toString())
+                .containsExactly("targetInstallment");
+        assertThrows(LoanSimulationException.class, () -> affordabilityService.solve(request));
+    }
+
+    private AffordabilityRequest createRequest(String targetInstallment) {
+        AffordabilityRequest request = new AffordabilityRequest();
+        request.setTargetInstallment(new BigDecimal(targetInstallment));
+        request.setBirthDate(LocalDate.of(2000, 1, 1));
+        return request;
+    }
+
+    private Integer linearScan(BigDecimal loanAmount, BigDecimal targetInstallment, String rate) {
+        for (int term = 1; term <= 480; term++) {
+            if (installment(loanAmount, rate, term).compareTo(targetInstallment) <= 0) {
+                return term;
+            }
+        }
+        return null;
+    }
+
+    private BigDecimal installment(BigDecimal loanAmount, String rate, int term) {
+        return installmentEngine.calculateInstallment(loanAmount, new BigDecimal(rate), term);
+    }
+
+    private static AffordabilityService affordabilityService(InstallmentEngine installmentEngine) {
+        return new AffordabilityService(LoanSimulationServiceFixture.fixture(TODAY).engine(installmentEngine).build(), installmentEngine,
+                new AnnuityFactorCache(1_000), 480);
+    }
+}
@@ -0,0 +1,148 @@
+package com.github.renatinhah.backend_credit_simulator.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.renatinhah.backend_credit_simulator.dto.AmortizationScheduleEntry;
+import com.github.renatinhah.backend_credit_simulator.dto.AmortizationSchedulePage;
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationRequest;
+import com.github.renatinhah.backend_credit_simulator.exceptions.LoanSimulationException;
+import com.github.renatinhah.backend_credit_simulator.model.Money;
+import com.github.renatinhah.backend_credit_simulator.model.enums.AmortizationSystemEnum;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AmortizationScheduleServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 1, 1);
+
+    private final AmortizationScheduleService scheduleService = new AmortizationScheduleService(
+            LoanSimulationServiceFixture.fixture(TODAY).build(),
+            new ObjectMapper());
+
+    @Test
+    @DisplayName("Should split each installment into interest on the previous balance and principal")
+    void shouldSplitInstallmentIntoInterestAndPrincipal() throws LoanSimulationException {
+        // Given - 30 anos, taxa de 3% a.a.
+        LoanSimulationRequest request = createRequest(Money.parse("10000.00"), 12);
+
+        // When
+        List<AmortizationScheduleEntry> schedule = scheduleService.schedule(request).toList();
+
+        // Then
+        AmortizationScheduleEntry first = schedule.get(0);
+        assertThat(first.getInstallmentNumber()).isEqualTo(1);
+        assertThat(first.getInstallment()).isEqualByComparingTo("846.94");
+        assertThat(first.getInterest()).isEqualByComparingTo("25.00");
+        assertThat(first.getPrincipal()).isEqualByComparingTo("821.94");
+        assertThat(first.getRemainingBalance()).isEqualByComparingTo("9178.06");
+    }
+
+    @ParameterizedTest(name = "Schedule with {0} installments should amortize the whole loan")
+    @ValueSource(ints = {1, 12, 60, 360, 480})
+    @DisplayName("Should amortize the whole loan and end with zero balance")
+    void shouldAmortizeWholeLoan(int paymentTerm) throws LoanSimulationException {
+        // Given
+        LoanSimulationRequest request = createRequest(Money.parse("250000.00"), paymentTerm);
+
+        // When
+        List<AmortizationScheduleEntry> schedule = scheduleService.schedule(request).toList();
+
+        // Then
+        assertThat(schedule).hasSize(paymentTerm);
+        BigDecimal totalPrincipal = schedule.stream()
+                .map(AmortizationScheduleEntry::getPrincipal)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        assertThat(totalPrincipal).isEqualByComparingTo("250000.00");
+        assertThat(schedule.get(paymentTerm - 1).getRemainingBalance()).isEqualByComparingTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    @DisplayName("Should return only the requested page of the schedule")
+    void shouldReturnRequestedPage() throws LoanSimulationException {
+        // Given
+        LoanSimulationRequest request = createRequest(Money.parse("250000.00"), 480);
+        List<AmortizationScheduleEntry> fullSchedule = scheduleService.schedule(request).toList();
+
+        // When
+        AmortizationSchedulePage page = scheduleService.schedulePage(request, 3, 50);
+
+        // Then
+        assertThat(page.getTotalInstallments()).isEqualTo(480);
+        assertThat(page.getTotalPages()).isEqualTo(10);
+        assertThat(page.getInstallments()).hasSize(50);
+        assertThat(page.getInstallments().get(0)).isEqualTo(fullSchedule.get(150));
+        assertThat(page.getInstallments().get(49)).isEqualTo(fullSchedule.get(199));
+    }
+
+    @Test
+    @DisplayName("Should follow the requested amortization system, with decreasing SAC installments")
+    void shouldScheduleSac() throws LoanSimulationException {
+        // Given
+        LoanSimulationRequest request = createRequest(Money.parse("10000.00"), 12);
+        request.setAmortizationSystem(AmortizationSystemEnum.SAC);
+
+        // When
+        AmortizationSchedulePage page = scheduleService.schedulePage(request, 0, 12);
+
+        // Then
+        List<AmortizationScheduleEntry> installments = page.getInstallments();
+        assertThat(page.getMonthlyInstallment()).isEqualByComparingTo("858.33");
+        assertThat(installments.get(0).getInstallment()).isEqualByComparingTo("858.33");
+        assertThat(installments.get(11).getInstallment()).isEqualByComparingTo("835.41");
+        assertThat(installments.get(11).getRemainingBalance()).isEqualByComparingTo(BigDecimal.ZERO);
+        for (int i = 1; i < installments.size(); i++) {
+            assertThat(installments.get(i).getInstallment()).isLessThan(installments.get(i - 1).getInstallment());
+        }
+    }
+
+    @Test
+    @DisplayName("Should cap the page size and return an empty page beyond the last installment")
+    void shouldCapPageSize() throws LoanSimulationException {
+        // Given
+        LoanSimulationRequest request = createRequest(Money.parse("10000.00"), 480);
+
+        // When
+        AmortizationSchedulePage capped = scheduleService.schedulePage(request, 0, 10_000);
+        AmortizationSchedulePage beyondEnd = scheduleService.schedulePage(request, 100, 12);
+
+        // Then
+        assertThat(capped.getSize()).isEqualTo(AmortizationScheduleService.MAX_PAGE_SIZE);
+        assertThat(capped.getInstallments()).hasSize(AmortizationScheduleService.MAX_PAGE_SIZE);
+        assertThat(beyondEnd.getInstallments()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should write one NDJSON line per installment")
+    void shouldWriteOneLinePerInstallment() throws LoanSimulationException, IOException {
+        // Given
+        LoanSimulationRequest request = createRequest(Money.parse("10000.00"), 24);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        scheduleService.writeSchedule(scheduleService.schedule(request), output);
+
+        // Then
+        List<String> lines = output.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines).hasSize(24);
+        assertThat(lines.get(0)).contains("\"installmentNumber\":1");
+        assertThat(lines.get(23)).contains("\"installmentNumber\":24");
+    }
+
+    private LoanSimulationRequest createRequest(Money loanAmount, int paymentTerm) {
+        LoanSimulationRequest request = new LoanSimulationRequest();
+        request.setLoanAmount(loanAmount);
+        request.setBirthDate(TODAY.minusYears(30));
+        request.setPaymentTermInMonths(paymentTerm);
+        return request;
+    }
+}
@@ -0,0 +1,106 @@
+package com.github.renatinhah.backend_credit_simulator.service;
+
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationBatchItem;
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationRequest;
+import com.github.renatinhah.backend_credit_simulator.exceptions.BatchSizeExceededException;
+import com.github.renatinhah.backend_credit_simulator.model.Money;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LoanSimulationBatchServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 1, 1);
+
+    private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+    private final LoanSimulationService loanSimulationService =
+            LoanSimulationServiceFixture.fixture(TODAY).build();
+    private final LoanSimulationBatchService batchService =
+            new LoanSimulationBatchService(loanSimulationService, validator, 4, 1000);
+
+    @AfterEach
+    void tearDown() {
+        batchService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should return results aligned by index for a large batch")
+    void shouldReturnResultsAlignedByIndex() {
+        // Given
+        List<LoanSimulationRequest> requests = IntStream.range(0, 500)
+                .mapToObj(i -> createRequest(Money.ofCents((1000L + i) * 100), 12 + (i % 48)))
+                .toList();
+
+        // When
+        List<LoanSimulationBatchItem> results = batchService.simulateBatch(requests);
+
+        // Then
+        assertThat(results).hasSize(requests.size());
+        for (int i = 0; i < results.size(); i++) {
+            LoanSimulationBatchItem item = results.get(i);
+            assertThat(item.getIndex()).isEqualTo(i);
+            assertThat(item.getErrors()).isNull();
+            assertThat(item.getSimulation().getTotalAmountToPay().toBigDecimal())
+                    .isEqualByComparingTo(item.getSimulation().getMonthlyInstallment().toBigDecimal()
+                            .multiply(new BigDecimal(requests.get(i).getPaymentTermInMonths())));
+        }
+    }
+
+    @Test
+    @DisplayName("Should report invalid items individually without failing the batch")
+    void shouldReportInvalidItemsIndividually() {
+        // Given
+        LoanSimulationRequest invalidAmount = createRequest(null, 12);
+        LoanSimulationRequest futureBirthDate = createRequest(Money.parse("10000.00"), 12);
+        futureBirthDate.setBirthDate(LocalDate.now().plusYears(1));
+        List<LoanSimulationRequest> requests = new ArrayList<>(Arrays.asList(
+                createRequest(Money.parse("10000.00"), 12),
+                invalidAmount,
+                null,
+                futureBirthDate
+        ));
+
+        // When
+        List<LoanSimulationBatchItem> results = batchService.simulateBatch(requests);
+
+        // Then
+        assertThat(results.get(0).getSimulation().getMonthlyInstallment())
+                .isEqualTo(Money.parse("846.94"));
+        assertThat(results.get(1).getSimulation()).isNull();
+        assertThat(results.get(1).getErrors()).containsEntry("loanAmount", "Loan amount is required");
+        assertThat(results.get(2).getErrors()).containsKey("request");
+        assertThat(results.get(3).getErrors()).containsEntry("birthDate", "Birth date must be in the past");
+    }
+
+    @Test
+    @DisplayName("Should reject batches above the configured maximum size")
+    void shouldRejectBatchesAboveMaximumSize() {
+        // Given
+        List<LoanSimulationRequest> requests = IntStream.range(0, 1001)
+                .mapToObj(i -> createRequest(Money.parse("1000.00"), 12))
+                .toList();
+
+        // When & Then
+        assertThrows(BatchSizeExceededException.class, () -> batchService.simulateBatch(requests));
+    }
+
+    private LoanSimulationRequest createRequest(Money loanAmount, int paymentTerm) {
+        LoanSimulationRequest request = new LoanSimulationRequest();
+        request.setLoanAmount(loanAmount);
+        request.setBirthDate(TODAY.minusYears(30));
+        request.setPaymentTermInMonths(paymentTerm);
+        return request;
+    }
+}
@@ -0,0 +1,109 @@
+package com.github.renatinhah.backend_credit_simulator.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.renatinhah.backend_credit_simulator.metrics.SimulationMetrics;
+import com.github.renatinhah.backend_credit_simulator.service.amortization.AmortizationCalculators;
+import com.github.renatinhah.backend_credit_simulator.service.amortization.PriceAmortizationCalculator;
+import com.github.renatinhah.backend_credit_simulator.service.amortization.SacAmortizationCalculator;
+import com.github.renatinhah.backend_credit_simulator.service.engine.BigDecimalInstallmentEngine;
+import com.github.renatinhah.backend_credit_simulator.service.engine.InstallmentEngine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * Monta o {@link LoanSimulationService} para testes, com o relógio fixado na data de referência.
+ */
+public final class LoanSimulationServiceFixture {
+
+    public static final ZoneId ZONE = ZoneId.of("America/Sao_Paulo");
+
+    private LoanSimulationServiceFixture() {
+    }
+
+    /**
+     * Serviço com os padrões dos testes (motor {@code BIG_DECIMAL}, tabela embutida, sem cache de respostas,
+     * coalescência ligada e sem ouvintes); cada dependência pode ser trocada no {@link Builder}.
+     */
+    public static Builder fixture(LocalDate today) {
+        return new Builder(today);
+    }
+
+    public static final class Builder {
+
+        private final LocalDate today;
+        private InstallmentEngine installmentEngine = new BigDecimalInstallmentEngine();
+        private RateTableService rateTableService;
+        private SimulationMetrics simulationMetrics;
+        private SimulationResponseCache simulationResponseCache;
+        private SimulationCoalescer simulationCoalescer;
+        private List<SimulationListener> simulationListeners = List.of();
+
+        private Builder(LocalDate today) {
+            this.today = today;
+        }
+
+        public Builder engine(InstallmentEngine installmentEngine) {
+            this.installmentEngine = installmentEngine;
+            return this;
+        }
+
+        public Builder rates(RateTableService rateTableService) {
+            this.rateTableService = rateTableService;
+            return this;
+        }
+
+        public Builder metrics(SimulationMetrics simulationMetrics) {
+            this.simulationMetrics = simulationMetrics;
+            return this;
+        }
+
+        public Builder cache(SimulationResponseCache simulationResponseCache) {
+            this.simulationResponseCache = simulationResponseCache;
+            return this;
+        }
+
+        public Builder coalescer(SimulationCoalescer simulationCoalescer) {
+            this.simulationCoalescer = simulationCoalescer;
+            return this;
+        }
+
+        public Builder listeners(SimulationListener... simulationListeners) {
+            this.simulationListeners = List.of(simulationListeners);
+            return this;
+        }
+
+        public LoanSimulationService build() {
+            return new LoanSimulationService(fixedClock(today), amortizationCalculators(installmentEngine),
+                    rateTableService != null ? rateTableService : embeddedRateTableService(),
+                    simulationMetrics != null ? simulationMetrics : new SimulationMetrics(new SimpleMeterRegistry()),
+                    simulationResponseCache != null ? simulationResponseCache : disabledResponseCache(),
+                    simulationCoalescer != null ? simulationCoalescer : new SimulationCoalescer(true, new SimpleMeterRegistry()),
+                    simulationListeners);
+        }
+    }
+
+    /**
+     * Price com o motor informado e SAC, como na aplicação.
+     */
+    public static AmortizationCalculators amortizationCalculators(InstallmentEngine installmentEngine) {
+        return new AmortizationCalculators(List.of(new PriceAmortizationCalculator(installmentEngine), new SacAmortizationCalculator()));
+    }
+
+    public static SimulationResponseCache disabledResponseCache() {
+        return new SimulationResponseCache(false, 0, Duration.ZERO, Ticker.systemTicker(), new SimpleMeterRegistry());
+    }
+
+    public static RateTableService embeddedRateTableService() {
+        return new RateTableService("", new ObjectMapper(), event -> { });
+    }
+
+    public static Clock fixedClock(LocalDate today) {
+        return Clock.fixed(today.atStartOfDay(ZONE).toInstant(), ZONE);
+    }
+}
@@ -1,19 +1,24 @@
 package com.github.renatinhah.backend_credit_simulator.service;
 
+import com.github.benmanes.caffeine.cache.Ticker;
 import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationRequest;
 import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationResponse;
 import com.github.renatinhah.backend_credit_simulator.exceptions.LoanSimulationException;
+import com.github.renatinhah.backend_credit_simulator.metrics.SimulationMetrics;
+import com.github.renatinhah.backend_credit_simulator.model.Money;
+import com.github.renatinhah.backend_credit_simulator.model.enums.AmortizationSystemEnum;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
-import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.stream.Stream;
@@ -23,11 +28,11 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 @ExtendWith(MockitoExtension.class)
 class LoanSimulationServiceTest {
 
-    @InjectMocks
-    private LoanSimulationService loanSimulationService;
-
     private static final LocalDate TODAY = LocalDate.of(2025, 1, 1);
-    private static final BigDecimal STANDARD_LOAN_AMOUNT = new BigDecimal("10000.00");
+
+    private final LoanSimulationService loanSimulationService =
+            LoanSimulationServiceFixture.fixture(TODAY).build();
+    private static final Money STANDARD_LOAN_AMOUNT = Money.parse("10000.00");
     private static final int STANDARD_PAYMENT_TERM = 12;
 
     // Dados de teste para diferentes idades e taxas esperadas
@@ -65,18 +70,18 @@ class LoanSimulationServiceTest {
         request.setBirthDate(LocalDate.of(2000, 1, 1));
         request.setVariableInterestRate(new BigDecimal("0.035"));
 
-        BigDecimal expectedMonthlyInstallment = new BigDecimal("849.22");
-        BigDecimal expectedTotalAmount = new BigDecimal("10190.64");
-        BigDecimal expectedTotalInterest = new BigDecimal("190.64");
+        Money expectedMonthlyInstallment = Money.parse("849.22");
+        Money expectedTotalAmount = Money.parse("10190.64");
+        Money expectedTotalInterest = Money.parse("190.64");
 
         // When
         LoanSimulationResponse response = loanSimulationService.simulate(request);
 
         // Then
         assertThat(response).isNotNull();
-        assertThat(response.getMonthlyInstallment()).isEqualByComparingTo(expectedMonthlyInstallment);
-        assertThat(response.getTotalAmountToPay()).isEqualByComparingTo(expectedTotalAmount);
-        assertThat(response.getTotalInterest()).isEqualByComparingTo(expectedTotalInterest);
+        assertThat(response.getMonthlyInstallment()).isEqualTo(expectedMonthlyInstallment);
+        assertThat(response.getTotalAmountToPay()).isEqualTo(expectedTotalAmount);
+        assertThat(response.getTotalInterest()).isEqualTo(expectedTotalInterest);
     }
 
     @ParameterizedTest(name = "Should handle reasonable loan amounts: {0}")
@@ -85,16 +90,16 @@ class LoanSimulationServiceTest {
     void shouldHandleReasonableLoanAmounts(String loanAmountStr) throws LoanSimulationException {
         // Given
         LoanSimulationRequest request = createStandardRequest();
-        request.setLoanAmount(new BigDecimal(loanAmountStr));
+        request.setLoanAmount(Money.parse(loanAmountStr));
 
         // When
         LoanSimulationResponse response = loanSimulationService.simulate(request);
 
         // Then
         assertThat(response).isNotNull();
-        assertThat(response.getMonthlyInstallment()).isPositive();
-        assertThat(response.getTotalAmountToPay()).isPositive();
-        assertThat(response.getTotalInterest()).isGreaterThanOrEqualTo(BigDecimal.ZERO);
+        assertThat(response.getMonthlyInstallment().signum()).isPositive();
+        assertThat(response.getTotalAmountToPay().signum()).isPositive();
+        assertThat(response.getTotalInterest().signum()).isNotNegative();
     }
 
     @ParameterizedTest(name = "Should handle reasonable payment terms: {0} months")
@@ -110,14 +115,14 @@ class LoanSimulationServiceTest {
 
         // Then
         assertThat(response).isNotNull();
-        assertThat(response.getMonthlyInstallment()).isPositive();
+        assertThat(response.getMonthlyInstallment().signum()).isPositive();
 
         // Verificar se o total calculado está correto
-        BigDecimal calculatedTotal = response.getMonthlyInstallment()
+        BigDecimal calculatedTotal = response.getMonthlyInstallment().toBigDecimal()
                 .multiply(new BigDecimal(paymentTerm))
                 .setScale(2, RoundingMode.HALF_UP);
 
-        assertThat(response.getTotalAmountToPay()).isEqualByComparingTo(calculatedTotal);
+        assertThat(response.getTotalAmountToPay().toBigDecimal()).isEqualByComparingTo(calculatedTotal);
     }
 
     @Test
@@ -125,29 +130,76 @@ class LoanSimulationServiceTest {
     void shouldMaintainPrecisionInFinancialCalculations() throws LoanSimulationException {
         // Given
         LoanSimulationRequest request = createStandardRequest();
-        request.setLoanAmount(new BigDecimal("10000.333"));
+        request.setLoanAmount(Money.parse("10000.333"));
         request.setBirthDate(TODAY.minusYears(30));
 
         // When
         LoanSimulationResponse response = loanSimulationService.simulate(request);
 
-        // Then
-        assertThat(response.getMonthlyInstallment().scale()).isEqualTo(2);
-        assertThat(response.getTotalAmountToPay().scale()).isEqualTo(2);
-        assertThat(response.getTotalInterest().scale()).isEqualTo(2);
+        // Then - o valor da requisição é arredondado HALF_UP para centavos e os totais partem dele
+        assertThat(request.getLoanAmount()).isEqualTo(Money.parse("10000.33"));
 
         // Verificar consistência dos cálculos
-        BigDecimal calculatedTotal = response.getMonthlyInstallment()
+        BigDecimal calculatedTotal = response.getMonthlyInstallment().toBigDecimal()
                 .multiply(new BigDecimal(STANDARD_PAYMENT_TERM))
                 .setScale(2, RoundingMode.HALF_UP);
 
-        assertThat(response.getTotalAmountToPay()).isEqualByComparingTo(calculatedTotal);
+        assertThat(response.getTotalAmountToPay().toBigDecimal()).isEqualByComparingTo(calculatedTotal);
 
-        BigDecimal calculatedInterest = response.getTotalAmountToPay()
-                .subtract(request.getLoanAmount())
+        BigDecimal calculatedInterest = response.getTotalAmountToPay().toBigDecimal()
+                .subtract(new BigDecimal("10000.33"))
                 .setScale(2, RoundingMode.HALF_UP);
 
-        assertThat(response.getTotalInterest()).isEqualByComparingTo(calculatedInterest);
+        assertThat(response.getTotalInterest().toBigDecimal()).isEqualByComparingTo(calculatedInterest);
+    }
+
+    @Test
+    @DisplayName("Should count quotes per rate bucket and record stage durations")
+    void shouldRecordSimulationMetrics() throws LoanSimulationException {
+        // Given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        LoanSimulationService service = LoanSimulationServiceFixture.fixture(TODAY)
+                .metrics(new SimulationMetrics(meterRegistry)).build();
+        LoanSimulationRequest variableRateRequest = createStandardRequest();
+        variableRateRequest.setVariableInterestRate(new BigDecimal("0.07"));
+
+        // When
+        service.simulate(createStandardRequest());
+        service.simulate(createStandardRequest());
+        service.simulate(variableRateRequest);
+
+        // Then
+        assertThat(meterRegistry.get(SimulationMetrics.QUOTES).tag("rate_bucket", "FROM_26_TO_40_YEARS").counter().count())
+                .isEqualTo(2.0);
+        assertThat(meterRegistry.get(SimulationMetrics.QUOTES).tag("rate_bucket", LoanSimulationService.VARIABLE_RATE_BUCKET)
+                .counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get(SimulationMetrics.STAGE_DURATION).tag("stage", SimulationMetrics.STAGE_INSTALLMENT)
+                .timer().count()).isEqualTo(3L);
+        assertThat(meterRegistry.get(SimulationMetrics.STAGE_DURATION).tag("stage", SimulationMetrics.STAGE_RATE_RESOLUTION)
+                .timer().count()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("Should quote SAC when requested, without sharing cached Price quotes")
+    void shouldSimulateSacWhenRequested() throws LoanSimulationException {
+        // Given
+        LoanSimulationService service = LoanSimulationServiceFixture.fixture(TODAY)
+                .cache(new SimulationResponseCache(true, 100, Duration.ofMinutes(1), Ticker.systemTicker(), new SimpleMeterRegistry()))
+                .build();
+        LoanSimulationRequest sacRequest = createStandardRequest();
+        sacRequest.setAmortizationSystem(AmortizationSystemEnum.SAC);
+
+        // When
+        LoanSimulationResponse price = service.simulate(createStandardRequest());
+        LoanSimulationResponse sac = service.simulate(sacRequest);
+
+        // Then
+        assertThat(price.getMonthlyInstallment()).isEqualTo(Money.parse("846.94"));
+        assertThat(price.getLastInstallment()).isNull();
+        assertThat(sac.getMonthlyInstallment()).isEqualTo(Money.parse("858.33"));
+        assertThat(sac.getLastInstallment()).isEqualTo(Money.parse("835.41"));
+        assertThat(sac.getTotalInterest()).isEqualTo(Money.parse("162.50"));
+        assertThat(sac.getTotalAmountToPay()).isEqualTo(Money.parse("10162.50"));
     }
 
     private LoanSimulationRequest createStandardRequest() {
@@ -161,11 +213,11 @@ class LoanSimulationServiceTest {
     private void assertLoanSimulationResponse(LoanSimulationResponse response, TestData testData) {
         assertThat(response).isNotNull();
         assertThat(response.getMonthlyInstallment())
-                .isEqualByComparingTo(new BigDecimal(testData.expectedMonthlyInstallment()));
+                .isEqualTo(Money.parse(testData.expectedMonthlyInstallment()));
         assertThat(response.getTotalInterest())
-                .isEqualByComparingTo(new BigDecimal(testData.expectedTotalInterest()));
+                .isEqualTo(Money.parse(testData.expectedTotalInterest()));
         assertThat(response.getTotalAmountToPay())
-                .isEqualByComparingTo(new BigDecimal(testData.expectedTotalAmount()));
+                .isEqualTo(Money.parse(testData.expectedTotalAmount()));
     }
 
     // Fonte de dados para testes parametrizados
@@ -0,0 +1,123 @@
+package com.github.renatinhah.backend_credit_simulator.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LoanSimulationStreamServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 1, 1);
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final LoanSimulationBatchService batchService = new LoanSimulationBatchService(
+            LoanSimulationServiceFixture.fixture(TODAY).build(),
+            Validation.buildDefaultValidatorFactory().getValidator(), 4, 1000);
+    private final LoanSimulationStreamService streamService = new LoanSimulationStreamService(batchService, objectMapper, 7, 256);
+
+    @AfterEach
+    void tearDown() {
+        batchService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should emit one result per record in input order across chunks")
+    void shouldEmitOneResultPerRecordInOrder() throws IOException {
+        // Given
+        String input = IntStream.range(0, 50)
+                .mapToObj(i -> "{\"loanAmount\":" + (1000 + i) + ",\"birthDate\":\"1995-01-01\",\"paymentTermInMonths\":12}")
+                .collect(Collectors.joining("\n"));
+
+        // When
+        List<JsonNode> output = stream(input);
+
+        // Then
+        assertThat(output).hasSize(50);
+        for (int i = 0; i < output.size(); i++) {
+            assertThat(output.get(i).get("index").asLong()).isEqualTo(i);
+            assertThat(output.get(i).get("simulation").get("monthlyInstallment").decimalValue()).isPositive();
+        }
+    }
+
+    @Test
+    @DisplayName("Should report malformed and invalid records without stopping the stream")
+    void shouldReportMalformedAndInvalidRecords() throws IOException {
+        // Given
+        String input = """
+                {"loanAmount":10000,"birthDate":"1995-01-01","paymentTermInMonths":12}
+                {"loanAmount":
+
+                {"birthDate":"1995-01-01","paymentTermInMonths":12}
+                {"loanAmount":10000,"birthDate":"1995-01-01","paymentTermInMonths":12}
+                """;
+
+        // When
+        List<JsonNode> output = stream(input);
+
+        // Then
+        assertThat(output).hasSize(4);
+        assertThat(output.get(0).get("simulation").get("monthlyInstallment").decimalValue())
+                .isEqualByComparingTo("846.94");
+        assertThat(output.get(1).get("errors").get("type").asText()).isEqualTo("MALFORMED_RECORD");
+        assertThat(output.get(2).get("errors").get("loanAmount").asText()).isEqualTo("Loan amount is required");
+        assertThat(output.get(3).get("index").asLong()).isEqualTo(3);
+        assertThat(output.get(3).get("simulation")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should report a line over the maximum length as malformed and resume at the next line")
+    void shouldReportOverLongLine() throws IOException {
+        // Given - um registro de ~20 mil caracteres sem quebra, entre dois válidos (CRLF no último)
+        String record = "{\"loanAmount\":10000,\"birthDate\":\"1995-01-01\",\"paymentTermInMonths\":12}";
+        String input = record + "\n" + "{\"id\":\"" + "x".repeat(20_000) + "\"}\n" + record + "\r\n";
+
+        // When
+        List<JsonNode> output = stream(input);
+
+        // Then
+        assertThat(output).hasSize(3);
+        assertThat(output.get(0).get("simulation")).isNotNull();
+        assertThat(output.get(1).get("index").asLong()).isEqualTo(1);
+        assertThat(output.get(1).get("errors").get("type").asText()).isEqualTo("MALFORMED_RECORD");
+        assertThat(output.get(1).get("errors").get("error").asText()).contains("longer than 256 characters");
+        assertThat(output.get(2).get("simulation").get("monthlyInstallment").decimalValue())
+                .isEqualByComparingTo("846.94");
+    }
+
+    @Test
+    @DisplayName("Should reject a chunk size or maximum line length below one")
+    void shouldRejectInvalidLimits() {
+        assertThrows(IllegalArgumentException.class, () -> new LoanSimulationStreamService(batchService, objectMapper, 0, 256));
+        assertThrows(IllegalArgumentException.class, () -> new LoanSimulationStreamService(batchService, objectMapper, 7, 0));
+    }
+
+    private List<JsonNode> stream(String input) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        streamService.simulateStream(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), output);
+
+        return output.toString(StandardCharsets.UTF_8).lines()
+                .map(line -> {
+                    try {
+                        return objectMapper.readTree(line);
+                    } catch (IOException e) {
+                        throw new IllegalStateException(e);
+                    }
+                })
+                .toList();
+    }
+}
@@ -0,0 +1,111 @@
+package com.github.renatinhah.backend_credit_simulator.service;
+
+import com.github.renatinhah.backend_credit_simulator.dto.DecimalRange;
+import com.github.renatinhah.backend_credit_simulator.dto.RateSweepRequest;
+import com.github.renatinhah.backend_credit_simulator.dto.RateSweepResponse;
+import com.github.renatinhah.backend_credit_simulator.dto.TermRange;
+import com.github.renatinhah.backend_credit_simulator.exceptions.SweepSizeExceededException;
+import com.github.renatinhah.backend_credit_simulator.service.engine.BigDecimalInstallmentEngine;
+import com.github.renatinhah.backend_credit_simulator.service.engine.InstallmentGridEngine;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RateSweepServiceTest {
+
+    private final RateSweepService rateSweepService =
+            new RateSweepService(new InstallmentGridEngine(new BigDecimalInstallmentEngine()), 1_000);
+
+    @Test
+    @DisplayName("Should expand the ranges into axes and return one installment per combination")
+    void shouldReturnFullGrid() {
+        // Given
+        RateSweepRequest request = createRequest(decimalRange("10000", "30000", "10000"),
+                termRange(12, 36, 12),
+                decimalRange("0.03", "0.05", "0.02"));
+
+        // When
+        RateSweepResponse response = rateSweepService.sweep(request);
+
+        // Then
+        assertThat(response.getLoanAmounts()).extracting(BigDecimal::toPlainString).containsExactly("10000", "20000", "30000");
+        assertThat(response.getPaymentTermsInMonths()).containsExactly(12, 24, 36);
+        assertThat(response.getVariableInterestRates()).extracting(BigDecimal::toPlainString).containsExactly("0.03", "0.05");
+        assertThat(response.getMonthlyInstallments()).hasDimensions(2, 3);
+        assertThat(response.getMonthlyInstallments()[0][0][0]).isEqualByComparingTo("846.94");
+        assertThat(response.getMonthlyInstallments()[1][0][0]).isEqualByComparingTo("856.07");
+    }
+
+    @Test
+    @DisplayName("Should reject grids above the maximum number of cells before calculating")
+    void shouldRejectOversizedGrid() {
+        // Given - 101 valores × 10 prazos × 1 taxa = 1.010 células
+        RateSweepRequest request = createRequest(decimalRange("1000", "101000", "1000"),
+                termRange(12, 120, 12),
+                decimalRange("0.03", "0.03", "0.01"));
+
+        // When
+        SweepSizeExceededException exception = assertThrows(SweepSizeExceededException.class,
+                () -> rateSweepService.sweep(request));
+
+        // Then
+        assertThat(exception.getMessage()).isEqualTo("Sweep grid with 1010 cells exceeds the maximum of 1000 simulations");
+    }
+
+    @Test
+    @DisplayName("Should stop the term axis at the range end even when the next term would overflow an int")
+    void shouldNotOverflowTermAxis() {
+        // Given - from + step passa de Integer.MAX_VALUE
+        RateSweepRequest request = createRequest(decimalRange("10000", "10000", "1"),
+                termRange(1, Integer.MAX_VALUE, Integer.MAX_VALUE),
+                decimalRange("0.03", "0.03", "0.01"));
+
+        // When
+        RateSweepResponse response = rateSweepService.sweep(request);
+
+        // Then
+        assertThat(response.getPaymentTermsInMonths()).containsExactly(1);
+        assertThat(response.getMonthlyInstallments()[0][0][0]).isEqualByComparingTo("10025.00");
+    }
+
+    @Test
+    @DisplayName("Should reject term ranges beyond the maximum payment term")
+    void shouldRejectTermsBeyondMaximum() {
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+        assertThat(validator.validate(termRange(1, Integer.MAX_VALUE, Integer.MAX_VALUE)))
+                .extracting(violation -> violation.getPropertyPath().toString())
+                .containsExactlyInAnyOrder("to", "step");
+        assertThat(validator.validate(termRange(12, TermRange.MAX_PAYMENT_TERM, 12))).isEmpty();
+    }
+
+    private RateSweepRequest createRequest(DecimalRange loanAmount, TermRange paymentTerm, DecimalRange rate) {
+        RateSweepRequest request = new RateSweepRequest();
+        request.setLoanAmount(loanAmount);
+        request.setPaymentTermInMonths(paymentTerm);
+        request.setVariableInterestRate(rate);
+        return request;
+    }
+
+    private DecimalRange decimalRange(String from, String to, String step) {
+        DecimalRange range = new DecimalRange();
+        range.setFrom(new BigDecimal(from));
+        range.setTo(new BigDecimal(to));
+        range.setStep(new BigDecimal(step));
+        return range;
+    }
+
+    private TermRange termRange(int from, int to, int step) {
+        TermRange range = new TermRange();
+        range.setFrom(from);
+        range.setTo(to);
+        range.setStep(step);
+        return range;
+    }
+}
@@ -0,0 +1,154 @@
+package com.github.renatinhah.backend_credit_simulator.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.renatinhah.backend_credit_simulator.exceptions.AgeNotSupportedException;
+import com.github.renatinhah.backend_credit_simulator.model.RateBand;
+import com.github.renatinhah.backend_credit_simulator.model.RateTable;
+import com.github.renatinhah.backend_credit_simulator.model.enums.InterestRateEnum;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RateTableServiceTest {
+
+    private static final String VERSION_1 = """
+            {"version":"v1","bands":[
+              {"name":"YOUNG","ageStart":18,"ageEnd":30,"annualRate":0.06},
+              {"name":"ADULT","ageStart":31,"ageEnd":2147483647,"annualRate":0.025}
+            ]}""";
+    private static final String VERSION_2 = """
+            {"version":"v2","bands":[
+              {"name":"ALL","ageStart":0,"ageEnd":2147483647,"annualRate":0.01}
+            ]}""";
+
+    @TempDir
+    private Path tempDir;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<Object> publishedEvents = new ArrayList<>();
+
+    @ParameterizedTest(name = "Age {0} should resolve to {1}")
+    @CsvSource({
+            "0, UP_TO_25_YEARS", "20, UP_TO_25_YEARS", "25, UP_TO_25_YEARS",
+            "26, FROM_26_TO_40_YEARS", "35, FROM_26_TO_40_YEARS", "40, FROM_26_TO_40_YEARS",
+            "41, FROM_41_TO_60_YEARS", "50, FROM_41_TO_60_YEARS", "60, FROM_41_TO_60_YEARS",
+            "61, ABOVE_60_YEARS", "100, ABOVE_60_YEARS", "150, ABOVE_60_YEARS", "151, ABOVE_60_YEARS",
+            "200, ABOVE_60_YEARS"
+    })
+    @DisplayName("Should keep the InterestRateEnum rules when no rate table file is configured")
+    void shouldUseEmbeddedRulesByDefault(int age, InterestRateEnum expected) {
+        // Given
+        RateTableService service = new RateTableService("", objectMapper, publishedEvents::add);
+
+        // When
+        RateBand band = service.resolve(age);
+
+        // Then
+        assertThat(service.current().getVersion()).isEqualTo(RateTable.EMBEDDED_VERSION);
+        assertThat(band.name()).isEqualTo(expected.name());
+        assertThat(band.annualRate()).isEqualByComparingTo(new BigDecimal(expected.getRate()));
+    }
+
+    @ParameterizedTest(name = "Invalid age: {0}")
+    @ValueSource(ints = {-10, -5, -1})
+    @DisplayName("Should throw AgeNotSupportedException for negative ages with the embedded rules")
+    void shouldRejectNegativeAges(int invalidAge) {
+        // Given
+        RateTableService service = new RateTableService("", objectMapper, publishedEvents::add);
+
+        // When
+        AgeNotSupportedException exception = assertThrows(AgeNotSupportedException.class,
+                () -> service.resolve(invalidAge));
+
+        // Then
+        assertThat(exception.getMessage()).isEqualTo("Age range not found for age: " + invalidAge);
+    }
+
+    @Test
+    @DisplayName("Should load the rate table file and reject ages outside every band")
+    void shouldLoadRateTableFile() throws IOException {
+        // Given
+        Path file = writeRateTable(VERSION_1);
+
+        // When
+        RateTableService service = new RateTableService(file.toString(), objectMapper, publishedEvents::add);
+
+        // Then
+        assertThat(service.current().getVersion()).isEqualTo("v1");
+        assertThat(service.resolve(18).annualRate()).isEqualByComparingTo("0.06");
+        assertThat(service.resolve(95).annualRate()).isEqualByComparingTo("0.025");
+        assertThrows(AgeNotSupportedException.class, () -> service.resolve(17));
+    }
+
+    @Test
+    @DisplayName("Should publish the new version when the file changes")
+    void shouldReloadWhenFileChanges() throws IOException {
+        // Given
+        Path file = writeRateTable(VERSION_1);
+        RateTableService service = new RateTableService(file.toString(), objectMapper, publishedEvents::add);
+
+        // When
+        Files.writeString(file, VERSION_2);
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(60)));
+        service.reloadIfModified();
+
+        // Then
+        assertThat(service.current().getVersion()).isEqualTo("v2");
+        assertThat(service.resolve(10).annualRate()).isEqualByComparingTo("0.01");
+        assertThat(publishedEvents).singleElement()
+                .isInstanceOfSatisfying(RateTableChangedEvent.class, event -> {
+                    assertThat(event.previous().getVersion()).isEqualTo("v1");
+                    assertThat(event.current().getVersion()).isEqualTo("v2");
+                });
+    }
+
+    @Test
+    @DisplayName("Should keep the previous version when the new file is invalid")
+    void shouldKeepPreviousVersionWhenFileIsInvalid() throws IOException {
+        // Given
+        Path file = writeRateTable(VERSION_1);
+        RateTableService service = new RateTableService(file.toString(), objectMapper, publishedEvents::add);
+
+        // When - faixas sobrepostas
+        Files.writeString(file, """
+                {"version":"broken","bands":[
+                  {"name":"A","ageStart":0,"ageEnd":40,"annualRate":0.05},
+                  {"name":"B","ageStart":30,"ageEnd":60,"annualRate":0.03}
+                ]}""");
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(60)));
+        service.reloadIfModified();
+
+        // Then
+        assertThat(service.current().getVersion()).isEqualTo("v1");
+        assertThat(publishedEvents).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject bands with invalid ranges or rates")
+    void shouldRejectInvalidBands() {
+        assertThrows(IllegalArgumentException.class, () -> RateTable.of("v", Instant.EPOCH,
+                List.of(new RateBand("A", 30, 20, new BigDecimal("0.05")))));
+        assertThrows(IllegalArgumentException.class, () -> RateTable.of("v", Instant.EPOCH,
+                List.of(new RateBand("A", 0, 20, BigDecimal.ZERO))));
+        assertThrows(IllegalArgumentException.class, () -> RateTable.of("v", Instant.EPOCH, List.of()));
+    }
+
+    private Path writeRateTable(String content) throws IOException {
+        return Files.writeString(tempDir.resolve("interest-rates.json"), content);
+    }
+}
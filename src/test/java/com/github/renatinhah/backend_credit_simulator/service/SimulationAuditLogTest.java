@@ -0,0 +1,149 @@
+package com.github.renatinhah.backend_credit_simulator.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationRequest;
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationResponse;
+import com.github.renatinhah.backend_credit_simulator.metrics.SimulationMetrics;
+import com.github.renatinhah.backend_credit_simulator.model.Money;
+import com.github.renatinhah.backend_credit_simulator.model.RateBand;
+import com.github.renatinhah.backend_credit_simulator.model.enums.AuditOverflowPolicyEnum;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SimulationAuditLogTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 1, 1);
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("Should append request, applied rate band and response of every quote as NDJSON")
+    void shouldWriteEveryQuote() throws Exception {
+        // Given
+        Path file = directory.resolve("audit/simulations.ndjson");
+        SimulationAuditLog auditLog = createAuditLog(file, 1_000, AuditOverflowPolicyEnum.DROP_NEWEST);
+        LoanSimulationService loanSimulationService = LoanSimulationServiceFixture.fixture(TODAY)
+                .metrics(new SimulationMetrics(meterRegistry)).listeners(auditLog).build();
+        auditLog.start();
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            loanSimulationService.simulate(createRequest(null));
+        }
+        loanSimulationService.simulate(createRequest(new BigDecimal("0.05")));
+        auditLog.close();
+
+        // Then
+        List<String> lines = Files.readAllLines(file);
+        assertThat(lines).hasSize(101);
+        JsonNode ageBased = objectMapper.readTree(lines.get(0));
+        assertThat(ageBased.get("simulatedAt").asText()).isEqualTo("2025-01-01T03:00:00Z");
+        assertThat(ageBased.at("/request/birthDate").asText()).isEqualTo("2000-01-01");
+        assertThat(ageBased.get("rateBand").asText()).isEqualTo("UP_TO_25_YEARS");
+        assertThat(ageBased.get("annualRate").decimalValue()).isEqualByComparingTo("0.05");
+        assertThat(ageBased.at("/response/monthlyInstallment").decimalValue()).isEqualByComparingTo("856.07");
+        JsonNode variableRate = objectMapper.readTree(lines.get(100));
+        assertThat(variableRate.get("rateBand").asText()).isEqualTo(LoanSimulationService.VARIABLE_RATE_BUCKET);
+        assertThat(variableRate.at("/request/variableInterestRate").decimalValue()).isEqualByComparingTo("0.05");
+        assertThat(meterRegistry.get("simulation.audit.records").tag("outcome", "written").counter().count()).isEqualTo(101);
+        assertThat(meterRegistry.get("simulation.audit.lag").timer().count()).isEqualTo(101);
+    }
+
+    @ParameterizedTest(name = "{0} should keep records {1} and {2}")
+    @CsvSource({
+            "DROP_NEWEST, 0, 1",
+            "DROP_OLDEST, 3, 4"
+    })
+    @DisplayName("Should apply the overflow policy when the queue is full")
+    void shouldApplyOverflowPolicy(AuditOverflowPolicyEnum overflowPolicy, int firstKept, int secondKept) throws Exception {
+        // Given - writer ainda parado, então a fila de 2 posições enche
+        Path file = directory.resolve("simulations.ndjson");
+        SimulationAuditLog auditLog = createAuditLog(file, 2, overflowPolicy);
+
+        // When
+        for (int term = 0; term < 5; term++) {
+            auditLog.onSimulation(createRequest(null, term + 1), band(), response());
+        }
+        auditLog.start();
+        auditLog.close();
+
+        // Then
+        assertThat(paymentTerms(file)).containsExactly(firstKept + 1, secondKept + 1);
+        assertThat(meterRegistry.get("simulation.audit.records").tag("outcome", "dropped").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should require an absolute file when enabled")
+    void shouldRequireAbsoluteFile() {
+        assertThrows(IllegalArgumentException.class, () -> createAuditLog(Path.of("audit/simulations.ndjson"), 2,
+                AuditOverflowPolicyEnum.DROP_NEWEST));
+        assertThrows(IllegalArgumentException.class, () -> createAuditLog(null, 2, AuditOverflowPolicyEnum.DROP_NEWEST));
+    }
+
+    private SimulationAuditLog createAuditLog(Path file, int queueSize, AuditOverflowPolicyEnum overflowPolicy) {
+        return new SimulationAuditLog(true, file, queueSize, 16, Duration.ofMillis(10), overflowPolicy,
+                LoanSimulationServiceFixture.fixedClock(TODAY), objectMapper, meterRegistry);
+    }
+
+    private List<Integer> paymentTerms(Path file) throws IOException {
+        return Files.readAllLines(file).stream()
+                .map(line -> {
+                    try {
+                        return objectMapper.readTree(line).at("/request/paymentTermInMonths").asInt();
+                    } catch (IOException e) {
+                        throw new IllegalStateException(e);
+                    }
+                })
+                .toList();
+    }
+
+    private LoanSimulationRequest createRequest(BigDecimal variableInterestRate) {
+        return createRequest(variableInterestRate, 12);
+    }
+
+    private LoanSimulationRequest createRequest(BigDecimal variableInterestRate, int paymentTermInMonths) {
+        LoanSimulationRequest request = new LoanSimulationRequest();
+        request.setLoanAmount(Money.parse("10000.00"));
+        request.setBirthDate(LocalDate.of(2000, 1, 1));
+        request.setPaymentTermInMonths(paymentTermInMonths);
+        request.setVariableInterestRate(variableInterestRate);
+        return request;
+    }
+
+    private RateBand band() {
+        return new RateBand("UP_TO_25_YEARS", 0, 25, new BigDecimal("0.05"));
+    }
+
+    private LoanSimulationResponse response() {
+        return LoanSimulationResponse.builder()
+                .monthlyInstallment(Money.parse("856.07"))
+                .totalInterest(Money.parse("272.84"))
+                .totalAmountToPay(Money.parse("10272.84"))
+                .build();
+    }
+}
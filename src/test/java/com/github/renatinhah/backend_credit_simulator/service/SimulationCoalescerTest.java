@@ -0,0 +1,190 @@
+package com.github.renatinhah.backend_credit_simulator.service;
+
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationRequest;
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationResponse;
+import com.github.renatinhah.backend_credit_simulator.exceptions.LoanSimulationException;
+import com.github.renatinhah.backend_credit_simulator.metrics.SimulationMetrics;
+import com.github.renatinhah.backend_credit_simulator.model.Money;
+import com.github.renatinhah.backend_credit_simulator.service.engine.BigDecimalInstallmentEngine;
+import com.github.renatinhah.backend_credit_simulator.service.engine.InstallmentEngine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SimulationCoalescerTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 1, 1);
+    private static final int CALLERS = 8;
+
+    private final AtomicInteger calculations = new AtomicInteger();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final BigDecimalInstallmentEngine reference = new BigDecimalInstallmentEngine();
+    private final InstallmentEngine blockingEngine = (loanAmount, annualRate, numberOfPayments) -> {
+        calculations.incrementAndGet();
+        try {
+            release.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (loanAmount.signum() == 0) {
+            throw new ArithmeticException("boom");
+        }
+        return reference.calculateInstallment(loanAmount, annualRate, numberOfPayments);
+    };
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SimulationCoalescer coalescer = new SimulationCoalescer(true, meterRegistry);
+    private final LoanSimulationService loanSimulationService = LoanSimulationServiceFixture.fixture(TODAY)
+            .engine(blockingEngine).metrics(new SimulationMetrics(meterRegistry)).coalescer(coalescer).build();
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should share one calculation and one response among concurrent identical quotes, even with the response cache off")
+    void shouldCoalesceConcurrentIdenticalQuotes() throws Exception {
+        // Given - idades diferentes na mesma faixa (26 a 40 anos) e o mesmo valor com escalas diferentes
+        List<Future<LoanSimulationResponse>> quotes = IntStream.range(0, CALLERS)
+                .mapToObj(i -> executor.submit(() -> loanSimulationService.simulate(
+                        createRequest(i % 2 == 0 ? "10000" : "10000.00", 30 + i))))
+                .toList();
+
+        // When - o cálculo só termina depois que todos os outros chegaram
+        awaitCoalesced(CALLERS - 1);
+        release.countDown();
+
+        // Then
+        LoanSimulationResponse first = quotes.get(0).get(10, TimeUnit.SECONDS);
+        for (Future<LoanSimulationResponse> quote : quotes) {
+            assertThat(quote.get(10, TimeUnit.SECONDS)).isSameAs(first);
+        }
+        assertThat(first.getMonthlyInstallment()).isEqualTo(Money.parse("846.94"));
+        assertThat(calculations).hasValue(1);
+        assertThat(meterRegistry.get(SimulationCoalescer.METRIC_RATIO).gauge().value()).isEqualTo((CALLERS - 1.0) / CALLERS);
+        assertThat(meterRegistry.get(SimulationCoalescer.METRIC_IN_FLIGHT).gauge().value()).isZero();
+        assertThat(meterRegistry.get(SimulationMetrics.QUOTES).tag("rate_bucket", "FROM_26_TO_40_YEARS").counter().count())
+                .isEqualTo(CALLERS);
+    }
+
+    @Test
+    @DisplayName("Should deliver the failure to every waiting caller and compute again afterwards")
+    void shouldShareFailures() throws Exception {
+        // Given
+        List<Future<LoanSimulationResponse>> quotes = IntStream.range(0, CALLERS)
+                .mapToObj(i -> executor.submit(() -> loanSimulationService.simulate(createRequest("0", 30))))
+                .toList();
+
+        // When
+        awaitCoalesced(CALLERS - 1);
+        release.countDown();
+
+        // Then
+        for (Future<LoanSimulationResponse> quote : quotes) {
+            ExecutionException exception = assertThrows(ExecutionException.class, () -> quote.get(10, TimeUnit.SECONDS));
+            assertThat(exception.getCause()).isInstanceOf(LoanSimulationException.class);
+        }
+        assertThat(calculations).hasValue(1);
+        assertThrows(LoanSimulationException.class, () -> loanSimulationService.simulate(createRequest("0", 30)));
+        assertThat(calculations).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should compute each quote when coalescing is disabled")
+    void shouldComputeEachQuoteWhenDisabled() throws LoanSimulationException {
+        // Given
+        release.countDown();
+        LoanSimulationService service = LoanSimulationServiceFixture.fixture(TODAY)
+                .engine(blockingEngine).metrics(new SimulationMetrics(meterRegistry))
+                .coalescer(new SimulationCoalescer(false, new SimpleMeterRegistry())).build();
+
+        // When
+        service.simulate(createRequest("10000.00", 30));
+        service.simulate(createRequest("10000.00", 30));
+
+        // Then
+        assertThat(calculations).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should not block the reactive caller while an identical quote is computed on another thread")
+    void shouldNotBlockReactiveCaller() throws Exception {
+        // Given - a primeira cotação calcula numa thread do pool e fica presa no motor
+        Future<LoanSimulationResponse> leader = executor.submit(() -> loanSimulationService.simulate(createRequest("10000.00", 30)));
+        awaitCalculations(1);
+        ReactiveLoanSimulationService reactiveService = new ReactiveLoanSimulationService(loanSimulationService,
+                null, null, null, null, null, 1, 1);
+
+        // When - a idêntica chega pela pilha reativa: a assinatura volta sem esperar o cálculo
+        CompletableFuture<LoanSimulationResponse> quote = reactiveService.simulate(createRequest("10000", 35)).toFuture();
+        boolean doneBeforeRelease = quote.isDone();
+        release.countDown();
+
+        // Then
+        assertThat(doneBeforeRelease).isFalse();
+        assertThat(quote.get(10, TimeUnit.SECONDS)).isSameAs(leader.get(10, TimeUnit.SECONDS));
+        assertThat(calculations).hasValue(1);
+        assertThat(meterRegistry.get(SimulationCoalescer.METRIC_REQUESTS).tag("outcome", "coalesced").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should deliver the failure of the shared calculation to the reactive caller as a quote failure")
+    void shouldShareFailuresWithReactiveCaller() throws Exception {
+        // Given
+        Future<LoanSimulationResponse> leader = executor.submit(() -> loanSimulationService.simulate(createRequest("0", 30)));
+        awaitCalculations(1);
+        ReactiveLoanSimulationService reactiveService = new ReactiveLoanSimulationService(loanSimulationService,
+                null, null, null, null, null, 1, 1);
+
+        // When
+        CompletableFuture<LoanSimulationResponse> quote = reactiveService.simulate(createRequest("0", 30)).toFuture();
+        release.countDown();
+
+        // Then
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> quote.get(10, TimeUnit.SECONDS));
+        assertThat(exception.getCause()).isInstanceOf(LoanSimulationException.class);
+        assertThrows(ExecutionException.class, () -> leader.get(10, TimeUnit.SECONDS));
+        assertThat(calculations).hasValue(1);
+    }
+
+    private void awaitCalculations(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (calculations.get() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    private void awaitCoalesced(int callers) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (meterRegistry.get(SimulationCoalescer.METRIC_REQUESTS).tag("outcome", "coalesced").counter().count() < callers
+                && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    private LoanSimulationRequest createRequest(String loanAmount, int age) {
+        LoanSimulationRequest request = new LoanSimulationRequest();
+        request.setLoanAmount(Money.parse(loanAmount));
+        request.setBirthDate(TODAY.minusYears(age));
+        request.setPaymentTermInMonths(12);
+        return request;
+    }
+}
@@ -0,0 +1,94 @@
+package com.github.renatinhah.backend_credit_simulator.service;
+
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationRequest;
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationResponse;
+import com.github.renatinhah.backend_credit_simulator.exceptions.LoanSimulationException;
+import com.github.renatinhah.backend_credit_simulator.metrics.SimulationMetrics;
+import com.github.renatinhah.backend_credit_simulator.model.Money;
+import com.github.renatinhah.backend_credit_simulator.model.RateTable;
+import com.github.renatinhah.backend_credit_simulator.service.engine.BigDecimalInstallmentEngine;
+import com.github.renatinhah.backend_credit_simulator.service.engine.InstallmentEngine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SimulationResponseCacheTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 1, 1);
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicInteger calculations = new AtomicInteger();
+    private final BigDecimalInstallmentEngine reference = new BigDecimalInstallmentEngine();
+    private final InstallmentEngine countingEngine = (loanAmount, annualRate, numberOfPayments) -> {
+        calculations.incrementAndGet();
+        return reference.calculateInstallment(loanAmount, annualRate, numberOfPayments);
+    };
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SimulationResponseCache responseCache = new SimulationResponseCache(true, 1_000, TTL, nanos::get, meterRegistry);
+    private final LoanSimulationService loanSimulationService = LoanSimulationServiceFixture.fixture(TODAY)
+            .engine(countingEngine).metrics(new SimulationMetrics(meterRegistry)).cache(responseCache).build();
+
+    @Test
+    @DisplayName("Should serve repeated quotes of the same amount, rate bucket and term from the cache")
+    void shouldServeRepeatedQuotesFromCache() throws LoanSimulationException {
+        // When - mesma faixa etária (26 a 40 anos) e o mesmo valor com escalas diferentes
+        LoanSimulationResponse first = loanSimulationService.simulate(createRequest("10000", 30));
+        LoanSimulationResponse second = loanSimulationService.simulate(createRequest("10000.00", 35));
+        LoanSimulationResponse otherBucket = loanSimulationService.simulate(createRequest("10000.00", 50));
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(otherBucket.getMonthlyInstallment()).isEqualTo(Money.parse("842.39"));
+        assertThat(calculations).hasValue(2);
+        assertThat(responseCache.stats().hitCount()).isEqualTo(1);
+        assertThat(meterRegistry.get(SimulationResponseCache.CACHE_NAME + ".hit.ratio").gauge().value()).isEqualTo(1.0 / 3);
+        assertThat(meterRegistry.get(SimulationMetrics.QUOTES).tag("rate_bucket", "FROM_26_TO_40_YEARS").counter().count())
+                .isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Should recompute quotes after the time to live")
+    void shouldExpireAfterTimeToLive() throws LoanSimulationException {
+        // Given
+        loanSimulationService.simulate(createRequest("10000.00", 30));
+
+        // When
+        nanos.addAndGet(TTL.plusSeconds(1).toNanos());
+        loanSimulationService.simulate(createRequest("10000.00", 30));
+
+        // Then
+        assertThat(calculations).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should clear the cache when the rate table changes")
+    void shouldClearCacheWhenRateTableChanges() throws LoanSimulationException {
+        // Given
+        loanSimulationService.simulate(createRequest("10000.00", 30));
+        RateTable embedded = RateTable.embedded();
+
+        // When
+        responseCache.onRateTableChanged(new RateTableChangedEvent(embedded, embedded));
+        loanSimulationService.simulate(createRequest("10000.00", 30));
+
+        // Then
+        assertThat(responseCache.size()).isEqualTo(1);
+        assertThat(calculations).hasValue(2);
+    }
+
+    private LoanSimulationRequest createRequest(String loanAmount, int age) {
+        LoanSimulationRequest request = new LoanSimulationRequest();
+        request.setLoanAmount(Money.parse(loanAmount));
+        request.setBirthDate(TODAY.minusYears(age));
+        request.setPaymentTermInMonths(12);
+        return request;
+    }
+}
@@ -0,0 +1,54 @@
+package com.github.renatinhah.backend_credit_simulator.service.admission;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(2);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+            true, 10, 2, 20, 2.0, Duration.ofMillis(10), 0.5, 1_000, new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("Should reject acquisitions above the current limit")
+    void shouldRejectAboveLimit() {
+        // Given
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+        }
+
+        // When & Then
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.inFlight()).isEqualTo(10);
+        limiter.release(FAST);
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should shrink the limit when latency grows and grow it back while busy and fast")
+    void shouldAdaptLimitToLatency() {
+        // Given
+        limiter.tryAcquire();
+        limiter.release(FAST);
+
+        // When
+        limiter.tryAcquire();
+        limiter.release(SLOW);
+
+        // Then
+        assertThat(limiter.limit()).isEqualTo(5);
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire();
+        }
+        limiter.release(FAST);
+        assertThat(limiter.limit()).isEqualTo(6);
+    }
+}
@@ -0,0 +1,47 @@
+package com.github.renatinhah.backend_credit_simulator.service.admission;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClientRateLimiterTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final ClientRateLimiter rateLimiter = new ClientRateLimiter(true, 10, 3, 1_000, nanos::get, new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("Should accept a burst, reject the excess and refill at the configured rate")
+    void shouldAcceptBurstAndRefill() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            assertThat(rateLimiter.tryAcquire("partner")).isZero();
+        }
+
+        // When
+        long retryAfterNanos = rateLimiter.tryAcquire("partner");
+
+        // Then
+        assertThat(retryAfterNanos).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+        assertThat(rateLimiter.tryAcquire("partner")).isZero();
+        assertThat(rateLimiter.tryAcquire("partner")).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should keep one bucket per client")
+    void shouldIsolateClients() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire("partner");
+        }
+
+        // When & Then
+        assertThat(rateLimiter.tryAcquire("partner")).isPositive();
+        assertThat(rateLimiter.tryAcquire("other-partner")).isZero();
+    }
+}
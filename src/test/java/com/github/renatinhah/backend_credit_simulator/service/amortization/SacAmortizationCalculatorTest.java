@@ -0,0 +1,89 @@
+package com.github.renatinhah.backend_credit_simulator.service.amortization;
+
+import com.github.renatinhah.backend_credit_simulator.dto.AmortizationScheduleEntry;
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationResponse;
+import com.github.renatinhah.backend_credit_simulator.model.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SacAmortizationCalculatorTest {
+
+    private final SacAmortizationCalculator calculator = new SacAmortizationCalculator();
+
+    @Test
+    @DisplayName("Should amortize the same principal every month with interest on the remaining balance")
+    void shouldCalculateConstantAmortization() {
+        // When
+        LoanSimulationResponse response = calculator.simulate(Money.parse("12000.00"), new BigDecimal("0.12"), 12);
+
+        // Then
+        assertThat(response.getMonthlyInstallment()).isEqualTo(Money.parse("1120.00"));
+        assertThat(response.getLastInstallment()).isEqualTo(Money.parse("1010.00"));
+        assertThat(response.getTotalInterest()).isEqualTo(Money.parse("780.00"));
+        assertThat(response.getTotalAmountToPay()).isEqualTo(Money.parse("12780.00"));
+    }
+
+    @ParameterizedTest(name = "PV={0}, i={1}, n={2}")
+    @CsvSource({
+            "10000.00, 0.05, 12",
+            "250000.00, 0.03, 360",
+            "999.99, 0.0437, 7",
+            "0.05, 0.04, 480",
+            "123456.78, 0.0299, 481"
+    })
+    @DisplayName("Closed-form totals should match the sum of the month-by-month schedule to the cent")
+    void shouldMatchScheduleSums(BigDecimal loanAmount, BigDecimal annualRate, int numberOfPayments) {
+        // Given
+        LoanSimulationResponse response = calculator.simulate(Money.of(loanAmount), annualRate, numberOfPayments);
+
+        // When
+        List<AmortizationScheduleEntry> schedule = new ArrayList<>();
+        calculator.schedule(Money.of(loanAmount), annualRate, numberOfPayments).forEachRemaining(schedule::add);
+
+        // Then
+        BigDecimal monthRate = annualRate.divide(new BigDecimal(12), MathContext.DECIMAL128);
+        BigDecimal amortization = loanAmount.divide(BigDecimal.valueOf(numberOfPayments), MathContext.DECIMAL128);
+        BigDecimal interest = BigDecimal.ZERO;
+        BigDecimal paid = BigDecimal.ZERO;
+        for (AmortizationScheduleEntry entry : schedule) {
+            BigDecimal exactInterest = loanAmount.subtract(amortization.multiply(BigDecimal.valueOf(entry.getInstallmentNumber() - 1)))
+                    .multiply(monthRate);
+            assertThat(entry.getInterest().subtract(exactInterest).abs()).isLessThan(new BigDecimal("0.01"));
+            assertThat(entry.getPrincipal().subtract(amortization).abs()).isLessThan(new BigDecimal("0.01"));
+            interest = interest.add(entry.getInterest());
+            paid = paid.add(entry.getInstallment());
+        }
+        assertThat(schedule).hasSize(numberOfPayments);
+        assertThat(schedule.getLast().getRemainingBalance()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(schedule.getFirst().getInstallment()).isEqualByComparingTo(response.getMonthlyInstallment().toBigDecimal());
+        assertThat(schedule.getLast().getInstallment()).isEqualByComparingTo(response.getLastInstallment().toBigDecimal());
+        assertThat(interest).isEqualByComparingTo(response.getTotalInterest().toBigDecimal());
+        assertThat(paid).isEqualByComparingTo(response.getTotalAmountToPay().toBigDecimal());
+        assertThat(response.getTotalInterest().toBigDecimal()).isEqualByComparingTo(annualRate.multiply(loanAmount)
+                .multiply(BigDecimal.valueOf(numberOfPayments + 1L)).divide(new BigDecimal(24), 2, RoundingMode.HALF_UP));
+    }
+
+    @Test
+    @DisplayName("Should schedule a single payment as principal plus one month of interest")
+    void shouldScheduleSinglePayment() {
+        // When
+        Iterator<AmortizationScheduleEntry> schedule = calculator.schedule(Money.parse("1000.00"), new BigDecimal("0.12"), 1);
+
+        // Then
+        AmortizationScheduleEntry entry = schedule.next();
+        assertThat(entry.getInstallment()).isEqualByComparingTo("1010.00");
+        assertThat(entry.getRemainingBalance()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(schedule.hasNext()).isFalse();
+    }
+}
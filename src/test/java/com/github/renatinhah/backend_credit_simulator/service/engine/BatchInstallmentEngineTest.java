@@ -0,0 +1,97 @@
+package com.github.renatinhah.backend_credit_simulator.service.engine;
+
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationRequest;
+import com.github.renatinhah.backend_credit_simulator.exceptions.LoanSimulationException;
+import com.github.renatinhah.backend_credit_simulator.model.Money;
+import com.github.renatinhah.backend_credit_simulator.service.LoanSimulationService;
+import com.github.renatinhah.backend_credit_simulator.service.LoanSimulationServiceFixture;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BatchInstallmentEngineTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 1, 1);
+    private static final int BATCH_SIZE = 20_003; // não múltiplo da largura do vetor: cobre o resto escalar
+
+    private final BigDecimalInstallmentEngine reference = new BigDecimalInstallmentEngine();
+    private final LoanSimulationService loanSimulationService = LoanSimulationServiceFixture.fixture(TODAY).engine(reference).build();
+
+    @Test
+    @DisplayName("Should pick the vector kernel when jdk.incubator.vector is loaded")
+    void shouldPickVectorKernel() {
+        assertThat(InstallmentKernel.best()).isInstanceOf(VectorInstallmentKernel.class);
+    }
+
+    @Test
+    @DisplayName("Should decide the same cents as the scalar kernel, including unsupported and ambiguous items")
+    void shouldMatchScalarKernel() {
+        // Given - inclui valores, taxas e prazos fora da faixa suportada, zero e NaN
+        SplittableRandom random = new SplittableRandom(20250101L);
+        double[] loanAmounts = new double[BATCH_SIZE];
+        double[] monthRates = new double[BATCH_SIZE];
+        int[] terms = new int[BATCH_SIZE];
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            loanAmounts[i] = i % 97 == 0 ? 2e9 : i % 101 == 0 ? 0d : random.nextLong(1, 100_000_000_001L) / 100d;
+            monthRates[i] = i % 89 == 0 ? Double.NaN : i % 83 == 0 ? 0d : random.nextLong(1, 10_001) / 10_000d / 12;
+            terms[i] = i % 79 == 0 ? 0 : random.nextInt(1, 700);
+        }
+        long[] scalar = new long[BATCH_SIZE];
+        long[] vector = new long[BATCH_SIZE];
+
+        // When
+        new ScalarInstallmentKernel().installmentsInCents(loanAmounts, monthRates, terms, scalar, BATCH_SIZE);
+        new VectorInstallmentKernel().installmentsInCents(loanAmounts, monthRates, terms, vector, BATCH_SIZE);
+
+        // Then
+        assertThat(vector).isEqualTo(scalar);
+        assertThat(scalar).contains(PrimitiveInstallmentEngine.AMBIGUOUS);
+    }
+
+    @Test
+    @DisplayName("Should match LoanSimulationService to the cent for every item of the batch")
+    void shouldMatchLoanSimulationService() throws LoanSimulationException {
+        // Given - até R$ 2 bilhões (acima da faixa do kernel), 0,01% a 100% a.a. e até 720 meses
+        SplittableRandom random = new SplittableRandom(20250102L);
+        long[] loanAmountCents = new long[BATCH_SIZE];
+        double[] annualRates = new double[BATCH_SIZE];
+        int[] terms = new int[BATCH_SIZE];
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            loanAmountCents[i] = random.nextLong(1, 200_000_000_001L);
+            annualRates[i] = BigDecimal.valueOf(random.nextLong(1, 10_001), 4).doubleValue();
+            terms[i] = random.nextInt(1, 721);
+        }
+
+        // When
+        long[] installments = new BatchInstallmentEngine(InstallmentKernel.best(), reference)
+                .installmentsInCents(loanAmountCents, annualRates, terms);
+
+        // Then
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            LoanSimulationRequest request = new LoanSimulationRequest();
+            request.setLoanAmount(Money.ofCents(loanAmountCents[i]));
+            request.setBirthDate(TODAY.minusYears(30));
+            request.setPaymentTermInMonths(terms[i]);
+            request.setVariableInterestRate(BigDecimal.valueOf(annualRates[i]));
+            assertThat(installments[i]).as("item %d", i)
+                    .isEqualTo(loanSimulationService.simulate(request).getMonthlyInstallment().cents());
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject columns of different lengths")
+    void shouldRejectMismatchedColumns() {
+        BatchInstallmentEngine engine = new BatchInstallmentEngine(new ScalarInstallmentKernel(), reference);
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> engine.installmentsInCents(new long[2], new double[2], new int[1]));
+
+        assertThat(exception.getMessage()).contains("same length");
+    }
+}
@@ -0,0 +1,95 @@
+package com.github.renatinhah.backend_credit_simulator.service.engine;
+
+import com.github.renatinhah.backend_credit_simulator.model.enums.InterestRateEnum;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachedInstallmentEngineTest {
+
+    private final BigDecimalInstallmentEngine reference = new BigDecimalInstallmentEngine();
+
+    @ParameterizedTest(name = "Rate bucket {0} should match the reference engine")
+    @EnumSource(InterestRateEnum.class)
+    @DisplayName("Should round to the same cent as the reference engine using cached factors")
+    void shouldMatchReferenceEngine(InterestRateEnum rateBucket) {
+        // Given
+        CachedInstallmentEngine cachedEngine = new CachedInstallmentEngine(new AnnuityFactorCache(1_000), reference);
+        BigDecimal annualRate = new BigDecimal(rateBucket.getRate());
+        SplittableRandom random = new SplittableRandom(rateBucket.ordinal());
+
+        // When & Then
+        for (int term = 1; term <= 480; term++) {
+            for (int sample = 0; sample < 20; sample++) {
+                BigDecimal loanAmount = BigDecimal.valueOf(random.nextLong(1, 100_000_000_00L), 2);
+                assertThat(cachedEngine.calculateInstallment(loanAmount, annualRate, term))
+                        .isEqualByComparingTo(reference.calculateInstallment(loanAmount, annualRate, term));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should serve warmed-up factors from the cache and record hits and misses")
+    void shouldRecordHitsAndMisses() {
+        // Given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AnnuityFactorCache cache = new AnnuityFactorCache(100, meterRegistry);
+        BigDecimal annualRate = new BigDecimal(InterestRateEnum.UP_TO_25_YEARS.getRate());
+        cache.warmUp(List.of(annualRate), List.of(12, 24));
+        CachedInstallmentEngine cachedEngine = new CachedInstallmentEngine(cache, reference);
+
+        // When
+        BigDecimal installment = cachedEngine.calculateInstallment(new BigDecimal("10000.00"), annualRate, 12);
+        cachedEngine.calculateInstallment(new BigDecimal("20000.00"), annualRate, 24);
+        cachedEngine.calculateInstallment(new BigDecimal("20000.00"), annualRate, 36);
+
+        // Then
+        assertThat(installment).isEqualByComparingTo("856.07");
+        assertThat(cache.stats().hitCount()).isEqualTo(2);
+        assertThat(cache.stats().missCount()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tags("cache", AnnuityFactorCache.CACHE_NAME, "result", "hit")
+                .functionCounter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("cache.gets").tags("cache", AnnuityFactorCache.CACHE_NAME, "result", "miss")
+                .functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should share one factor between rates that differ only in trailing zeros")
+    void shouldIgnoreTrailingZerosInRate() {
+        // Given
+        AnnuityFactorCache cache = new AnnuityFactorCache(100);
+        cache.warmUp(List.of(new BigDecimal("0.045")), List.of(12));
+
+        // When
+        BigDecimal factor = cache.getFactor(new BigDecimal("0.0450"), 12);
+
+        // Then
+        assertThat(factor).isEqualTo(cache.getFactor(new BigDecimal("0.045"), 12));
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.stats().missCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should evict factors beyond the maximum size")
+    void shouldEvictBeyondMaximumSize() {
+        // Given
+        AnnuityFactorCache cache = new AnnuityFactorCache(10);
+        BigDecimal annualRate = new BigDecimal("0.035");
+
+        // When
+        cache.warmUp(List.of(annualRate), IntStream.rangeClosed(1, 100).boxed().toList());
+
+        // Then
+        assertThat(cache.size()).isLessThanOrEqualTo(10);
+        assertThat(cache.stats().evictionCount()).isPositive();
+    }
+}
@@ -0,0 +1,101 @@
+package com.github.renatinhah.backend_credit_simulator.service.engine;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InstallmentGridEngineTest {
+
+    private final BigDecimalInstallmentEngine reference = new BigDecimalInstallmentEngine();
+    private final InstallmentGridEngine gridEngine = new InstallmentGridEngine(reference);
+    private final InstallmentGridEngine batchGridEngine = new InstallmentGridEngine(reference,
+            new BatchInstallmentEngine(InstallmentKernel.best(), reference));
+
+    @ParameterizedTest(name = "Grid from {0} step {1}, terms {2} step {3} should match the reference engine")
+    @CsvSource({
+            "0.01, 1234.57, 1, 1",
+            "10000.00, 2500.00, 12, 12",
+            "999.99, 0.01, 350, 7",
+            "250000.00, 33333.33, 1, 37"
+    })
+    @DisplayName("Should round every cell to the same cent as the reference engine")
+    void shouldMatchReferenceEngineOnEveryCell(String firstAmount, String amountStep, int firstTerm, int termStep) {
+        // Given
+        BigDecimal firstLoanAmount = new BigDecimal(firstAmount);
+        BigDecimal loanAmountStep = new BigDecimal(amountStep);
+        List<BigDecimal> annualRates = IntStream.rangeClosed(1, 12)
+                .mapToObj(i -> new BigDecimal("0.0075").multiply(BigDecimal.valueOf(i)))
+                .toList();
+
+        // When
+        BigDecimal[][][] grid = gridEngine.calculateGrid(firstLoanAmount, loanAmountStep, 20, firstTerm, termStep, 15, annualRates);
+
+        // Then
+        assertMatchesReference(grid, firstLoanAmount, loanAmountStep, firstTerm, termStep, annualRates);
+    }
+
+    @ParameterizedTest(name = "Batched grid from {0} step {1}, terms {2} step {3} should match the reference engine")
+    @CsvSource({
+            "0.01, 1234.57, 1, 1",
+            "10000.00, 2500.00, 12, 12",
+            "999.99, 0.01, 350, 7",
+            "250000.00, 33333.33, 1, 37",
+            "0.005, 1000.00, 6, 6"
+    })
+    @DisplayName("Should round every cell to the same cent as the reference engine through the batch kernel")
+    void shouldMatchReferenceEngineOnEveryCellWithBatchKernel(String firstAmount, String amountStep, int firstTerm, int termStep) {
+        // Given - a última taxa (1/3 de 10%) não é representável em double e segue o cálculo incremental, assim
+        // como a linha com valor fracionário de centavo
+        BigDecimal firstLoanAmount = new BigDecimal(firstAmount);
+        BigDecimal loanAmountStep = new BigDecimal(amountStep);
+        List<BigDecimal> annualRates = IntStream.rangeClosed(1, 13)
+                .mapToObj(i -> i <= 12
+                        ? new BigDecimal("0.0075").multiply(BigDecimal.valueOf(i))
+                        : new BigDecimal("0.1").divide(new BigDecimal(3), new MathContext(20)))
+                .toList();
+
+        // When
+        BigDecimal[][][] grid = batchGridEngine.calculateGrid(firstLoanAmount, loanAmountStep, 20, firstTerm, termStep, 15, annualRates);
+
+        // Then
+        assertMatchesReference(grid, firstLoanAmount, loanAmountStep, firstTerm, termStep, annualRates);
+    }
+
+    private void assertMatchesReference(BigDecimal[][][] grid, BigDecimal firstLoanAmount, BigDecimal loanAmountStep,
+                                        int firstTerm, int termStep, List<BigDecimal> annualRates) {
+        for (int rate = 0; rate < annualRates.size(); rate++) {
+            for (int term = 0; term < 15; term++) {
+                for (int amount = 0; amount < 20; amount++) {
+                    BigDecimal loanAmount = firstLoanAmount.add(loanAmountStep.multiply(BigDecimal.valueOf(amount)));
+                    assertThat(grid[rate][term][amount])
+                            .isEqualByComparingTo(reference.calculateInstallment(loanAmount, annualRates.get(rate), firstTerm + term * termStep));
+                }
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "Batched: {0}")
+    @ValueSource(booleans = {false, true})
+    @DisplayName("Should use the reference engine for cells on an exact rounding tie")
+    void shouldFallBackOnRoundingTies(boolean batched) {
+        // Given - 1 mês a 12% a.a.: parcela = PV * 1,01, empate exato para PV = 0,50
+        BigDecimal annualRate = new BigDecimal("0.12");
+        InstallmentGridEngine engine = batched ? batchGridEngine : gridEngine;
+
+        // When
+        BigDecimal[][][] grid = engine.calculateGrid(new BigDecimal("0.50"), new BigDecimal("0.50"), 3, 1, 1, 1, List.of(annualRate));
+
+        // Then
+        assertThat(grid[0][0][0]).isEqualByComparingTo(reference.calculateInstallment(new BigDecimal("0.50"), annualRate, 1));
+        assertThat(grid[0][0][1]).isEqualByComparingTo("1.01");
+        assertThat(grid[0][0][2]).isEqualByComparingTo(reference.calculateInstallment(new BigDecimal("1.50"), annualRate, 1));
+    }
+}
@@ -0,0 +1,96 @@
+package com.github.renatinhah.backend_credit_simulator.service.engine;
+
+import com.github.renatinhah.backend_credit_simulator.model.enums.InterestRateEnum;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.math.BigDecimal;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrimitiveInstallmentEngineTest {
+
+    private static final long MAX_CENTS = (long) (PrimitiveInstallmentEngine.MAX_LOAN_AMOUNT * 100);
+    private static final int RANDOM_SAMPLES = 100_000;
+
+    private final BigDecimalInstallmentEngine reference = new BigDecimalInstallmentEngine();
+    private final PrimitiveInstallmentEngine primitive = new PrimitiveInstallmentEngine(reference);
+    private final CrossCheckInstallmentEngine crossCheck = new CrossCheckInstallmentEngine(reference, primitive);
+
+    @ParameterizedTest(name = "Rate bucket {0} should match the reference engine for every term")
+    @EnumSource(InterestRateEnum.class)
+    @DisplayName("Should round to the same cent as the BigDecimal engine for every supported term")
+    void shouldMatchReferenceForEveryTerm(InterestRateEnum rateBucket) {
+        // Given - mesma conversão de taxa usada pelo LoanSimulationService
+        BigDecimal annualRate = new BigDecimal(rateBucket.getRate());
+
+        // When & Then
+        for (long cents = 1; cents <= MAX_CENTS; cents = cents * 2 + 1) {
+            BigDecimal loanAmount = BigDecimal.valueOf(cents, 2);
+            for (int term = 1; term <= PrimitiveInstallmentEngine.MAX_NUMBER_OF_PAYMENTS; term++) {
+                crossCheck.calculateInstallment(loanAmount, annualRate, term);
+            }
+        }
+
+        assertThat(crossCheck.getComparisons()).isPositive();
+        assertThat(crossCheck.getMismatches()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should round to the same cent as the BigDecimal engine across random amounts, rates and terms")
+    void shouldMatchReferenceAcrossRandomSamples() {
+        // Given
+        SplittableRandom random = new SplittableRandom(20250101L);
+        int ambiguous = 0;
+
+        // When
+        for (int i = 0; i < RANDOM_SAMPLES; i++) {
+            BigDecimal loanAmount = BigDecimal.valueOf(randomCents(random), 2);
+            BigDecimal annualRate = BigDecimal.valueOf(random.nextLong(100, 10_001), 4); // 1% a 100% a.a.
+            int term = random.nextInt(1, PrimitiveInstallmentEngine.MAX_NUMBER_OF_PAYMENTS + 1);
+
+            crossCheck.calculateInstallment(loanAmount, annualRate, term);
+            if (PrimitiveInstallmentEngine.installmentInCents(loanAmount.doubleValue(), annualRate.doubleValue(), term)
+                    == PrimitiveInstallmentEngine.AMBIGUOUS) {
+                ambiguous++;
+            }
+        }
+
+        // Then - o fallback para BigDecimal deve ser raro
+        assertThat(crossCheck.getMismatches()).isZero();
+        assertThat(ambiguous).isLessThan(RANDOM_SAMPLES / 100);
+    }
+
+    @Test
+    @DisplayName("Should fall back to the reference engine on exact rounding ties")
+    void shouldFallBackOnRoundingTies() {
+        assertThat(PrimitiveInstallmentEngine.roundHalfUp(85606.5)).isEqualTo(PrimitiveInstallmentEngine.AMBIGUOUS);
+        assertThat(PrimitiveInstallmentEngine.roundHalfUp(85606.51)).isEqualTo(85607L);
+        assertThat(PrimitiveInstallmentEngine.roundHalfUp(85606.49)).isEqualTo(85606L);
+    }
+
+    @Test
+    @DisplayName("Should delegate inputs outside the supported range to the reference engine")
+    void shouldDelegateUnsupportedInputs() {
+        // Given
+        BigDecimal loanAmount = new BigDecimal("2000000000.00");
+        BigDecimal annualRate = new BigDecimal("0.05");
+
+        // When
+        BigDecimal installment = primitive.calculateInstallment(loanAmount, annualRate, 720);
+
+        // Then
+        assertThat(PrimitiveInstallmentEngine.installmentInCents(loanAmount.doubleValue(), annualRate.doubleValue(), 720))
+                .isEqualTo(PrimitiveInstallmentEngine.AMBIGUOUS);
+        assertThat(installment).isEqualByComparingTo(reference.calculateInstallment(loanAmount, annualRate, 720));
+    }
+
+    // Distribuição log-uniforme entre R$ 0,01 e o valor máximo suportado
+    private long randomCents(SplittableRandom random) {
+        double exponent = random.nextDouble() * Math.log10(MAX_CENTS);
+        return Math.max(1L, Math.min(MAX_CENTS, (long) Math.pow(10, exponent)));
+    }
+}
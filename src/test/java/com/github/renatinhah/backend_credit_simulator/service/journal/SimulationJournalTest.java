@@ -0,0 +1,262 @@
+package com.github.renatinhah.backend_credit_simulator.service.journal;
+
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationRequest;
+import com.github.renatinhah.backend_credit_simulator.dto.LoanSimulationResponse;
+import com.github.renatinhah.backend_credit_simulator.model.Money;
+import com.github.renatinhah.backend_credit_simulator.model.enums.AmortizationSystemEnum;
+import com.github.renatinhah.backend_credit_simulator.service.LoanSimulationServiceFixture;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SimulationJournalTest {
+
+    private static final int SEGMENT_RECORDS = 4;
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("Should roll segments and replay every record in sequence order with the original fields")
+    void shouldRollSegmentsAndReplay() throws IOException {
+        // Given
+        SimulationJournal journal = createJournal();
+
+        // When
+        for (int term = 1; term <= 10; term++) {
+            journal.append(createRequest(term, term % 2 == 0 ? new BigDecimal("0.045") : null), createResponse(), 1_000L * term);
+        }
+
+        // Then
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files.map(file -> file.getFileName().toString()).sorted()).containsExactly(
+                    "00000000000000000001.journal", "00000000000000000005.journal", "00000000000000000009.journal");
+        }
+        List<LoanSimulationRequest> requests = new ArrayList<>();
+        List<Long> sequences = new ArrayList<>();
+        long visited = journal.replay(record -> {
+            sequences.add(record.sequence());
+            requests.add(record.toRequest());
+            assertThat(record.simulatedAtMillis()).isEqualTo(1_000L * record.paymentTermInMonths());
+            assertThat(record.toResponse()).isEqualTo(createResponse());
+        });
+        assertThat(visited).isEqualTo(10);
+        assertThat(sequences).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+        assertThat(requests).containsExactlyElementsOf(List.of(createRequest(1, null), createRequest(2, new BigDecimal("0.045")),
+                createRequest(3, null), createRequest(4, new BigDecimal("0.045")), createRequest(5, null),
+                createRequest(6, new BigDecimal("0.045")), createRequest(7, null), createRequest(8, new BigDecimal("0.045")),
+                createRequest(9, null), createRequest(10, new BigDecimal("0.045"))));
+        assertThat(requests.get(0).getLoanAmount().cents()).isEqualTo(1_000_050L);
+
+        List<Long> page = new ArrayList<>();
+        journal.replay(4, 3, record -> page.add(record.sequence()));
+        assertThat(page).containsExactly(4L, 5L, 6L);
+    }
+
+    @Test
+    @DisplayName("Should resume at the first free slot after a restart, keeping the sequence contiguous")
+    void shouldResumeAfterRestart() {
+        // Given
+        SimulationJournal journal = createJournal();
+        for (int term = 1; term <= 6; term++) {
+            journal.append(createRequest(term, null), createResponse(), term);
+        }
+        journal.close();
+
+        // When
+        SimulationJournal reopened = createJournal();
+        long sequence = reopened.append(createRequest(7, null), createResponse(), 7);
+
+        // Then
+        assertThat(sequence).isEqualTo(7);
+        assertThat(reopened.lastSequence()).isEqualTo(7);
+        List<Integer> terms = new ArrayList<>();
+        reopened.replay(record -> terms.add(record.paymentTermInMonths()));
+        assertThat(terms).containsExactly(1, 2, 3, 4, 5, 6, 7);
+    }
+
+    @Test
+    @DisplayName("Should keep the amortization system and the SAC last installment")
+    void shouldKeepAmortizationSystem() {
+        // Given
+        SimulationJournal journal = createJournal();
+        LoanSimulationRequest sacRequest = createRequest(12, null);
+        sacRequest.setAmortizationSystem(AmortizationSystemEnum.SAC);
+        LoanSimulationResponse sacResponse = LoanSimulationResponse.builder()
+                .monthlyInstallment(Money.parse("858.33"))
+                .lastInstallment(Money.parse("835.41"))
+                .totalInterest(Money.parse("162.50"))
+                .totalAmountToPay(Money.parse("10162.50"))
+                .build();
+
+        // When
+        journal.append(createRequest(12, null), createResponse(), 1);
+        journal.append(sacRequest, sacResponse, 2);
+
+        // Then
+        List<LoanSimulationRequest> requests = new ArrayList<>();
+        List<LoanSimulationResponse> responses = new ArrayList<>();
+        journal.replay(record -> {
+            requests.add(record.toRequest());
+            responses.add(record.toResponse());
+        });
+        assertThat(requests).containsExactly(createRequest(12, null), sacRequest);
+        assertThat(responses).containsExactly(createResponse(), sacResponse);
+    }
+
+    @Test
+    @DisplayName("Should give concurrent appends distinct contiguous sequences across segment rollovers")
+    void shouldAppendConcurrently() throws Exception {
+        // Given
+        SimulationJournal journal = createJournal();
+        int threads = 8;
+        int appendsPerThread = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // When
+        try {
+            List<Future<?>> appends = IntStream.range(0, threads)
+                    .<Future<?>>mapToObj(thread -> executor.submit(() -> {
+                        for (int i = 0; i < appendsPerThread; i++) {
+                            journal.append(createRequest(thread + 1, null), createResponse(), i);
+                        }
+                    }))
+                    .toList();
+            for (Future<?> append : appends) {
+                append.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then
+        List<Long> sequences = new ArrayList<>();
+        long visited = journal.replay(record -> sequences.add(record.sequence()));
+        assertThat(visited).isEqualTo(threads * appendsPerThread);
+        assertThat(sequences).isEqualTo(IntStream.rangeClosed(1, threads * appendsPerThread).mapToObj(Long::valueOf).toList());
+        assertThat(journal.lastSequence()).isEqualTo(threads * appendsPerThread);
+    }
+
+    @Test
+    @DisplayName("Should tombstone the sequence of a failed append and keep replaying the records after it")
+    void shouldTombstoneFailedAppend() {
+        // Given - sem data de nascimento a gravação falha no meio, com a sequência 2 já reservada
+        SimulationJournal journal = createJournal();
+        journal.append(createRequest(1, null), createResponse(), 1);
+        LoanSimulationRequest invalid = createRequest(2, null);
+        invalid.setBirthDate(null);
+
+        // When
+        assertThrows(NullPointerException.class, () -> journal.append(invalid, createResponse(), 2));
+        journal.append(createRequest(3, null), createResponse(), 3);
+
+        // Then
+        List<Long> sequences = new ArrayList<>();
+        long visited = journal.replay(record -> sequences.add(record.sequence()));
+        assertThat(visited).isEqualTo(2);
+        assertThat(sequences).containsExactly(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("Should tombstone sequences lost to a failed rollover once the segment can be created")
+    void shouldTombstoneFailedRollover() throws IOException {
+        // Given - um diretório no lugar do segmento 5 faz a virada falhar
+        SimulationJournal journal = createJournal();
+        for (int term = 1; term <= 4; term++) {
+            journal.append(createRequest(term, null), createResponse(), term);
+        }
+        Path blocker = Files.createDirectory(directory.resolve("00000000000000000005.journal"));
+
+        // When
+        assertThrows(UncheckedIOException.class, () -> journal.append(createRequest(5, null), createResponse(), 5));
+        Files.delete(blocker);
+        long sequence = journal.append(createRequest(6, null), createResponse(), 6);
+
+        // Then
+        assertThat(sequence).isEqualTo(6);
+        List<Integer> terms = new ArrayList<>();
+        journal.replay(record -> terms.add(record.paymentTermInMonths()));
+        assertThat(terms).containsExactly(1, 2, 3, 4, 6);
+    }
+
+    @Test
+    @DisplayName("Should tombstone holes left by a crash and resume after the last published record")
+    void shouldTombstoneHolesOnReopen() throws IOException {
+        // Given - a sequência 2 ficou sem publicar, como numa queda com a gravação em andamento
+        SimulationJournal journal = createJournal();
+        for (int term = 1; term <= 3; term++) {
+            journal.append(createRequest(term, null), createResponse(), term);
+        }
+        journal.close();
+        Path segment = directory.resolve("00000000000000000001.journal");
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(Long.BYTES), SimulationJournalRecord.SIZE);
+        }
+
+        // When
+        SimulationJournal reopened = createJournal();
+        long sequence = reopened.append(createRequest(4, null), createResponse(), 4);
+
+        // Then
+        assertThat(sequence).isEqualTo(4);
+        List<Long> sequences = new ArrayList<>();
+        reopened.replay(record -> sequences.add(record.sequence()));
+        assertThat(sequences).containsExactly(1L, 3L, 4L);
+        ByteBuffer hole = ByteBuffer.allocate(Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            channel.read(hole, SimulationJournalRecord.SIZE);
+        }
+        assertThat(hole.getLong(0)).isEqualTo(-2L);
+    }
+
+    @Test
+    @DisplayName("Should require an absolute directory when enabled")
+    void shouldRequireAbsoluteDirectory() {
+        assertThrows(IllegalArgumentException.class, () -> new SimulationJournal(true, Path.of("journal"), SEGMENT_RECORDS,
+                LoanSimulationServiceFixture.fixedClock(LocalDate.of(2025, 1, 1))));
+        assertThrows(IllegalArgumentException.class, () -> new SimulationJournal(true, null, SEGMENT_RECORDS,
+                LoanSimulationServiceFixture.fixedClock(LocalDate.of(2025, 1, 1))));
+    }
+
+    private SimulationJournal createJournal() {
+        return new SimulationJournal(true, directory, SEGMENT_RECORDS, LoanSimulationServiceFixture.fixedClock(LocalDate.of(2025, 1, 1)));
+    }
+
+    private LoanSimulationRequest createRequest(int paymentTermInMonths, BigDecimal variableInterestRate) {
+        LoanSimulationRequest request = new LoanSimulationRequest();
+        request.setLoanAmount(Money.parse("10000.50"));
+        request.setBirthDate(LocalDate.of(2000, 1, 1));
+        request.setPaymentTermInMonths(paymentTermInMonths);
+        request.setVariableInterestRate(variableInterestRate);
+        return request;
+    }
+
+    private LoanSimulationResponse createResponse() {
+        return LoanSimulationResponse.builder()
+                .monthlyInstallment(Money.parse("856.07"))
+                .totalInterest(Money.parse("272.84"))
+                .totalAmountToPay(Money.parse("10272.84"))
+                .build();
+    }
+}